@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.dal.communicator.ppdswave.error.CircuitBreakerOpenException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker of a single API operation.
+ * The circuit opens after the number of consecutive failed requests provided, and the requests of the operation
+ * are rejected without being sent while it's open. Once the open time passes, the circuit is half-open:
+ * a single probe request is let through, the circuit closes if it succeeds and opens again otherwise.
+ * Open time doubles every time the circuit is reopened, up to {@link #MAX_OPEN_TIME}, and is jittered,
+ * so the requests of different operations (and aggregators) do not resume all at once.
+ * Request errors of the request itself (4xx, other than authorization, timeout and throttling errors) and
+ * cancelled requests are not counted as failures.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class CircuitBreaker {
+    /**
+     * State of the circuit
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final long MAX_OPEN_TIME = 5 * 60 * 1000;
+    private static final int MAX_BACKOFF_EXPONENT = 16;
+
+    private final String operation;
+    private final int failureThreshold;
+    private final long openTime;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int consecutiveOpenings;
+    private long openUntil;
+    private boolean probeInFlight;
+    private final AtomicLong rejectedRequests = new AtomicLong();
+    private final AtomicLong openings = new AtomicLong();
+
+    /**
+     * Create circuit breaker of the operation provided
+     *
+     * @param operation        name of the operation, for the errors and statistics
+     * @param failureThreshold number of consecutive failed requests to open the circuit after
+     * @param openTime         time in ms the circuit is open for, after it's opened for the first time
+     */
+    public CircuitBreaker(String operation, int failureThreshold, long openTime) {
+        this.operation = operation;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openTime = Math.max(1, openTime);
+    }
+
+    /**
+     * Send the request, if the circuit allows it, and record its outcome
+     *
+     * @param request supplier sending the request
+     * @param <T>     type of the request result
+     * @return future request result, the one returned by the supplier, so cancelling it cancels the request,
+     * or a future failed with {@link CircuitBreakerOpenException} if the request is rejected
+     */
+    public <T> CompletableFuture<T> call(Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result;
+        State acquiredState = tryAcquire();
+        if (acquiredState == null) {
+            result = new CompletableFuture<>();
+            long retryIn = getRetryIn();
+            result.completeExceptionally(new CircuitBreakerOpenException(retryIn > 0
+                    ? String.format("Circuit breaker of the %s operation is open, retrying in %s s", operation, retryIn / 1000)
+                    : String.format("Circuit breaker of the %s operation is half-open, waiting for the probe request", operation)));
+            return result;
+        }
+        try {
+            result = request.get();
+        } catch (RuntimeException e) {
+            onFailure();
+            throw e;
+        }
+        boolean probe = acquiredState == State.HALF_OPEN;
+        result.whenComplete((value, error) -> {
+            if (error == null) {
+                onSuccess();
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof CancellationException || cause instanceof InterruptedException || isRequestError(cause)) {
+                onIgnored(probe);
+            } else {
+                onFailure();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Retrieves {@link #state}, half-open once the open time has passed
+     *
+     * @return current state of the circuit
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && System.currentTimeMillis() >= openUntil) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * Retrieves time in ms left until the open circuit lets a probe request through
+     *
+     * @return time left, 0 if the circuit is not open
+     */
+    public synchronized long getRetryIn() {
+        return state == State.OPEN ? Math.max(0, openUntil - System.currentTimeMillis()) : 0;
+    }
+
+    /**
+     * Retrieves number of requests rejected while the circuit was open
+     *
+     * @return value of {@link #rejectedRequests}
+     */
+    public long getRejectedRequests() {
+        return rejectedRequests.get();
+    }
+
+    /**
+     * Retrieves number of times the circuit was opened
+     *
+     * @return value of {@link #openings}
+     */
+    public long getOpenings() {
+        return openings.get();
+    }
+
+    /**
+     * Check whether the request is allowed: always when the circuit is closed, never when it's open,
+     * and only a single probe request at a time when it's half-open
+     *
+     * @return state the request is sent in, {@link State#HALF_OPEN} for a probe request, or null if the request is rejected
+     */
+    private synchronized State tryAcquire() {
+        if (state == State.OPEN && System.currentTimeMillis() >= openUntil) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.CLOSED || (state == State.HALF_OPEN && !probeInFlight)) {
+            probeInFlight = state == State.HALF_OPEN;
+            return state;
+        }
+        rejectedRequests.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Close the circuit after a successful request
+     */
+    private synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        consecutiveOpenings = 0;
+        probeInFlight = false;
+    }
+
+    /**
+     * Release the probe of a half-open circuit, if the probe request outcome is not counted
+     *
+     * @param probe whether the request was the probe request
+     */
+    private synchronized void onIgnored(boolean probe) {
+        if (probe) {
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * Open the circuit after a failed probe request, or after the failure threshold is reached.
+     * Open time is doubled with every consecutive opening, and jittered between half and full of it.
+     */
+    private synchronized void onFailure() {
+        probeInFlight = false;
+        consecutiveFailures++;
+        // requests sent before the circuit was opened do not extend the open time
+        if (state == State.OPEN || (state == State.CLOSED && consecutiveFailures < failureThreshold)) {
+            return;
+        }
+        long backoff = Math.min(MAX_OPEN_TIME, openTime << Math.min(MAX_BACKOFF_EXPONENT, consecutiveOpenings));
+        openUntil = System.currentTimeMillis() + backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        state = State.OPEN;
+        consecutiveOpenings++;
+        openings.incrementAndGet();
+    }
+
+    /**
+     * Check whether the request has failed because of the request itself, rather than the API availability
+     *
+     * @param error request error
+     * @return true if the error is a 4xx error, other than 401, 403, 408 and 429
+     */
+    private static boolean isRequestError(Throwable error) {
+        int statusCode = 0;
+        for (Throwable cause = error; cause != null && statusCode == 0; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof CommandFailureException) {
+                statusCode = ((CommandFailureException) cause).getStatusCode();
+            } else if (cause instanceof RestClientResponseException) {
+                statusCode = ((RestClientResponseException) cause).getRawStatusCode();
+            }
+        }
+        return statusCode >= 400 && statusCode < 500 && statusCode != 401 && statusCode != 403 && statusCode != 408 && statusCode != 429;
+    }
+}
@@ -27,6 +27,78 @@ public interface Constants {
         String ALERTS_ALERT_TOTAL_COUNT = "Alerts#TotalCount";
         String SYSTEM_GROUPS = "System#Groups";
         String CONTENT_SOURCE = "ContentSource#CurrentSource";
+        String DEVICES_TOTAL = "DeviceInventory#DevicesTotal";
+        String DEVICES_ADDED = "DeviceInventory#LastCycleDevicesAdded";
+        String DEVICES_REMOVED = "DeviceInventory#LastCycleDevicesRemoved";
+        String DISPLAY_MAPPING_SKIPPED = "DisplayMapping#UnchangedSkipped";
+        String DISPLAY_MAPPING_MAPPED = "DisplayMapping#ChangedMapped";
+        String DISPLAY_MAPPING_SWEPT_PROPERTIES = "DisplayMapping#StalePropertiesSwept";
+        String PERSISTED_QUERIES_HITS = "PersistedQueries#HashOnlyRequests";
+        String PERSISTED_QUERIES_MISSES = "PersistedQueries#HashMisses";
+        String PERSISTED_QUERIES_FULL_QUERIES = "PersistedQueries#FullQueryRequests";
+        String CONNECTION_POOL_LEASED = "ConnectionPool#LeasedConnections";
+        String CONNECTION_POOL_IDLE = "ConnectionPool#IdleConnections";
+        String CONNECTION_POOL_PENDING = "ConnectionPool#PendingRequests";
+        String CONNECTION_POOL_OPENED = "ConnectionPool#OpenedConnections";
+        String GRAPHQL_ACTIVE_REQUESTS = "GraphQLClient#ActiveRequests";
+        String GRAPHQL_QUEUED_REQUESTS = "GraphQLClient#QueuedRequests";
+        String GRAPHQL_TIMED_OUT_REQUESTS = "GraphQLClient#TimedOutRequests";
+        String GRAPHQL_HEDGED_REQUESTS = "GraphQLClient#HedgedRequests";
+        String GRAPHQL_HEDGED_REQUESTS_WON = "GraphQLClient#HedgedRequestsWon";
+        String GRAPHQL_LATENCY_P95 = "GraphQLClient#%sLatencyP95(ms)";
+        String RATE_LIMITER_REQUEST_RATE = "RateLimiter#RequestRate(perSecond)";
+        String RATE_LIMITER_WAITING_REQUESTS = "RateLimiter#WaitingRequests";
+        String RATE_LIMITER_THROTTLED_RESPONSES = "RateLimiter#ThrottledResponses";
+        String RATE_LIMITER_RETRIED_REQUESTS = "RateLimiter#RetriedRequests";
+        String CIRCUIT_BREAKER_STATE = "CircuitBreaker#%sState";
+        String CIRCUIT_BREAKER_RETRY_IN = "CircuitBreaker#%sRetryIn(s)";
+        String CIRCUIT_BREAKER_OPENINGS = "CircuitBreaker#%sOpenings";
+        String CIRCUIT_BREAKER_REJECTED_REQUESTS = "CircuitBreaker#%sRejectedRequests";
+        String DEVICE_LOCKS_ACQUIRED = "DeviceLocks#Acquired";
+        String DEVICE_LOCKS_CONTENDED = "DeviceLocks#Contended";
+        String DEVICE_LOCKS_TIMED_OUT = "DeviceLocks#TimedOut";
+        String DEVICE_LOCKS_REFRESH_SKIPPED = "DeviceLocks#RefreshSkipped";
+        String DEVICE_LOCKS_AVERAGE_WAIT = "DeviceLocks#AverageWaitTime(ms)";
+        String DEVICE_LOCKS_MAX_WAIT = "DeviceLocks#MaxWaitTime(ms)";
+        String DISPLAY_TYPE = "DisplayType";
+        String AGENT_VERSION = "AgentVersion";
+        String COMMERCIAL_TYPE_NUMBER = "CommercialTypeNumber";
+        String AGENT_RELEASE_CHANNEL = "AgentReleaseChannel";
+        String SYSTEM_HAS_EMPTY_SHADOW = "System#HasEmptyShadow";
+        String SYSTEM_HAS_SENSITIVE_DATA = "System#HasSensitiveData";
+        String SYSTEM_RECOMMENDED_SETTINGS = "System#RecommendedSettings";
+        String SYSTEM_RECOMMENDED_SETTINGS_WARNINGS = "System#RecommendedSettingsWarnings";
+        String APP_SUBSCRIPTIONS = "AppSubscriptions";
+        String VIDEO_SIGNAL_DETECTION = "Video#SignalDetection";
+        String NETWORK_MAC_ADDRESS = "NetworkInformation#MACAddress";
+        String NETWORK_IP_ADDRESS = "NetworkInformation#IPAddress";
+        String NETWORK_TYPE = "NetworkInformation#NetworkType";
+        String NETWORK_WIFI_MAC_ADDRESS = "NetworkInformation#WiFiMACAddress";
+        String POWER_STATE = "Power#State";
+        String POWER_LAST_UPDATED = "Power#LastUpdated";
+        String PLATFORM_NAME = "Platform#Name";
+        String PLATFORM_VERSION = "Platform#Version";
+        String PRESENCE_LAST_UPDATED = "PresenceLastUpdated";
+        String SITE_ADDRESS = "Site#Address";
+        String SITE_ID = "Site#ID";
+        String SITE_NAME = "Site#Name";
+        String SITE_TIME_ZONE = "Site#TimeZone";
+        String FIRMWARE_VERSION = "Firmware#Version";
+        String FIRMWARE_LATEST_JOB_CREATED = "Firmware#LatestJobCreated";
+        String FIRMWARE_LATEST_JOB_PLANNED = "Firmware#LatestJobPlanned";
+        String FIRMWARE_LATEST_JOB_TARGET_VERSION = "Firmware#LatestJobTargetVersion";
+        String FIRMWARE_SCALER_VERSION = "Firmware#ScalerVersion";
+        String CUSTOMER_NAME = "Customer#Name";
+        String CUSTOMER_HANDLE = "Customer#Handle";
+        String CUSTOMER_AVATAR_URL = "Customer#AvatarUrl";
+        String CUSTOMER_SITE_NAME = "Customer#SiteName";
+        String CUSTOMER_SITE_ADDRESS = "Customer#SiteAddress";
+        String PLAYLIST_SYNCHRONIZED = "Playlist#Synchronized";
+        String PLAYLIST_CURRENT_DESCRIPTION = "Playlist#CurrentDescription";
+        String PLAYLIST_CURRENT_OUT_OF_SYNC = "Playlist#CurrentOutOfSync";
+        String PLAYLIST_CURRENT_TAMPERED = "Playlist#CurrentTampered";
+        String SCREENSHOT_CREATED_AT = "Screenshot#CreatedAt";
+        String SCREENSHOT_URL = "Screenshot#URL";
     }
     /** Utility constants */
     interface Utility {
@@ -62,6 +134,7 @@ public interface Constants {
         String CONTROL_POWER_MODE = "Power#Mode";
         String CONTROL_POWER_REBOOT = "Power#Reboot";
         String CONTROL_SCREENSHOT_CREATE = "Screenshot#Create";
+        String CONTROL_SCREENSHOT_CAPTURE = "Screenshot#Capture";
         String CONTROL_IR_CONTROL = "System#InfraRedControl";
         String CONTROL_KEYBOARD_CONTROL = "System#KeyboardControl";
         String CONTROL_LED_COLOR = "System#LEDStripColor";
@@ -76,6 +149,9 @@ public interface Constants {
         String GQL_PATH_CUSTOMER_BY_HANDLE = "/data/customerByHandle";
         String GQL_PATH_DISPLAYS = "/data/customerByHandle/displays";
         String GQL_PATH_ID = "/id";
+        String GQL_FIELD_DATA = "data";
+        String GQL_FIELD_ERRORS = "errors";
+        String GQL_FIELD_DISPLAYS = "displays";
     }
     /**
      * GraphQL requests
@@ -89,11 +165,20 @@ public interface Constants {
         interface MonitoringRequests {
             String CUSTOMERS_REQUEST = "{\"operationName\": null,\"variables\":{},\"query\":\"{organization {customers {id\\nname\\nhandle}}}\"}";
             String DISPLAYS_METADATA_REQUEST = "{\"operationName\": null,\"variables\":{},\"query\":\"{customerByHandle(handle:\\\"%s\\\"){displays{id\\nalias\\nserialNumber\\ncommercialTypeNumber\\npresence{\\nconnected}platform{name\\ntype\\nversion}}}}\"}";
-            String DISPLAYS_DETAILS_REQUEST_BASIC = "{\"operationName\": null,\"variables\":{},\"query\":\"{customerByHandle(handle:\\\"%s\\\"){displays{id\\nalias\\nserialNumber\\nagentVersion\\ncommercialTypeNumber\\nagentReleaseChannel{reported}agentVersion\\nbrightness{reported}commercialTypeNumber\\ncustomer{avatarUrl\\nhandle\\nid\\nname\\n}site{address\\nname}firmware{android{availableUpdates\\nlatestJob{createdAt\\nplannedAt\\ntargetVersion\\nid}version}scaler{version}}groups{id\\nname}hasEmptyShadow\\nhasSensitiveData\\ninfraRedControl{reported}keyboardControl{reported}ledStripColor{reported}networkInformation{ethernetMacAddress\\nlocalIPAddress\\nnetworkType\\nwifiMacAddress}networkInterfaces{active\\nip\\nmac\\nname\\nssid}orientation{reported}platform{name\\ntype\\nversion}portsControl{reported}power{reported\\nreportedAt}presence{connected\\ntimestamp}reboot{latestJob{createdAt\\nid\\nplannedAt}}recommendedSettings{reported{recommended\\nwarnings{code\\ndescription\\nseverity\\n}}}screenshot{createdAt\\nurl}serialNumber\\nsignalDetection{reported}timeZone{reported}volume{isMuted{reported}level{reported}limits{max{reported}min{reported}}}power{reported\\nreportedAt}}}}\"}";
-            String DISPLAYS_DETAILS_REQUEST_DETAILED = "{\"operationName\": null,\"variables\":{},\"query\":\"{customerByHandle(handle:\\\"%s\\\"){playlists{id\\ntitle}displays{id\\nalerts{createdAt\\nid\\nmessage}\\ncontentSource{available{...on InputContentSource{source}...on AppContentSource{applicationId\\nlabel}}current{reported{...on InputContentSource{source}...on AppContentSource{applicationId\\nlabel}...on BookmarkContentSource{index}...on PlaylistContentSource{playlistId}}}}\\nappSubscriptions{appInstallation{applicationId\\nid}createdAt\\niconUrl\\nid\\nname\\nupdatedAt\\nusage{current\\nmax}}bookmarks{all{reported}}groups{id\\nname}platform{name\\ntype\\nversion}playlist{current{description\\nid\\nisOutOfSync\\nisTampered\\nsize\\ntitle}sync{description\\nid\\njobId\\nsize\\ntitle}}powerSchedule{isSynced\\nlatestJob{createdAt\\nid\\nscheduleId}schedule{createdAt\\ndescription\\nid\\ntimeBlocks{day\\nend\\nstart}title}}}}}\"}";
+            /** Displays filter to retrieve a page of displays by id, to be used with the displays details requests */
+            String DISPLAYS_PAGE_FILTER = "(filter:{id:{in:[%s]}})";
+            String DISPLAYS_PAGE_FILTER_ID = "\\\"%s\\\"";
+            /** Frequently changing display data: presence, power, audio/video state and content source */
+            String DISPLAYS_DETAILS_REQUEST_HOT = "{\"operationName\": null,\"variables\":{},\"query\":\"{customerByHandle(handle:\\\"%s\\\"){displays%s{id\\nbrightness{reported}contentSource{available{...on InputContentSource{source}...on AppContentSource{applicationId label}}current{reported{...on InputContentSource{source}...on AppContentSource{applicationId label}...on BookmarkContentSource{index}...on PlaylistContentSource{playlistId}}}} orientation{reported}power{reported\\nreportedAt}presence{connected\\ntimestamp}screenshot{createdAt\\nurl}signalDetection{reported}volume{isMuted{reported}level{reported}limits{max{reported}min{reported}}}}}}\"}";
+            /** Display data that changes occasionally: system controls state, network, alerts, groups and playlists */
+            String DISPLAYS_DETAILS_REQUEST_WARM = "{\"operationName\": null,\"variables\":{},\"query\":\"{customerByHandle(handle:\\\"%s\\\"){playlists{id title}displays%s{id\\nalias\\nagentReleaseChannel{reported}alerts{createdAt id message} groups{id\\nname}infraRedControl{reported}keyboardControl{reported}ledStripColor{reported}networkInformation{ethernetMacAddress\\nlocalIPAddress\\nnetworkType\\nwifiMacAddress}networkInterfaces{active\\nip\\nmac\\nname\\nssid}playlist{current{description id isOutOfSync isTampered size title}sync{description id jobId size title}}portsControl{reported}recommendedSettings{reported{recommended\\nwarnings{code\\ndescription\\nseverity\\n}}}timeZone{reported}}}}\"}";
+            /** Display data that almost never changes: power schedule, bookmarks, app subscriptions, firmware, site and customer */
+            String DISPLAYS_DETAILS_REQUEST_COLD = "{\"operationName\": null,\"variables\":{},\"query\":\"{customerByHandle(handle:\\\"%s\\\"){displays%s{id\\nserialNumber\\nagentVersion\\ncommercialTypeNumber\\nappSubscriptions{appInstallation{applicationId id}createdAt iconUrl id name updatedAt usage{current max}}bookmarks{all{reported}}customer{avatarUrl\\nhandle\\nid\\nname\\n}firmware{android{availableUpdates\\nlatestJob{createdAt\\nplannedAt\\ntargetVersion\\nid}version}scaler{version}}hasEmptyShadow\\nhasSensitiveData\\nplatform{name\\ntype\\nversion}powerSchedule{isSynced latestJob{createdAt id scheduleId}schedule{createdAt description id timeBlocks{day end start}title}}reboot{latestJob{createdAt\\nid\\nplannedAt}}site{address\\nname}}}}\"}";
         }
         /** Control requests */
         interface ControlRequest {
+            /** Delimiter to join multiple display ids into the displayIds:[\"%s\"] array of the bulk mutations */
+            String BULK_DISPLAY_IDS_DELIMITER = "\\\",\\\"";
             String REBOOT = "{\"operationName\": null,\"variables\":{},\"query\":\"mutation{displayBulkReboot(input:{displayIds:[\\\"%s\\\"]}){displays{id}}}\"}";
             String MUTE = "{\"operationName\": null,\"variables\":{},\"query\":\"mutation{displayUpdateVolumeMute(input:{id:\\\"%s\\\"\\nmute:%s}){display{id}}}\"}";
             String VOLUME = "{\"operationName\": null,\"variables\":{},\"query\":\"mutation{displayUpdateVolumeLevel (input:{id:\\\"%s\\\"\\nlevel:%.0f}){display{id\\nvolume{level{desired\\nreported}}}}}\"}";
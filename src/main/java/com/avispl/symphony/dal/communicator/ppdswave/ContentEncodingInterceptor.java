@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Response compression negotiation for the GraphQL requests.
+ * Every request explicitly accepts gzip and deflate encoded responses. The http client decodes the responses
+ * transparently when it's configured to, otherwise the response body is still encoded when it reaches
+ * the rest template, and it's decoded here. Either way the body is decoded as a stream, as it's read by the json parser,
+ * without buffering the whole response. Brotli is not negotiated, since there's no brotli decoder available.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class ContentEncodingInterceptor implements ClientHttpRequestInterceptor {
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String DEFLATE = "deflate";
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Response with the body decoded from the content encoding
+     */
+    private static class DecodedResponse implements ClientHttpResponse {
+        private final ClientHttpResponse response;
+        private final String contentEncoding;
+        private final HttpHeaders headers = new HttpHeaders();
+        private InputStream body;
+
+        DecodedResponse(ClientHttpResponse response, String contentEncoding) {
+            this.response = response;
+            this.contentEncoding = contentEncoding;
+            headers.putAll(response.getHeaders());
+            headers.remove(HttpHeaders.CONTENT_ENCODING);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return response.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = decode(response.getBody(), contentEncoding);
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (!request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+            request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, ACCEPT_ENCODING);
+        }
+        ClientHttpResponse response = execution.execute(request, body);
+        String contentEncoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (contentEncoding == null) {
+            return response;
+        }
+        contentEncoding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+        if (GZIP.equals(contentEncoding) || X_GZIP.equals(contentEncoding) || DEFLATE.equals(contentEncoding)) {
+            return new DecodedResponse(response, contentEncoding);
+        }
+        return response;
+    }
+
+    /**
+     * Wrap encoded response body with the decoding stream
+     *
+     * @param body            encoded response body
+     * @param contentEncoding gzip, x-gzip or deflate
+     * @return decoded response body
+     * @throws IOException if the body cannot be read
+     */
+    static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        PushbackInputStream pushbackBody = new PushbackInputStream(body, 2);
+        byte[] header = new byte[2];
+        int headerLength = 0;
+        int read;
+        while (headerLength < header.length && (read = pushbackBody.read(header, headerLength, header.length - headerLength)) != -1) {
+            headerLength += read;
+        }
+        if (headerLength == 0) {
+            return pushbackBody;
+        }
+        pushbackBody.unread(header, 0, headerLength);
+        if (!DEFLATE.equals(contentEncoding)) {
+            return new GZIPInputStream(pushbackBody, BUFFER_SIZE);
+        }
+        // deflate content encoding is expected to be zlib-wrapped, but some servers send raw deflate data
+        boolean zlibWrapped = headerLength == 2 && (header[0] & 0x0F) == 8 && (((header[0] & 0xFF) << 8) | (header[1] & 0xFF)) % 31 == 0;
+        Inflater inflater = new Inflater(!zlibWrapped);
+        return new InflaterInputStream(pushbackBody, inflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+}
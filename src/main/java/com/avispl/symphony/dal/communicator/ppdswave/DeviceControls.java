@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Controls of a single device, keyed by control name.
+ * Every time the device is mapped, the new controls are upserted into the registry: if the control with the same name
+ * and the same type and options already exists - it's kept and only its value is updated, otherwise it's replaced.
+ * Controls that were not mapped are removed, so the number of controls is bounded by the controls the device has.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class DeviceControls {
+    private final Map<String, AdvancedControllableProperty> controls = new LinkedHashMap<>();
+
+    /**
+     * Upsert mapped controls into the registry, removing the controls that were not mapped.
+     * If there are multiple controls with the same name - the last one is used.
+     *
+     * @param mappedControls controls of the device, mapped from the latest device data
+     * @return controls of the device, in the order they were mapped
+     */
+    public synchronized List<AdvancedControllableProperty> update(List<AdvancedControllableProperty> mappedControls) {
+        Map<String, AdvancedControllableProperty> updatedControls = new LinkedHashMap<>();
+        for (AdvancedControllableProperty mappedControl : mappedControls) {
+            String name = mappedControl.getName();
+            AdvancedControllableProperty existingControl = updatedControls.containsKey(name) ? updatedControls.get(name) : controls.get(name);
+            if (existingControl != null && sameType(existingControl.getType(), mappedControl.getType())) {
+                if (!Objects.equals(existingControl.getValue(), mappedControl.getValue())) {
+                    existingControl.setValue(mappedControl.getValue());
+                    existingControl.setTimestamp(mappedControl.getTimestamp());
+                }
+                updatedControls.put(name, existingControl);
+            } else {
+                updatedControls.put(name, mappedControl);
+            }
+        }
+        controls.clear();
+        controls.putAll(updatedControls);
+        return new ArrayList<>(controls.values());
+    }
+
+    /**
+     * Retrieves control by name
+     *
+     * @param name of the control
+     * @return control, or null if the device has no control with the name provided
+     */
+    public synchronized AdvancedControllableProperty get(String name) {
+        return controls.get(name);
+    }
+
+    /**
+     * Retrieves all the controls of the device
+     *
+     * @return copy of the device controls
+     */
+    public synchronized Collection<AdvancedControllableProperty> getAll() {
+        return new ArrayList<>(controls.values());
+    }
+
+    /**
+     * Check whether the control types are the same, including their options, labels and ranges
+     *
+     * @param existingType type of the existing control
+     * @param mappedType   type of the mapped control
+     * @return true if the existing control can be kept, with only its value updated
+     */
+    private static boolean sameType(AdvancedControllableProperty.ControllableType existingType, AdvancedControllableProperty.ControllableType mappedType) {
+        if (existingType == null || mappedType == null || existingType.getClass() != mappedType.getClass()) {
+            return false;
+        }
+        if (mappedType instanceof AdvancedControllableProperty.DropDown) {
+            AdvancedControllableProperty.DropDown existing = (AdvancedControllableProperty.DropDown) existingType;
+            AdvancedControllableProperty.DropDown mapped = (AdvancedControllableProperty.DropDown) mappedType;
+            return Arrays.equals(existing.getOptions(), mapped.getOptions()) && Arrays.equals(existing.getLabels(), mapped.getLabels());
+        }
+        if (mappedType instanceof AdvancedControllableProperty.Preset) {
+            AdvancedControllableProperty.Preset existing = (AdvancedControllableProperty.Preset) existingType;
+            AdvancedControllableProperty.Preset mapped = (AdvancedControllableProperty.Preset) mappedType;
+            return Arrays.equals(existing.getOptions(), mapped.getOptions()) && Arrays.equals(existing.getLabels(), mapped.getLabels());
+        }
+        if (mappedType instanceof AdvancedControllableProperty.Slider) {
+            AdvancedControllableProperty.Slider existing = (AdvancedControllableProperty.Slider) existingType;
+            AdvancedControllableProperty.Slider mapped = (AdvancedControllableProperty.Slider) mappedType;
+            return Objects.equals(existing.getLabelStart(), mapped.getLabelStart()) && Objects.equals(existing.getLabelEnd(), mapped.getLabelEnd())
+                    && Objects.equals(existing.getRangeStart(), mapped.getRangeStart()) && Objects.equals(existing.getRangeEnd(), mapped.getRangeEnd());
+        }
+        if (mappedType instanceof AdvancedControllableProperty.Switch) {
+            AdvancedControllableProperty.Switch existing = (AdvancedControllableProperty.Switch) existingType;
+            AdvancedControllableProperty.Switch mapped = (AdvancedControllableProperty.Switch) mappedType;
+            return Objects.equals(existing.getLabelOn(), mapped.getLabelOn()) && Objects.equals(existing.getLabelOff(), mapped.getLabelOff());
+        }
+        if (mappedType instanceof AdvancedControllableProperty.Button) {
+            AdvancedControllableProperty.Button existing = (AdvancedControllableProperty.Button) existingType;
+            AdvancedControllableProperty.Button mapped = (AdvancedControllableProperty.Button) mappedType;
+            return Objects.equals(existing.getLabel(), mapped.getLabel()) && Objects.equals(existing.getLabelPressed(), mapped.getLabelPressed())
+                    && Objects.equals(existing.getGracePeriod(), mapped.getGracePeriod());
+        }
+        return mappedType instanceof AdvancedControllableProperty.Text;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps track of the device ids that belong to every customer handle, so the device list can be reconciled
+ * incrementally: every retrieval of a handle devices is compared against the previous one, and only the ids that
+ * were added or removed are reported back.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class DeviceMembershipTracker {
+    /**
+     * Device ids added and removed during a reconciliation
+     */
+    public static class Changes {
+        private final Set<String> added = new HashSet<>();
+        private final Set<String> removed = new HashSet<>();
+
+        /**
+         * Retrieves {@link #added}
+         *
+         * @return value of {@link #added}
+         */
+        public Set<String> getAdded() {
+            return added;
+        }
+
+        /**
+         * Retrieves {@link #removed}
+         *
+         * @return value of {@link #removed}
+         */
+        public Set<String> getRemoved() {
+            return removed;
+        }
+    }
+
+    /**
+     * Device ids by customer handle
+     */
+    private final Map<String, Set<String>> devicesByHandle = new HashMap<>();
+    /**
+     * Customer handle that owns the device, by device id
+     */
+    private final Map<String, String> handleByDevice = new HashMap<>();
+    private volatile int addedCount;
+    private volatile int removedCount;
+
+    /**
+     * Replace the device ids of a customer handle with the ids retrieved.
+     * Device ids that are not present anymore are reported as removed, unless they are owned by another handle by now.
+     *
+     * @param handle    customer handle the devices were retrieved for
+     * @param deviceIds device ids retrieved
+     * @return device ids added and removed, compared to the previous retrieval of the handle
+     */
+    public synchronized Changes reconcile(String handle, Collection<String> deviceIds) {
+        Changes changes = new Changes();
+        Set<String> currentIds = new HashSet<>(deviceIds);
+        Set<String> previousIds = devicesByHandle.getOrDefault(handle, Collections.emptySet());
+
+        for (String deviceId : currentIds) {
+            String previousHandle = handleByDevice.put(deviceId, handle);
+            if (previousHandle == null) {
+                changes.added.add(deviceId);
+            } else if (!previousHandle.equals(handle)) {
+                devicesByHandle.get(previousHandle).remove(deviceId);
+            }
+        }
+        for (String deviceId : previousIds) {
+            if (!currentIds.contains(deviceId) && handle.equals(handleByDevice.get(deviceId))) {
+                handleByDevice.remove(deviceId);
+                changes.removed.add(deviceId);
+            }
+        }
+        devicesByHandle.put(handle, currentIds);
+        addedCount += changes.added.size();
+        removedCount += changes.removed.size();
+        return changes;
+    }
+
+    /**
+     * Drop the handles that are not in the list provided, all their devices are reported as removed
+     *
+     * @param handles customer handles to keep
+     * @return device ids removed
+     */
+    public synchronized Set<String> retainHandles(Collection<String> handles) {
+        Set<String> removed = new HashSet<>();
+        Iterator<Map.Entry<String, Set<String>>> iterator = devicesByHandle.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Set<String>> entry = iterator.next();
+            if (handles.contains(entry.getKey())) {
+                continue;
+            }
+            for (String deviceId : entry.getValue()) {
+                handleByDevice.remove(deviceId);
+                removed.add(deviceId);
+            }
+            iterator.remove();
+        }
+        removedCount += removed.size();
+        return removed;
+    }
+
+    /**
+     * Reset added/removed counters, so the next reconciliation cycle is counted from zero
+     */
+    public synchronized void resetCounters() {
+        addedCount = 0;
+        removedCount = 0;
+    }
+
+    /**
+     * Retrieves number of devices added since the counters were reset
+     *
+     * @return value of {@link #addedCount}
+     */
+    public int getAddedCount() {
+        return addedCount;
+    }
+
+    /**
+     * Retrieves number of devices removed since the counters were reset
+     *
+     * @return value of {@link #removedCount}
+     */
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    /**
+     * Retrieves device ids of a customer handle
+     *
+     * @param handle customer handle to get device ids for
+     * @return copy of the device ids of the handle, empty if the handle is not tracked
+     */
+    public synchronized Set<String> getDeviceIds(String handle) {
+        return new HashSet<>(devicesByHandle.getOrDefault(handle, Collections.emptySet()));
+    }
+
+    /**
+     * Retrieves customer handle that owns the device
+     *
+     * @param deviceId to get customer handle for
+     * @return customer handle, or null if the device is not tracked
+     */
+    public synchronized String getHandle(String deviceId) {
+        return handleByDevice.get(deviceId);
+    }
+
+    /**
+     * Retrieves total number of devices tracked
+     *
+     * @return number of devices tracked
+     */
+    public synchronized int getDevicesCount() {
+        return handleByDevice.size();
+    }
+
+    /**
+     * Remove all the handles and devices tracked
+     */
+    public synchronized void clear() {
+        devicesByHandle.clear();
+        handleByDevice.clear();
+        resetCounters();
+    }
+}
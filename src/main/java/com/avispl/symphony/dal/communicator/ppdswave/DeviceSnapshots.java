@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Published snapshots of the aggregated devices.
+ * Aggregated devices are updated in place by the data loader and control operations, so instead of exposing them
+ * directly, their copies are published: once per collection cycle for the devices that have changed, and per device
+ * after a control operation. Published snapshots are never changed afterwards, a new snapshot replaces them atomically,
+ * so readers get an internally consistent view of every device without copying or locking.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class DeviceSnapshots {
+    /**
+     * Published snapshots by device id, in the order of publication
+     */
+    private volatile Map<String, AggregatedDevice> devicesById = Collections.emptyMap();
+    /**
+     * Published snapshots, same as {@link #devicesById} values
+     */
+    private volatile List<AggregatedDevice> devices = Collections.emptyList();
+
+    /**
+     * Create snapshot of the device provided. Device must not be changed by other threads while it's copied.
+     *
+     * @param device    to create snapshot of
+     * @param timestamp snapshot timestamp
+     * @return device snapshot
+     */
+    public static AggregatedDevice snapshotOf(AggregatedDevice device, long timestamp) {
+        AggregatedDevice snapshot = new AggregatedDevice();
+        snapshot.setDeviceId(device.getDeviceId());
+        snapshot.setDeviceName(device.getDeviceName());
+        snapshot.setDeviceMake(device.getDeviceMake());
+        snapshot.setDeviceModel(device.getDeviceModel());
+        snapshot.setDeviceType(device.getDeviceType());
+        snapshot.setSerialNumber(device.getSerialNumber());
+        snapshot.setType(device.getType());
+        snapshot.setCategory(device.getCategory());
+        snapshot.setDeviceOnline(device.getDeviceOnline());
+        snapshot.setAviSplAssetId(device.getAviSplAssetId());
+        snapshot.setOwnerAssetId(device.getOwnerAssetId());
+        snapshot.setMacAddresses(device.getMacAddresses() == null ? null : new ArrayList<>(device.getMacAddresses()));
+        snapshot.setProperties(copyOf(device.getProperties()));
+        snapshot.setControl(copyOf(device.getControl()));
+        snapshot.setStatistics(copyOf(device.getStatistics()));
+        snapshot.setDynamicStatistics(copyOf(device.getDynamicStatistics()));
+        snapshot.setMonitoredStatistics(device.getMonitoredStatistics() == null ? null : new ArrayList<>(device.getMonitoredStatistics()));
+        List<AdvancedControllableProperty> controls = device.getControllableProperties();
+        if (controls != null) {
+            List<AdvancedControllableProperty> controlsSnapshot = new ArrayList<>(controls.size());
+            for (AdvancedControllableProperty control : controls) {
+                Date controlTimestamp = control.getTimestamp() == null ? null : new Date(control.getTimestamp().getTime());
+                controlsSnapshot.add(new AdvancedControllableProperty(control.getName(), controlTimestamp, copyOf(control.getType()), control.getValue()));
+            }
+            snapshot.setControllableProperties(controlsSnapshot);
+        }
+        snapshot.setTimestamp(timestamp);
+        return snapshot;
+    }
+
+    /**
+     * Replace all the published snapshots with the ones provided. Devices that are not in the snapshots provided
+     * are removed. If a device has a published snapshot that is newer than the one provided (e.g. published
+     * by a control operation while the cycle snapshots were created), the newer one is kept.
+     *
+     * @param snapshots device snapshots by device id
+     */
+    public synchronized void publishAll(Map<String, AggregatedDevice> snapshots) {
+        Map<String, AggregatedDevice> publishedSnapshots = new LinkedHashMap<>();
+        snapshots.forEach((deviceId, snapshot) -> {
+            AggregatedDevice publishedSnapshot = devicesById.get(deviceId);
+            publishedSnapshots.put(deviceId, isNewer(publishedSnapshot, snapshot) ? publishedSnapshot : snapshot);
+        });
+        swap(publishedSnapshots);
+    }
+
+    /**
+     * Replace the published snapshots of the devices provided, other snapshots are kept as is
+     *
+     * @param snapshots device snapshots
+     */
+    public synchronized void publish(Collection<AggregatedDevice> snapshots) {
+        Map<String, AggregatedDevice> publishedSnapshots = new LinkedHashMap<>(devicesById);
+        snapshots.forEach(snapshot -> publishedSnapshots.put(snapshot.getDeviceId(), snapshot));
+        swap(publishedSnapshots);
+    }
+
+    /**
+     * Retrieves published snapshot of a device
+     *
+     * @param deviceId to get snapshot for
+     * @return device snapshot, or null if there's none published
+     */
+    public AggregatedDevice getDevice(String deviceId) {
+        return devicesById.get(deviceId);
+    }
+
+    /**
+     * Retrieves all the published snapshots
+     *
+     * @return unmodifiable list of the device snapshots
+     */
+    public List<AggregatedDevice> getDevices() {
+        return devices;
+    }
+
+    /**
+     * Remove all the published snapshots
+     */
+    public synchronized void clear() {
+        swap(new LinkedHashMap<>());
+    }
+
+    /**
+     * Atomically publish new snapshots
+     *
+     * @param snapshots to publish
+     */
+    private void swap(Map<String, AggregatedDevice> snapshots) {
+        devicesById = Collections.unmodifiableMap(snapshots);
+        devices = Collections.unmodifiableList(new ArrayList<>(snapshots.values()));
+    }
+
+    /**
+     * Check whether the published snapshot is newer than the one provided
+     *
+     * @param publishedSnapshot currently published snapshot, may be null
+     * @param snapshot          new snapshot
+     * @return true if the published snapshot has a later timestamp
+     */
+    private static boolean isNewer(AggregatedDevice publishedSnapshot, AggregatedDevice snapshot) {
+        return publishedSnapshot != null && publishedSnapshot.getTimestamp() != null && snapshot.getTimestamp() != null
+                && publishedSnapshot.getTimestamp() > snapshot.getTimestamp();
+    }
+
+    /**
+     * Copy control type, so the options and labels of the published snapshot are not changed when the control
+     * of the device is updated in place. Types that have no state are created anew, unknown types are kept as is.
+     *
+     * @param type to copy
+     * @return control type copy, or null
+     */
+    private static AdvancedControllableProperty.ControllableType copyOf(AdvancedControllableProperty.ControllableType type) {
+        if (type instanceof AdvancedControllableProperty.DropDown) {
+            AdvancedControllableProperty.DropDown dropDown = (AdvancedControllableProperty.DropDown) type;
+            AdvancedControllableProperty.DropDown dropDownCopy = new AdvancedControllableProperty.DropDown();
+            dropDownCopy.setLabels(copyOf(dropDown.getLabels()));
+            dropDownCopy.setOptions(copyOf(dropDown.getOptions()));
+            return dropDownCopy;
+        }
+        if (type instanceof AdvancedControllableProperty.Preset) {
+            AdvancedControllableProperty.Preset preset = (AdvancedControllableProperty.Preset) type;
+            AdvancedControllableProperty.Preset presetCopy = new AdvancedControllableProperty.Preset();
+            presetCopy.setLabels(copyOf(preset.getLabels()));
+            presetCopy.setOptions(copyOf(preset.getOptions()));
+            return presetCopy;
+        }
+        if (type instanceof AdvancedControllableProperty.Switch) {
+            AdvancedControllableProperty.Switch switchType = (AdvancedControllableProperty.Switch) type;
+            AdvancedControllableProperty.Switch switchCopy = new AdvancedControllableProperty.Switch();
+            switchCopy.setLabelOn(switchType.getLabelOn());
+            switchCopy.setLabelOff(switchType.getLabelOff());
+            return switchCopy;
+        }
+        if (type instanceof AdvancedControllableProperty.Slider) {
+            AdvancedControllableProperty.Slider slider = (AdvancedControllableProperty.Slider) type;
+            AdvancedControllableProperty.Slider sliderCopy = new AdvancedControllableProperty.Slider();
+            sliderCopy.setLabelStart(slider.getLabelStart());
+            sliderCopy.setLabelEnd(slider.getLabelEnd());
+            sliderCopy.setRangeStart(slider.getRangeStart());
+            sliderCopy.setRangeEnd(slider.getRangeEnd());
+            return sliderCopy;
+        }
+        if (type instanceof AdvancedControllableProperty.Button) {
+            AdvancedControllableProperty.Button button = (AdvancedControllableProperty.Button) type;
+            AdvancedControllableProperty.Button buttonCopy = new AdvancedControllableProperty.Button();
+            buttonCopy.setLabel(button.getLabel());
+            buttonCopy.setLabelPressed(button.getLabelPressed());
+            buttonCopy.setGracePeriod(button.getGracePeriod());
+            return buttonCopy;
+        }
+        if (type instanceof AdvancedControllableProperty.Numeric) {
+            return new AdvancedControllableProperty.Numeric();
+        }
+        if (type instanceof AdvancedControllableProperty.Text) {
+            return new AdvancedControllableProperty.Text();
+        }
+        return type;
+    }
+
+    /**
+     * Copy array, keeping null as is
+     *
+     * @param array to copy
+     * @return array copy, or null
+     */
+    private static String[] copyOf(String[] array) {
+        return array == null ? null : array.clone();
+    }
+
+    /**
+     * Copy map, keeping null as is
+     *
+     * @param map to copy
+     * @return map copy, or null
+     */
+    private static Map<String, String> copyOf(Map<String, String> map) {
+        return map == null ? null : new HashMap<>(map);
+    }
+}
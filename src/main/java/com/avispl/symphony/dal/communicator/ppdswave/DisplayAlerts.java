@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.Alert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Incremental store of the display alerts. Alerts of every display are kept by alert id, along with the per-message
+ * occurrence counters, so only the alerts that were not seen before (or the ones that are gone) change the counters,
+ * instead of regrouping all the display alerts every time.
+ * Wave API returns the full list of display alerts, so the new alerts are found client-side: alerts created after
+ * the display high-water mark are new for sure, others are looked up by id. If the number of alerts matches the number
+ * of known alerts plus the new ones, none of the known alerts are gone, and there's no need to check for removed alerts.
+ * Display state is expected to be updated by one thread at a time (under the display lock).
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class DisplayAlerts {
+    /**
+     * Occurrences of the alerts with the same message
+     */
+    private static class MessageAlerts {
+        private int occurrenceCount;
+        private Date lastOccurred;
+        private String occurrenceCountValue;
+        private String lastOccurredValue;
+
+        /**
+         * Add alert occurrence
+         *
+         * @param createdAt alert creation date
+         */
+        void add(Date createdAt) {
+            occurrenceCount++;
+            occurrenceCountValue = null;
+            if (lastOccurred == null || (createdAt != null && createdAt.after(lastOccurred))) {
+                lastOccurred = createdAt;
+                lastOccurredValue = null;
+            }
+        }
+
+        /**
+         * Retrieves occurrence count property value, formatted once per change
+         *
+         * @return occurrence count value
+         */
+        String getOccurrenceCountValue() {
+            if (occurrenceCountValue == null) {
+                occurrenceCountValue = String.valueOf(occurrenceCount);
+            }
+            return occurrenceCountValue;
+        }
+
+        /**
+         * Retrieves last occurrence property value, formatted once per change
+         *
+         * @return last occurrence value
+         */
+        String getLastOccurredValue() {
+            if (lastOccurredValue == null) {
+                lastOccurredValue = String.valueOf(lastOccurred);
+            }
+            return lastOccurredValue;
+        }
+    }
+
+    /**
+     * Alerts of a single display
+     */
+    private static class AlertsState {
+        /**
+         * Known alerts by alert id
+         */
+        private final Map<String, Alert> alertsById = new HashMap<>();
+        /**
+         * Alert occurrences by message, in the order the messages were first seen
+         */
+        private Map<String, MessageAlerts> alertsByMessage = new LinkedHashMap<>();
+        /**
+         * Latest creation date of the known alerts
+         */
+        private Date highWaterMark;
+        private String totalCountValue = "0";
+    }
+
+    /**
+     * Alert property names, by alert index, formatted once
+     */
+    private static final List<String[]> PROPERTY_NAMES = new ArrayList<>();
+
+    private final ConcurrentHashMap<String, AlertsState> alertsStates = new ConcurrentHashMap<>();
+
+    /**
+     * Update display alerts with the latest list of display alerts
+     *
+     * @param displayId to update alerts for
+     * @param alerts    latest display alerts, may be null
+     * @return number of alerts that were not known before
+     */
+    public int update(String displayId, List<Alert> alerts) {
+        AlertsState state = alertsStates.computeIfAbsent(displayId, id -> new AlertsState());
+        if (alerts == null || alerts.isEmpty()) {
+            if (!state.alertsById.isEmpty()) {
+                alertsStates.put(displayId, new AlertsState());
+            }
+            return 0;
+        }
+        int newAlerts = 0;
+        Date highWaterMark = state.highWaterMark;
+        for (Alert alert : alerts) {
+            Date createdAt = alert.getCreatedAt();
+            boolean afterHighWaterMark = createdAt != null && (highWaterMark == null || createdAt.after(highWaterMark));
+            if (!afterHighWaterMark && state.alertsById.containsKey(alert.getId())) {
+                continue;
+            }
+            if (state.alertsById.putIfAbsent(alert.getId(), alert) != null) {
+                continue;
+            }
+            state.alertsByMessage.computeIfAbsent(alert.getMessage(), message -> new MessageAlerts()).add(createdAt);
+            if (afterHighWaterMark) {
+                state.highWaterMark = createdAt;
+            }
+            newAlerts++;
+        }
+        if (state.alertsById.size() != alerts.size()) {
+            removeResolvedAlerts(state, alerts);
+        }
+        state.totalCountValue = String.valueOf(state.alertsById.size());
+        return newAlerts;
+    }
+
+    /**
+     * Put display alert properties
+     *
+     * @param displayId         to put alert properties for
+     * @param properties        to put alert details to
+     * @param dynamicProperties to put alerts total count to
+     */
+    public void putProperties(String displayId, Map<String, String> properties, Map<String, String> dynamicProperties) {
+        AlertsState state = alertsStates.get(displayId);
+        if (state == null) {
+            dynamicProperties.put(Constants.MonitoredProperties.ALERTS_TOTAL_COUNT, "0");
+            return;
+        }
+        int index = 1;
+        for (Map.Entry<String, MessageAlerts> entry : state.alertsByMessage.entrySet()) {
+            String[] propertyNames = propertyNames(index++);
+            MessageAlerts messageAlerts = entry.getValue();
+            properties.put(propertyNames[0], entry.getKey());
+            properties.put(propertyNames[1], messageAlerts.getOccurrenceCountValue());
+            properties.put(propertyNames[2], messageAlerts.getLastOccurredValue());
+        }
+        dynamicProperties.put(Constants.MonitoredProperties.ALERTS_TOTAL_COUNT, state.totalCountValue);
+    }
+
+    /**
+     * Remove alerts of the displays that are not in the list provided
+     *
+     * @param displayIds to keep alerts for
+     */
+    public void retain(Collection<String> displayIds) {
+        alertsStates.keySet().retainAll(displayIds);
+    }
+
+    /**
+     * Remove all the alerts
+     */
+    public void clear() {
+        alertsStates.clear();
+    }
+
+    /**
+     * Remove the known alerts that are not in the latest display alerts, recounting occurrences of the affected messages
+     *
+     * @param state  display alerts state
+     * @param alerts latest display alerts
+     */
+    private static void removeResolvedAlerts(AlertsState state, List<Alert> alerts) {
+        Map<String, Alert> latestAlerts = new HashMap<>();
+        for (Alert alert : alerts) {
+            latestAlerts.put(alert.getId(), alert);
+        }
+        state.alertsById.keySet().retainAll(latestAlerts.keySet());
+
+        Map<String, MessageAlerts> alertsByMessage = new LinkedHashMap<>();
+        state.alertsByMessage.keySet().forEach(message -> alertsByMessage.put(message, new MessageAlerts()));
+        Date highWaterMark = null;
+        for (Alert alert : state.alertsById.values()) {
+            alertsByMessage.computeIfAbsent(alert.getMessage(), message -> new MessageAlerts()).add(alert.getCreatedAt());
+            if (alert.getCreatedAt() != null && (highWaterMark == null || alert.getCreatedAt().after(highWaterMark))) {
+                highWaterMark = alert.getCreatedAt();
+            }
+        }
+        alertsByMessage.values().removeIf(messageAlerts -> messageAlerts.occurrenceCount == 0);
+        state.alertsByMessage = alertsByMessage;
+        state.highWaterMark = highWaterMark;
+    }
+
+    /**
+     * Retrieves names of the alert properties for the alert index provided
+     *
+     * @param index of the alert, starting with 1
+     * @return message, occurrence count and last occurrence property names
+     */
+    private static String[] propertyNames(int index) {
+        synchronized (PROPERTY_NAMES) {
+            while (PROPERTY_NAMES.size() < index) {
+                int nameIndex = PROPERTY_NAMES.size() + 1;
+                PROPERTY_NAMES.add(new String[]{
+                        String.format(Constants.MonitoredProperties.ALERTS_ALERT_MESSAGE, nameIndex),
+                        String.format(Constants.MonitoredProperties.ALERTS_ALERT_OCCURRENCE_COUNT, nameIndex),
+                        String.format(Constants.MonitoredProperties.ALERTS_ALERT_LAST_OCCURRED, nameIndex)});
+            }
+            return PROPERTY_NAMES.get(index - 1);
+        }
+    }
+}
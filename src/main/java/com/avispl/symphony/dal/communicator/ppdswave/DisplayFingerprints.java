@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fingerprints of the display details, used to skip mapping of the displays that have not changed since
+ * they were mapped last time. Display fingerprint is combined from the content hashes of the display details
+ * of every details tier, as read from the response, the customer playlists json (playlists are used for the playlist content source controls)
+ * and the mapping configuration.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class DisplayFingerprints {
+    /**
+     * Fingerprint of the display details mapped into the aggregated device
+     */
+    private static class MappedDisplay {
+        private final AggregatedDevice device;
+        private final int fingerprint;
+
+        MappedDisplay(AggregatedDevice device, int fingerprint) {
+            this.device = device;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private final int tiersCount;
+    /**
+     * Content hashes of every details tier json, by display id. Arrays are replaced on update, never changed in place
+     */
+    private final ConcurrentHashMap<String, int[]> tierFingerprints = new ConcurrentHashMap<>();
+    /**
+     * Times in ms when every details tier was last updated, by display id. Arrays are replaced on update, never changed in place
+     */
+    private final ConcurrentHashMap<String, long[]> tierTimestamps = new ConcurrentHashMap<>();
+    /**
+     * Content hashes of the customer playlists json, by customer handle
+     */
+    private final ConcurrentHashMap<String, Integer> playlistsFingerprints = new ConcurrentHashMap<>();
+    /**
+     * Fingerprints of the displays mapped last time, by display id
+     */
+    private final ConcurrentHashMap<String, MappedDisplay> mappedDisplays = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Create fingerprints for the number of details tiers provided
+     *
+     * @param tiersCount number of details tiers
+     */
+    public DisplayFingerprints(int tiersCount) {
+        this.tiersCount = tiersCount;
+    }
+
+    /**
+     * Update content hash of the display details tier, and the time the tier was updated
+     *
+     * @param displayId to update the tier hash for
+     * @param tier      index of the details tier
+     * @param tierHash  content hash of the display details of the tier
+     */
+    public void updateTier(String displayId, int tier, int tierHash) {
+        tierFingerprints.compute(displayId, (id, fingerprints) -> {
+            int[] updatedFingerprints = fingerprints == null ? new int[tiersCount] : fingerprints.clone();
+            updatedFingerprints[tier] = tierHash;
+            return updatedFingerprints;
+        });
+        long updateTimestamp = System.currentTimeMillis();
+        tierTimestamps.compute(displayId, (id, timestamps) -> {
+            long[] updatedTimestamps = timestamps == null ? new long[tiersCount] : timestamps.clone();
+            updatedTimestamps[tier] = updateTimestamp;
+            return updatedTimestamps;
+        });
+    }
+
+    /**
+     * Check whether the display details tier was last updated longer ago than the max age provided
+     *
+     * @param displayId to check
+     * @param tier      index of the details tier
+     * @param maxAge    max time in ms since the tier update
+     * @return true if the tier was updated before, longer than max age ago, false if it's recent or was never updated
+     */
+    public boolean isTierOlderThan(String displayId, int tier, long maxAge) {
+        long[] timestamps = tierTimestamps.get(displayId);
+        return timestamps != null && timestamps[tier] > 0 && timestamps[tier] < System.currentTimeMillis() - maxAge;
+    }
+
+    /**
+     * Update content hash of the customer playlists
+     *
+     * @param handle    customer handle
+     * @param playlists raw playlists json
+     */
+    public void updatePlaylists(String handle, JsonNode playlists) {
+        playlistsFingerprints.put(handle, playlists.hashCode());
+    }
+
+    /**
+     * Calculate current fingerprint of the display
+     *
+     * @param displayId         to calculate fingerprint for
+     * @param handle            customer handle the display belongs to
+     * @param configFingerprint hash of the mapping configuration
+     * @return display fingerprint
+     */
+    public int fingerprint(String displayId, String handle, int configFingerprint) {
+        int[] fingerprints = tierFingerprints.get(displayId);
+        return Objects.hash(Arrays.hashCode(fingerprints), playlistsFingerprints.get(handle), configFingerprint);
+    }
+
+    /**
+     * Check whether the display with the fingerprint provided was already mapped into the device, counting hits and misses
+     *
+     * @param displayId   to check
+     * @param device      aggregated device the display is mapped into
+     * @param fingerprint current display fingerprint
+     * @return true if the same display details were mapped into the same device last time
+     */
+    public boolean isUnchanged(String displayId, AggregatedDevice device, int fingerprint) {
+        MappedDisplay mappedDisplay = mappedDisplays.get(displayId);
+        if (mappedDisplay != null && mappedDisplay.device == device && mappedDisplay.fingerprint == fingerprint) {
+            hitCount.incrementAndGet();
+            return true;
+        }
+        missCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Remember the fingerprint of the display mapped into the device
+     *
+     * @param displayId   mapped
+     * @param device      aggregated device the display was mapped into
+     * @param fingerprint display fingerprint
+     */
+    public void markMapped(String displayId, AggregatedDevice device, int fingerprint) {
+        mappedDisplays.put(displayId, new MappedDisplay(device, fingerprint));
+    }
+
+    /**
+     * Forget the mapped fingerprint of the display, so it's mapped again next time,
+     * e.g. when the device was changed locally after a control operation
+     *
+     * @param displayId to invalidate
+     */
+    public void invalidate(String displayId) {
+        mappedDisplays.remove(displayId);
+    }
+
+    /**
+     * Remove fingerprints of the displays that are not in the list provided
+     *
+     * @param displayIds to keep fingerprints for
+     */
+    public void retain(Collection<String> displayIds) {
+        tierFingerprints.keySet().retainAll(displayIds);
+        tierTimestamps.keySet().retainAll(displayIds);
+        mappedDisplays.keySet().retainAll(displayIds);
+    }
+
+    /**
+     * Retrieves number of displays that were not mapped since their details have not changed
+     *
+     * @return value of {@link #hitCount}
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Retrieves number of displays that were mapped since their details have changed
+     *
+     * @return value of {@link #missCount}
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Remove all the fingerprints
+     */
+    public void clear() {
+        tierFingerprints.clear();
+        tierTimestamps.clear();
+        playlistsFingerprints.clear();
+        mappedDisplays.clear();
+    }
+}
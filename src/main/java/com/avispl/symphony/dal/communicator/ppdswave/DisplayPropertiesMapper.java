@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.ReportedValue;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.Customer;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.Display;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.DisplayPlaylist;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.FirmwareJob;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.FirmwareVersion;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.NetworkInformation;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.Platform;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.PlaylistState;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.RecommendedSettings;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.Screenshot;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.Site;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.Volume;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.VolumeLimits;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.avispl.symphony.dal.communicator.ppdswave.Constants.Utility.EMPTY_STRING;
+
+/**
+ * Maps typed {@link Display} data to the aggregated device properties and controls.
+ * Display data is decoded once into {@link Display}, so all the values are read with plain getters,
+ * instead of walking the json tree for every property.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class DisplayPropertiesMapper {
+    private static final String[] PORTS_CONTROL_OPTIONS = {"LOCKED", "UNLOCKED"};
+    private static final String[] ORIENTATION_OPTIONS = {"LANDSCAPE", "PORTRAIT"};
+    private static final String[] CONTROL_STATE_OPTIONS = {"LOCKED", "POWER_ONLY", "UNLOCKED", "VOLUME_ONLY"};
+    private static final String[] LED_COLOR_OPTIONS = {"BLUE", "CYAN", "GREEN", "MAGENTA", "RED", "UNSPECIFIED", "WHITE", "YELLOW"};
+    private static final String POWER_ON = "ON";
+
+    /**
+     * Map display data into the aggregated device properties, starting a new properties generation,
+     * and replace aggregated device controls with the ones, based on the display data provided.
+     * Other display details (alerts, content sources etc.) are expected to be added on top afterwards,
+     * and properties not updated within the generation are expected to be swept with {@link GenerationalMap#sweep()}.
+     *
+     * @param aggregatedDevice to map display data to
+     * @param display          display data
+     */
+    public void mapDisplay(AggregatedDevice aggregatedDevice, Display display) {
+        GenerationalMap properties = GenerationalMap.startGeneration(aggregatedDevice.getProperties());
+        List<AdvancedControllableProperty> controls = new ArrayList<>();
+
+        mapDeviceData(aggregatedDevice, display);
+        mapProperties(properties, display);
+        mapControls(controls, display);
+
+        aggregatedDevice.setProperties(properties);
+        aggregatedDevice.setControllableProperties(controls);
+    }
+
+    /**
+     * Map display screenshot details
+     *
+     * @param properties to map screenshot details to
+     * @param display    display data
+     */
+    public void mapScreenshot(Map<String, String> properties, Display display) {
+        Screenshot screenshot = display.getScreenshot();
+        if (screenshot != null) {
+            putProperty(properties, Constants.MonitoredProperties.SCREENSHOT_CREATED_AT, screenshot.getCreatedAt());
+            putProperty(properties, Constants.MonitoredProperties.SCREENSHOT_URL, screenshot.getUrl());
+        }
+        properties.put(Constants.ControlProperties.CONTROL_SCREENSHOT_CAPTURE, "Capture");
+    }
+
+    /**
+     * Map general aggregated device data: name, serial number, model and online status
+     *
+     * @param aggregatedDevice to map display data to
+     * @param display          display data
+     */
+    private void mapDeviceData(AggregatedDevice aggregatedDevice, Display display) {
+        if (display.getAlias() != null) {
+            aggregatedDevice.setDeviceName(display.getAlias());
+        }
+        if (display.getSerialNumber() != null) {
+            aggregatedDevice.setSerialNumber(display.getSerialNumber());
+        }
+        if (display.getCommercialTypeNumber() != null) {
+            aggregatedDevice.setDeviceModel(display.getCommercialTypeNumber());
+        }
+        if (display.getPresence() != null && display.getPresence().getConnected() != null) {
+            aggregatedDevice.setDeviceOnline(display.getPresence().getConnected());
+        }
+    }
+
+    /**
+     * Map display monitored properties
+     *
+     * @param properties to map display data to
+     * @param display    display data
+     */
+    private void mapProperties(Map<String, String> properties, Display display) {
+        Platform platform = display.getPlatform();
+        if (platform != null) {
+            putProperty(properties, Constants.MonitoredProperties.DISPLAY_TYPE, platform.getType());
+            putProperty(properties, Constants.MonitoredProperties.PLATFORM_NAME, platform.getName());
+            putProperty(properties, Constants.MonitoredProperties.PLATFORM_VERSION, platform.getVersion());
+        }
+        putProperty(properties, Constants.MonitoredProperties.AGENT_VERSION, display.getAgentVersion());
+        putProperty(properties, Constants.MonitoredProperties.COMMERCIAL_TYPE_NUMBER, display.getCommercialTypeNumber());
+        putProperty(properties, Constants.MonitoredProperties.AGENT_RELEASE_CHANNEL, reported(display.getAgentReleaseChannel()));
+
+        putProperty(properties, Constants.MonitoredProperties.SYSTEM_HAS_EMPTY_SHADOW, display.getHasEmptyShadow());
+        putProperty(properties, Constants.MonitoredProperties.SYSTEM_HAS_SENSITIVE_DATA, display.getHasSensitiveData());
+        putProperty(properties, Constants.ControlProperties.CONTROL_IR_CONTROL, reported(display.getInfraRedControl()));
+        putProperty(properties, Constants.ControlProperties.CONTROL_KEYBOARD_CONTROL, reported(display.getKeyboardControl()));
+        putProperty(properties, Constants.ControlProperties.CONTROL_LED_COLOR, reported(display.getLedStripColor()));
+        putProperty(properties, Constants.ControlProperties.CONTROL_PORTS_CONTROL, reported(display.getPortsControl()));
+        putProperty(properties, Constants.MonitoredProperties.SYSTEM_RECOMMENDED_SETTINGS,
+                map(reported(display.getRecommendedSettings()), RecommendedSettings::getRecommended));
+        putProperty(properties, Constants.ControlProperties.CONTROL_ALIAS, display.getAlias());
+        properties.put(Constants.MonitoredProperties.SYSTEM_RECOMMENDED_SETTINGS_WARNINGS, EMPTY_STRING);
+
+        putProperty(properties, Constants.ControlProperties.CONTROL_VIDEO_BRIGHTNESS, reported(display.getBrightness()));
+        putProperty(properties, Constants.ControlProperties.CONTROL_VIDEO_ORIENTATION, reported(display.getOrientation()));
+        putProperty(properties, Constants.MonitoredProperties.VIDEO_SIGNAL_DETECTION, reported(display.getSignalDetection()));
+
+        NetworkInformation networkInformation = display.getNetworkInformation();
+        if (networkInformation != null) {
+            putProperty(properties, Constants.MonitoredProperties.NETWORK_MAC_ADDRESS, networkInformation.getEthernetMacAddress());
+            putProperty(properties, Constants.MonitoredProperties.NETWORK_IP_ADDRESS, networkInformation.getLocalIPAddress());
+            putProperty(properties, Constants.MonitoredProperties.NETWORK_TYPE, networkInformation.getNetworkType());
+            putProperty(properties, Constants.MonitoredProperties.NETWORK_WIFI_MAC_ADDRESS, networkInformation.getWifiMacAddress());
+        }
+
+        ReportedValue<String> power = display.getPower();
+        if (power != null) {
+            putProperty(properties, Constants.MonitoredProperties.POWER_STATE, power.getReported());
+            putProperty(properties, Constants.MonitoredProperties.POWER_LAST_UPDATED, power.getReportedAt());
+        }
+        properties.put(Constants.ControlProperties.CONTROL_POWER_REBOOT, "Reboot");
+        properties.put(Constants.ControlProperties.CONTROL_POWER_MODE, "Mode");
+        if (display.getPresence() != null) {
+            putProperty(properties, Constants.MonitoredProperties.PRESENCE_LAST_UPDATED, display.getPresence().getTimestamp());
+        }
+
+        Site site = display.getSite();
+        if (site != null) {
+            putProperty(properties, Constants.MonitoredProperties.SITE_ADDRESS, site.getAddress());
+            putProperty(properties, Constants.MonitoredProperties.SITE_ID, site.getId());
+            putProperty(properties, Constants.MonitoredProperties.SITE_NAME, site.getName());
+            putProperty(properties, Constants.MonitoredProperties.CUSTOMER_SITE_NAME, site.getName());
+            putProperty(properties, Constants.MonitoredProperties.CUSTOMER_SITE_ADDRESS, site.getAddress());
+        }
+        putProperty(properties, Constants.MonitoredProperties.SITE_TIME_ZONE, reported(display.getTimeZone()));
+
+        Volume volume = display.getVolume();
+        if (volume != null) {
+            putProperty(properties, Constants.ControlProperties.CONTROL_AUDIO_MUTE, reported(volume.getIsMuted()));
+            putProperty(properties, Constants.ControlProperties.CONTROL_AUDIO_VOLUME, reported(volume.getLevel()));
+        }
+
+        if (display.getFirmware() != null) {
+            FirmwareVersion android = display.getFirmware().getAndroid();
+            if (android != null) {
+                putProperty(properties, Constants.MonitoredProperties.FIRMWARE_VERSION, android.getVersion());
+                FirmwareJob latestJob = android.getLatestJob();
+                if (latestJob != null) {
+                    putProperty(properties, Constants.MonitoredProperties.FIRMWARE_LATEST_JOB_CREATED, latestJob.getCreatedAt());
+                    putProperty(properties, Constants.MonitoredProperties.FIRMWARE_LATEST_JOB_PLANNED, latestJob.getPlannedAt());
+                    putProperty(properties, Constants.MonitoredProperties.FIRMWARE_LATEST_JOB_TARGET_VERSION, latestJob.getTargetVersion());
+                }
+            }
+            putProperty(properties, Constants.MonitoredProperties.FIRMWARE_SCALER_VERSION, map(display.getFirmware().getScaler(), FirmwareVersion::getVersion));
+        }
+
+        Customer customer = display.getCustomer();
+        if (customer != null) {
+            putProperty(properties, Constants.MonitoredProperties.CUSTOMER_NAME, customer.getName());
+            putProperty(properties, Constants.MonitoredProperties.CUSTOMER_HANDLE, customer.getHandle());
+            putProperty(properties, Constants.MonitoredProperties.CUSTOMER_AVATAR_URL, customer.getAvatarUrl());
+        }
+
+        DisplayPlaylist playlist = display.getPlaylist();
+        if (playlist != null) {
+            putProperty(properties, Constants.MonitoredProperties.PLAYLIST_SYNCHRONIZED, playlist.getSync());
+            PlaylistState current = playlist.getCurrent();
+            if (current != null) {
+                putProperty(properties, Constants.MonitoredProperties.PLAYLIST_CURRENT_DESCRIPTION, current.getDescription());
+                putProperty(properties, Constants.MonitoredProperties.PLAYLIST_CURRENT_OUT_OF_SYNC, current.getIsOutOfSync());
+                putProperty(properties, Constants.MonitoredProperties.PLAYLIST_CURRENT_TAMPERED, current.getIsTampered());
+            }
+        }
+        properties.put(Constants.MonitoredProperties.APP_SUBSCRIPTIONS, EMPTY_STRING);
+    }
+
+    /**
+     * Map display controls
+     *
+     * @param controls to add display controls to
+     * @param display  display data
+     */
+    private void mapControls(List<AdvancedControllableProperty> controls, Display display) {
+        controls.add(createDropdown(Constants.ControlProperties.CONTROL_PORTS_CONTROL, PORTS_CONTROL_OPTIONS, reported(display.getPortsControl())));
+        controls.add(createDropdown(Constants.ControlProperties.CONTROL_IR_CONTROL, CONTROL_STATE_OPTIONS, reported(display.getInfraRedControl())));
+        controls.add(createDropdown(Constants.ControlProperties.CONTROL_KEYBOARD_CONTROL, CONTROL_STATE_OPTIONS, reported(display.getKeyboardControl())));
+        controls.add(createDropdown(Constants.ControlProperties.CONTROL_LED_COLOR, LED_COLOR_OPTIONS, reported(display.getLedStripColor())));
+        controls.add(createDropdown(Constants.ControlProperties.CONTROL_VIDEO_ORIENTATION, ORIENTATION_OPTIONS, reported(display.getOrientation())));
+        controls.add(new AdvancedControllableProperty(Constants.ControlProperties.CONTROL_ALIAS, new Date(),
+                new AdvancedControllableProperty.Text(), valueOf(display.getAlias())));
+
+        Volume volume = display.getVolume();
+        if (volume != null) {
+            controls.add(createSwitch(Constants.ControlProperties.CONTROL_AUDIO_MUTE, "Mute", "Unmute", valueOf(reported(volume.getIsMuted()))));
+            VolumeLimits limits = volume.getLimits();
+            Integer min = map(limits, volumeLimits -> reported(volumeLimits.getMin()));
+            Integer max = map(limits, volumeLimits -> reported(volumeLimits.getMax()));
+            // Volume slider range is reported by the display, so there's no way to render it without the limits
+            if (min != null && max != null) {
+                controls.add(createSlider(Constants.ControlProperties.CONTROL_AUDIO_VOLUME, String.valueOf(min), String.valueOf(max),
+                        min.floatValue(), max.floatValue(), valueOf(reported(volume.getLevel()))));
+            }
+        }
+        controls.add(createSlider(Constants.ControlProperties.CONTROL_VIDEO_BRIGHTNESS, "0%", "100%", 0f, 100f, valueOf(reported(display.getBrightness()))));
+        controls.add(createSwitch(Constants.ControlProperties.CONTROL_POWER_MODE, "On", "Standby",
+                String.valueOf(POWER_ON.equals(reported(display.getPower())))));
+        controls.add(createButton(Constants.ControlProperties.CONTROL_SCREENSHOT_CAPTURE, "Capture", "Capturing", 0L));
+        controls.add(createButton(Constants.ControlProperties.CONTROL_POWER_REBOOT, "Reboot", "Rebooting", 60000L));
+    }
+
+    /**
+     * Retrieve reported value, null-safe
+     *
+     * @param reportedValue to get value of
+     * @param <T>           type of the reported value
+     * @return reported value, or null if not available
+     */
+    private <T> T reported(ReportedValue<T> reportedValue) {
+        return reportedValue == null ? null : reportedValue.getReported();
+    }
+
+    /**
+     * Apply mapping function to a nullable value
+     *
+     * @param value  to map
+     * @param mapper mapping function
+     * @param <T>    type of the value
+     * @param <R>    type of the result
+     * @return mapping result, or null if the value is null
+     */
+    private <T, R> R map(T value, Function<T, R> mapper) {
+        return Optional.ofNullable(value).map(mapper).orElse(null);
+    }
+
+    /**
+     * Add property, if the value is available
+     *
+     * @param properties to add property to
+     * @param name       of the property
+     * @param value      of the property
+     */
+    private void putProperty(Map<String, String> properties, String name, Object value) {
+        if (value != null) {
+            properties.put(name, String.valueOf(value));
+        }
+    }
+
+    /**
+     * Convert nullable value to control value
+     *
+     * @param value to convert
+     * @return string value, or empty string if the value is not available
+     */
+    private String valueOf(Object value) {
+        return value == null ? EMPTY_STRING : String.valueOf(value);
+    }
+
+    /**
+     * Create dropdown control with labels matching the options
+     *
+     * @param name    of the control
+     * @param options of the dropdown
+     * @param value   current value
+     * @return dropdown control
+     */
+    private AdvancedControllableProperty createDropdown(String name, String[] options, String value) {
+        AdvancedControllableProperty.DropDown dropDown = new AdvancedControllableProperty.DropDown();
+        dropDown.setOptions(options);
+        dropDown.setLabels(options);
+        return new AdvancedControllableProperty(name, new Date(), dropDown, valueOf(value));
+    }
+
+    /**
+     * Create switch control
+     *
+     * @param name     of the control
+     * @param labelOn  label of the "on" state
+     * @param labelOff label of the "off" state
+     * @param value    current value
+     * @return switch control
+     */
+    private AdvancedControllableProperty createSwitch(String name, String labelOn, String labelOff, String value) {
+        AdvancedControllableProperty.Switch toggle = new AdvancedControllableProperty.Switch();
+        toggle.setLabelOn(labelOn);
+        toggle.setLabelOff(labelOff);
+        return new AdvancedControllableProperty(name, new Date(), toggle, value);
+    }
+
+    /**
+     * Create slider control
+     *
+     * @param name       of the control
+     * @param labelStart label of the range start
+     * @param labelEnd   label of the range end
+     * @param rangeStart range start value
+     * @param rangeEnd   range end value
+     * @param value      current value
+     * @return slider control
+     */
+    private AdvancedControllableProperty createSlider(String name, String labelStart, String labelEnd, Float rangeStart, Float rangeEnd, String value) {
+        AdvancedControllableProperty.Slider slider = new AdvancedControllableProperty.Slider();
+        slider.setLabelStart(labelStart);
+        slider.setLabelEnd(labelEnd);
+        slider.setRangeStart(rangeStart);
+        slider.setRangeEnd(rangeEnd);
+        return new AdvancedControllableProperty(name, new Date(), slider, value);
+    }
+
+    /**
+     * Create button control
+     *
+     * @param name         of the control
+     * @param label        of the button
+     * @param labelPressed of the button while it's pressed
+     * @param gracePeriod  of the button
+     * @return button control
+     */
+    private AdvancedControllableProperty createButton(String name, String label, String labelPressed, long gracePeriod) {
+        AdvancedControllableProperty.Button button = new AdvancedControllableProperty.Button();
+        button.setLabel(label);
+        button.setLabelPressed(labelPressed);
+        button.setGracePeriod(gracePeriod);
+        return new AdvancedControllableProperty(name, new Date(), button, EMPTY_STRING);
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Streaming reader of the customerByHandle displays responses.
+ * The response is read token by token, so every display is materialized and passed to the consumer one at a time,
+ * instead of having the whole displays array in memory. Displays are either read as json trees, or bound to the
+ * display type right from the parser, along with the content hash of the tokens bound, with no json tree in between.
+ * Reading stops once the reading thread is interrupted, e.g. when the request is cancelled, so the consumers
+ * are not called for the rest of the response.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class DisplaysResponseReader {
+    private static final String DATA = "data";
+    private static final String ERRORS = "errors";
+    private static final String CUSTOMER_BY_HANDLE = "customerByHandle";
+    private static final String DISPLAYS = "displays";
+    private static final String PLAYLISTS = "playlists";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader displayReader;
+    private Consumer<ArrayNode> playlistsConsumer = playlists -> {};
+
+    /**
+     * Create reader with display consumer
+     *
+     * @param objectMapper    to create the json parser with
+     * @param displayConsumer to pass every display to
+     */
+    public DisplaysResponseReader(ObjectMapper objectMapper, Consumer<ObjectNode> displayConsumer) {
+        this.objectMapper = objectMapper;
+        displayReader = parser -> {
+            ObjectNode display = parser.readValueAsTree();
+            checkInterrupted();
+            displayConsumer.accept(display);
+        };
+    }
+
+    /**
+     * Create reader, binding every display to the type provided right from the parser
+     *
+     * @param objectMapper    to create the json parser and bind displays with
+     * @param displayType     type to bind displays to
+     * @param displayConsumer to pass every display to, along with the content hash of the display fields bound
+     * @param <T>             type of the display
+     */
+    public <T> DisplaysResponseReader(ObjectMapper objectMapper, Class<T> displayType, ObjIntConsumer<T> displayConsumer) {
+        this.objectMapper = objectMapper;
+        displayReader = parser -> {
+            HashingParser hashingParser = new HashingParser(parser);
+            T display = hashingParser.readValueAs(displayType);
+            checkInterrupted();
+            displayConsumer.accept(display, hashingParser.contentHash);
+        };
+    }
+
+    /**
+     * Sets {@link #playlistsConsumer} value
+     *
+     * @param playlistsConsumer new value of {@link #playlistsConsumer}
+     * @return this instance
+     */
+    public DisplaysResponseReader withPlaylistsConsumer(Consumer<ArrayNode> playlistsConsumer) {
+        this.playlistsConsumer = playlistsConsumer;
+        return this;
+    }
+
+    /**
+     * Read the GraphQL response, passing displays and playlists to the consumers
+     *
+     * @param inputStream response body
+     * @return GraphQL errors node, if present in the response, null otherwise
+     * @throws IOException if the response cannot be read or is not a valid json
+     */
+    public JsonNode read(InputStream inputStream) throws IOException {
+        JsonNode errors = null;
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (DATA.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                    readObject(parser, CUSTOMER_BY_HANDLE, this::readCustomer);
+                } else if (ERRORS.equals(fieldName)) {
+                    errors = parser.readValueAsTree();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Read customerByHandle object fields: displays are streamed one by one, playlists are read as a whole
+     *
+     * @param parser positioned at the start of customerByHandle object
+     * @throws IOException if the response cannot be read
+     */
+    private void readCustomer(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (DISPLAYS.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() == JsonToken.START_OBJECT) {
+                        displayReader.read(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if (PLAYLISTS.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                ArrayNode playlists = parser.readValueAsTree();
+                checkInterrupted();
+                playlistsConsumer.accept(playlists);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Stop reading the response if the reading thread is interrupted
+     *
+     * @throws InterruptedIOException if the thread is interrupted
+     */
+    private static void checkInterrupted() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Displays response reading is interrupted");
+        }
+    }
+
+    /**
+     * Read object fields, passing the one with the name provided to the object reader and skipping the rest
+     *
+     * @param parser       positioned at the start of the object
+     * @param name         of the field to read
+     * @param objectReader to read the field value with
+     * @throws IOException if the response cannot be read
+     */
+    private void readObject(JsonParser parser, String name, ObjectReader objectReader) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (name.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                objectReader.read(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Parser, calculating the content hash of the tokens read through it. Tokens skipped by the deserializer,
+     * i.e. the fields the type does not have, are not included.
+     */
+    private static class HashingParser extends JsonParserDelegate {
+        private int contentHash;
+
+        /**
+         * Create parser, positioned at the current token of the parser provided
+         *
+         * @param parser to read the tokens with
+         */
+        HashingParser(JsonParser parser) {
+            super(parser);
+            contentHash = parser.currentTokenId();
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            JsonToken token = super.nextToken();
+            if (token != null) {
+                contentHash = 31 * contentHash + token.id();
+                if (token == JsonToken.FIELD_NAME || token.isScalarValue()) {
+                    char[] text = getTextCharacters();
+                    int end = getTextOffset() + getTextLength();
+                    for (int i = getTextOffset(); i < end; i++) {
+                        contentHash = 31 * contentHash + text[i];
+                    }
+                }
+            }
+            return token;
+        }
+    }
+
+    /**
+     * Reader of a json object value
+     */
+    @FunctionalInterface
+    private interface ObjectReader {
+        void read(JsonParser parser) throws IOException;
+    }
+}
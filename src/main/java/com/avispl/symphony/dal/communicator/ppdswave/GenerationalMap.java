@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Device properties map, that stamps every key with the generation it was written in.
+ * A new generation is started every time the device is mapped, and once the mapping is done, the keys that were not
+ * written during this generation are swept, so index-based properties (alerts, power schedule entries etc.) do not
+ * stay in the map after they are gone from the device data.
+ * Keys written with the methods other than put/putAll/putIfAbsent are not stamped and are never swept.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class GenerationalMap extends HashMap<String, String> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Generation each key was last written in
+     */
+    private final Map<String, Integer> keyGenerations = new HashMap<>();
+    private int generation;
+
+    /**
+     * Start a new generation of the map provided. If the map is not a generational one, an empty
+     * generational map is created instead, to be populated from scratch.
+     *
+     * @param map current device map
+     * @return generational map with a new generation started
+     */
+    public static GenerationalMap startGeneration(Map<String, String> map) {
+        GenerationalMap generationalMap = map instanceof GenerationalMap ? (GenerationalMap) map : new GenerationalMap();
+        generationalMap.generation++;
+        return generationalMap;
+    }
+
+    /**
+     * Remove the keys that were not written during the current generation
+     *
+     * @return number of keys removed
+     */
+    public int sweep() {
+        int sizeBefore = size();
+        keyGenerations.entrySet().removeIf(keyGeneration -> {
+            if (keyGeneration.getValue() == generation) {
+                return false;
+            }
+            super.remove(keyGeneration.getKey());
+            return true;
+        });
+        return sizeBefore - size();
+    }
+
+    @Override
+    public String put(String key, String value) {
+        keyGenerations.put(key, generation);
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends String> map) {
+        map.forEach(this::put);
+    }
+
+    @Override
+    public String putIfAbsent(String key, String value) {
+        keyGenerations.put(key, generation);
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public String remove(Object key) {
+        keyGenerations.remove(key);
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        keyGenerations.clear();
+        super.clear();
+    }
+}
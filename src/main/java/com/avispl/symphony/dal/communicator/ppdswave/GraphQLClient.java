@@ -0,0 +1,563 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous GraphQL client: every request is executed by a bounded pool of request threads, and its result
+ * is returned as {@link CompletableFuture}, so callers compose the requests instead of parking their own threads
+ * while the requests are in flight. The number of request threads does not grow with the number of requests
+ * submitted, requests over the limit are queued until a request thread (and a pooled connection) is available.
+ * Idle request threads are released after {@link #THREAD_KEEP_ALIVE} ms.
+ * Cancelling the returned future interrupts the request, if it's already running.
+ * Control requests ({@link #mutate(String)}) have {@link #CONTROL_CONCURRENCY} request threads of their own, so they're
+ * never queued behind the monitoring requests, and take the {@link RequestRateLimiter} tokens first.
+ * Requests rejected with 429 (Too Many Requests) are retried up to {@link #MAX_THROTTLED_RETRIES} times,
+ * after the pause the rate limiter has taken from the response.
+ * Requests executed with a timeout fail with {@link TimeoutException} once the timeout passes, and the http request
+ * in flight is aborted, see {@link RequestDeadline}.
+ * Idempotent queries executed with {@link #executeHedged(String, Request, long)} are hedged, if it's enabled:
+ * once the request takes longer than {@link #HEDGE_PERCENTILE} of the latest requests of the same operation,
+ * a duplicate request is sent, and the response that arrives first is used.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class GraphQLClient {
+    /**
+     * Blocking transport to post GraphQL requests with
+     */
+    @FunctionalInterface
+    public interface Transport {
+        /**
+         * Post GraphQL request
+         *
+         * @param request GraphQL request body
+         * @return GraphQL response
+         * @throws Exception if the request has failed
+         */
+        JsonNode post(String request) throws Exception;
+    }
+
+    /**
+     * Request to execute with the request threads
+     *
+     * @param <T> type of the request result
+     */
+    @FunctionalInterface
+    public interface Request<T> {
+        /**
+         * Execute request
+         *
+         * @return request result
+         * @throws Exception if the request has failed
+         */
+        T execute() throws Exception;
+    }
+
+    /**
+     * Max number of control requests executed at the same time, in addition to the monitoring requests
+     */
+    public static final int CONTROL_CONCURRENCY = 4;
+    /**
+     * Timeout value of the requests executed without a timeout
+     */
+    public static final long NO_TIMEOUT = -1;
+    /**
+     * Latency percentile of the latest requests of an operation, after which a hedged request is sent
+     */
+    public static final double HEDGE_PERCENTILE = 0.95;
+    private static final int MAX_THROTTLED_RETRIES = 2;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final long THREAD_KEEP_ALIVE = 60 * 1000;
+
+    private final Transport transport;
+    private final ObjectMapper objectMapper;
+    private final RequestRateLimiter rateLimiter;
+    private final boolean hedgingEnabled;
+    private final ThreadPoolExecutor requestExecutor;
+    private final ThreadPoolExecutor controlRequestExecutor;
+    /**
+     * Scheduler of the request timeouts and hedged requests
+     */
+    private final ScheduledThreadPoolExecutor requestScheduler;
+    private final Map<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+    private final AtomicLong throttledRetries = new AtomicLong();
+    private final AtomicLong timedOutRequests = new AtomicLong();
+    private final AtomicLong hedgedRequests = new AtomicLong();
+    private final AtomicLong hedgedRequestsWon = new AtomicLong();
+
+    /**
+     * Hedged request: the original request and, if it takes too long, its duplicate.
+     * The result is completed with the first successful response, or with the first error once all the requests sent have failed.
+     * Once the result is completed, the requests still running are cancelled.
+     *
+     * @param <T> type of the request result
+     */
+    private class HedgedRequest<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Request<T> request;
+        private final long deadline;
+        private final LatencyTracker latencyTracker;
+        private final List<CompletableFuture<T>> attempts = new ArrayList<>();
+        private boolean hedgePending;
+        private int runningAttempts;
+        private Throwable firstError;
+
+        HedgedRequest(Request<T> request, long deadline, LatencyTracker latencyTracker) {
+            this.request = request;
+            this.deadline = deadline;
+            this.latencyTracker = latencyTracker;
+        }
+
+        /**
+         * Send the original request, and schedule the hedged one
+         *
+         * @param hedgeDelay time in ms after which the hedged request is sent, or -1 if the request is not hedged
+         */
+        void start(long hedgeDelay) {
+            synchronized (this) {
+                hedgePending = hedgeDelay >= 0;
+                runningAttempts = 1;
+            }
+            result.whenComplete((value, error) -> {
+                List<CompletableFuture<T>> sentAttempts;
+                synchronized (this) {
+                    sentAttempts = new ArrayList<>(attempts);
+                }
+                sentAttempts.forEach(attempt -> attempt.cancel(true));
+            });
+            sendAttempt(false);
+            if (hedgeDelay >= 0) {
+                ScheduledFuture<?> hedge = requestScheduler.schedule(this::sendHedge, hedgeDelay, TimeUnit.MILLISECONDS);
+                result.whenComplete((value, error) -> hedge.cancel(false));
+            }
+        }
+
+        /**
+         * Send the hedged request, if the original one is still running
+         */
+        private void sendHedge() {
+            synchronized (this) {
+                if (!hedgePending || result.isDone()) {
+                    return;
+                }
+                hedgePending = false;
+                runningAttempts++;
+            }
+            hedgedRequests.incrementAndGet();
+            sendAttempt(true);
+        }
+
+        /**
+         * Send request with the time left until the deadline
+         *
+         * @param hedged whether it's the hedged request
+         */
+        private void sendAttempt(boolean hedged) {
+            long startTimestamp = System.currentTimeMillis();
+            CompletableFuture<T> attempt = execute(request, RequestRateLimiter.Priority.MONITORING, deadline == NO_TIMEOUT ? NO_TIMEOUT
+                    : Math.max(0, deadline - startTimestamp));
+            boolean completed;
+            synchronized (this) {
+                attempts.add(attempt);
+                completed = result.isDone();
+            }
+            if (completed) {
+                attempt.cancel(true);
+                return;
+            }
+            attempt.whenComplete((value, error) -> {
+                if (error == null) {
+                    if (result.complete(value)) {
+                        latencyTracker.record(System.currentTimeMillis() - startTimestamp);
+                        if (hedged) {
+                            hedgedRequestsWon.incrementAndGet();
+                        }
+                    }
+                    return;
+                }
+                boolean failed;
+                synchronized (this) {
+                    if (firstError == null) {
+                        firstError = error;
+                    }
+                    // a failed request is not hedged, the error is reported once all the requests sent have failed
+                    hedgePending = false;
+                    failed = --runningAttempts == 0;
+                }
+                if (failed) {
+                    result.completeExceptionally(firstError);
+                }
+            });
+        }
+    }
+
+    /**
+     * Create client with the max number of requests executed at the same time
+     *
+     * @param transport      to post requests with
+     * @param objectMapper   to convert responses with
+     * @param rateLimiter    rate limiter of the transport, to set the request priority for
+     * @param maxConcurrency max number of monitoring requests executed at the same time
+     * @param hedgingEnabled whether the requests executed with {@link #executeHedged(String, Request, long)} are hedged
+     */
+    public GraphQLClient(Transport transport, ObjectMapper objectMapper, RequestRateLimiter rateLimiter, int maxConcurrency, boolean hedgingEnabled) {
+        this.transport = transport;
+        this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+        this.hedgingEnabled = hedgingEnabled;
+        AtomicInteger threadNumber = new AtomicInteger();
+        requestExecutor = createExecutor(Math.max(1, maxConcurrency), "PPDSWave-GraphQL-", threadNumber);
+        controlRequestExecutor = createExecutor(CONTROL_CONCURRENCY, "PPDSWave-GraphQL-Control-", threadNumber);
+        requestScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "PPDSWave-GraphQL-Scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        requestScheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Post GraphQL request
+     *
+     * @param request GraphQL request body
+     * @return future GraphQL response
+     */
+    public CompletableFuture<JsonNode> query(String request) {
+        return execute(() -> transport.post(request));
+    }
+
+    /**
+     * Post GraphQL request and convert the response to the type provided
+     *
+     * @param request      GraphQL request body
+     * @param responseType type to convert the response to
+     * @param <T>          type of the response
+     * @return future converted GraphQL response
+     */
+    public <T> CompletableFuture<T> query(String request, Class<T> responseType) {
+        return execute(() -> objectMapper.treeToValue(transport.post(request), responseType));
+    }
+
+    /**
+     * Post GraphQL control request, with {@link RequestRateLimiter.Priority#CONTROL} priority
+     *
+     * @param request GraphQL mutation request body
+     * @return future GraphQL response
+     */
+    public CompletableFuture<JsonNode> mutate(String request) {
+        return mutate(request, NO_TIMEOUT);
+    }
+
+    /**
+     * Post GraphQL control request, with {@link RequestRateLimiter.Priority#CONTROL} priority and the timeout provided.
+     * Control requests are not idempotent, so they're never hedged.
+     *
+     * @param request GraphQL mutation request body
+     * @param timeout request timeout in ms, or {@link #NO_TIMEOUT}
+     * @return future GraphQL response
+     */
+    public CompletableFuture<JsonNode> mutate(String request, long timeout) {
+        return execute(() -> transport.post(request), RequestRateLimiter.Priority.CONTROL, timeout);
+    }
+
+    /**
+     * Post idempotent GraphQL query with the timeout provided, hedged if hedging is enabled
+     *
+     * @param operation name of the request operation, to track the latency of
+     * @param request   GraphQL request body
+     * @param timeout   request timeout in ms, or {@link #NO_TIMEOUT}
+     * @return future GraphQL response
+     */
+    public CompletableFuture<JsonNode> queryHedged(String operation, String request, long timeout) {
+        return executeHedged(operation, () -> transport.post(request), timeout);
+    }
+
+    /**
+     * Execute idempotent monitoring request with the timeout provided.
+     * If hedging is enabled, and there's enough latest requests of the operation to calculate the latency percentile,
+     * a duplicate request is sent after {@link #HEDGE_PERCENTILE} latency, unless the request has completed.
+     * The timeout is shared by both requests. Since both requests may run at the same time, the request has to be
+     * safe to execute more than once.
+     *
+     * @param operation name of the request operation, to track the latency of
+     * @param request   to execute
+     * @param timeout   request timeout in ms, or {@link #NO_TIMEOUT}
+     * @param <T>       type of the request result
+     * @return future request result
+     */
+    public <T> CompletableFuture<T> executeHedged(String operation, Request<T> request, long timeout) {
+        LatencyTracker latencyTracker = latencyTrackers.computeIfAbsent(operation, name -> new LatencyTracker());
+        HedgedRequest<T> hedgedRequest = new HedgedRequest<>(request, timeout == NO_TIMEOUT ? NO_TIMEOUT
+                : System.currentTimeMillis() + Math.max(0, timeout), latencyTracker);
+        hedgedRequest.start(hedgingEnabled ? latencyTracker.getPercentile(HEDGE_PERCENTILE) : -1);
+        return hedgedRequest.result;
+    }
+
+    /**
+     * Execute monitoring request with the request threads, e.g. a streamed request
+     *
+     * @param request to execute
+     * @param <T>     type of the request result
+     * @return future request result
+     */
+    public <T> CompletableFuture<T> execute(Request<T> request) {
+        return execute(request, RequestRateLimiter.Priority.MONITORING);
+    }
+
+    /**
+     * Execute request with the request threads of the priority provided
+     *
+     * @param request  to execute
+     * @param priority of the request
+     * @param <T>      type of the request result
+     * @return future request result
+     */
+    public <T> CompletableFuture<T> execute(Request<T> request, RequestRateLimiter.Priority priority) {
+        return execute(request, priority, NO_TIMEOUT);
+    }
+
+    /**
+     * Execute request with the request threads of the priority provided and the timeout provided.
+     * The timeout includes the time the request is queued for, and the retries of the throttled request.
+     *
+     * @param request  to execute
+     * @param priority of the request
+     * @param timeout  request timeout in ms, or {@link #NO_TIMEOUT}
+     * @param <T>      type of the request result
+     * @return future request result
+     */
+    public <T> CompletableFuture<T> execute(Request<T> request, RequestRateLimiter.Priority priority, long timeout) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (timeout != NO_TIMEOUT && timeout <= 0) {
+            timedOutRequests.incrementAndGet();
+            result.completeExceptionally(new TimeoutException("No time left to execute the request"));
+            return result;
+        }
+        RequestDeadline deadline = timeout == NO_TIMEOUT ? null : new RequestDeadline(System.currentTimeMillis() + timeout);
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            rateLimiter.setRequestPriority(priority);
+            if (deadline != null) {
+                deadline.attach();
+            }
+            try {
+                result.complete(executeWithRetries(request));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            } finally {
+                rateLimiter.clearRequestPriority();
+                if (deadline != null) {
+                    deadline.detach();
+                }
+            }
+            return null;
+        });
+        AtomicBoolean expired = new AtomicBoolean();
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled() || expired.get()) {
+                task.cancel(true);
+                if (deadline != null) {
+                    deadline.abort();
+                }
+            }
+        });
+        if (deadline != null) {
+            ScheduledFuture<?> timeoutTask = requestScheduler.schedule(() -> {
+                expired.set(true);
+                if (result.completeExceptionally(new TimeoutException(String.format("Request did not complete within %d ms", timeout)))) {
+                    timedOutRequests.incrementAndGet();
+                } else {
+                    expired.set(false);
+                }
+            }, timeout, TimeUnit.MILLISECONDS);
+            result.whenComplete((value, error) -> timeoutTask.cancel(false));
+        }
+        try {
+            (priority == RequestRateLimiter.Priority.CONTROL ? controlRequestExecutor : requestExecutor).execute(task);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Wait for the request result, unwrapping the request error
+     *
+     * @param future request result
+     * @param <T>    type of the request result
+     * @return request result
+     * @throws Exception request error, or {@link InterruptedException} if the thread is interrupted while waiting
+     */
+    public static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            throw cause instanceof Exception ? (Exception) cause : e;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves number of requests being executed
+     *
+     * @return number of active requests
+     */
+    public int getActiveRequests() {
+        return requestExecutor.getActiveCount() + controlRequestExecutor.getActiveCount();
+    }
+
+    /**
+     * Retrieves number of requests waiting for a request thread
+     *
+     * @return number of queued requests
+     */
+    public int getQueuedRequests() {
+        return requestExecutor.getQueue().size() + controlRequestExecutor.getQueue().size();
+    }
+
+    /**
+     * Retrieves number of requests retried after a throttled response
+     *
+     * @return value of {@link #throttledRetries}
+     */
+    public long getThrottledRetries() {
+        return throttledRetries.get();
+    }
+
+    /**
+     * Retrieves number of requests that did not complete within their timeout
+     *
+     * @return value of {@link #timedOutRequests}
+     */
+    public long getTimedOutRequests() {
+        return timedOutRequests.get();
+    }
+
+    /**
+     * Retrieves number of hedged requests sent
+     *
+     * @return value of {@link #hedgedRequests}
+     */
+    public long getHedgedRequests() {
+        return hedgedRequests.get();
+    }
+
+    /**
+     * Retrieves number of hedged requests that have responded before the original requests
+     *
+     * @return value of {@link #hedgedRequestsWon}
+     */
+    public long getHedgedRequestsWon() {
+        return hedgedRequestsWon.get();
+    }
+
+    /**
+     * Retrieves latency percentile of the latest requests of the operation
+     *
+     * @param operation  name of the request operation
+     * @param percentile to calculate, between 0 and 1
+     * @return latency in ms, or -1 if there are not enough requests of the operation completed yet
+     */
+    public long getLatencyPercentile(String operation, double percentile) {
+        LatencyTracker latencyTracker = latencyTrackers.get(operation);
+        return latencyTracker == null ? -1 : latencyTracker.getPercentile(percentile);
+    }
+
+    /**
+     * Stop all the running requests and release request threads
+     */
+    public void shutdown() {
+        requestScheduler.shutdownNow();
+        requestExecutor.shutdownNow();
+        controlRequestExecutor.shutdownNow();
+    }
+
+    /**
+     * Execute request, retrying it if it's throttled. The rate limiter pauses the retry for the time the server asks for.
+     *
+     * @param request to execute
+     * @param <T>     type of the request result
+     * @return request result
+     * @throws Exception if the request has failed
+     */
+    private <T> T executeWithRetries(Request<T> request) throws Exception {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return request.execute();
+            } catch (Exception e) {
+                if (attempt >= MAX_THROTTLED_RETRIES || !isThrottled(e) || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                throttledRetries.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Check whether the request error is a throttled (429) response
+     *
+     * @param error request error
+     * @return true if the request was throttled
+     */
+    private static boolean isThrottled(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof CommandFailureException && ((CommandFailureException) cause).getStatusCode() == TOO_MANY_REQUESTS) {
+                return true;
+            }
+            if (cause instanceof RestClientResponseException && ((RestClientResponseException) cause).getRawStatusCode() == TOO_MANY_REQUESTS) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Create request executor, that releases the idle request threads
+     *
+     * @param threads      max number of request threads
+     * @param threadName   request thread name prefix
+     * @param threadNumber request thread number sequence
+     * @return request executor
+     */
+    private static ThreadPoolExecutor createExecutor(int threads, String threadName, AtomicInteger threadNumber) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, THREAD_KEEP_ALIVE, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, threadName + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import java.util.Arrays;
+
+/**
+ * Latency of the latest {@link #WINDOW_SIZE} requests of an operation, to calculate the latency percentiles with,
+ * e.g. the delay after which a hedged request is sent.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class LatencyTracker {
+    private static final int WINDOW_SIZE = 100;
+    /**
+     * Min number of requests, for the percentiles to be calculated
+     */
+    private static final int MIN_SAMPLES = 20;
+
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private int samples;
+    private int nextSample;
+
+    /**
+     * Record latency of a completed request
+     *
+     * @param latency request latency in ms
+     */
+    public synchronized void record(long latency) {
+        latencies[nextSample] = latency;
+        nextSample = (nextSample + 1) % WINDOW_SIZE;
+        samples = Math.min(WINDOW_SIZE, samples + 1);
+    }
+
+    /**
+     * Retrieves latency percentile of the latest requests
+     *
+     * @param percentile to calculate, between 0 and 1
+     * @return latency in ms, or -1 if there are not enough requests recorded yet
+     */
+    public long getPercentile(double percentile) {
+        long[] sortedLatencies;
+        synchronized (this) {
+            if (samples < MIN_SAMPLES) {
+                return -1;
+            }
+            sortedLatencies = Arrays.copyOf(latencies, samples);
+        }
+        Arrays.sort(sortedLatencies);
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, Math.min(sortedLatencies.length - 1, index))];
+    }
+}
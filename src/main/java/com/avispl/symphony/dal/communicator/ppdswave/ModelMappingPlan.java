@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.avispl.symphony.dal.communicator.ppdswave.Constants.Utility.EMPTY_STRING;
+
+/**
+ * Model mapping, compiled once from the {@link PropertiesMapping} into a flat extraction plan:
+ * every {@code at("/path")} expression is turned into a precompiled {@link JsonPointer} and an accessor function,
+ * so the mapping expressions are not evaluated again for every device and every property.
+ * Supported expressions are the ones used in model-mapping.yml: {@code at("/path")}, optionally followed by
+ * {@code ?.asText()} or {@code ?.asBoolean()}, filters of {@code get("field") != null} / {@code == null} form joined
+ * with {@code &&}, and plain values.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class ModelMappingPlan {
+    private static final Pattern AT_EXPRESSION = Pattern.compile("at\\(\"([^\"]*)\"\\)(\\?\\.(asText|asBoolean)\\(\\))?");
+    private static final Pattern FILTER_EXPRESSION = Pattern.compile("get\\(\"([^\"]*)\"\\)\\s*(!=|==)\\s*null");
+    private static final String AS_BOOLEAN = "asBoolean";
+
+    /**
+     * Aggregated device fields that can be mapped, by name used in the model mapping
+     */
+    private static final Map<String, BiConsumer<AggregatedDevice, Object>> DEVICE_FIELDS = new HashMap<>();
+
+    static {
+        DEVICE_FIELDS.put("deviceId", (device, value) -> device.setDeviceId(String.valueOf(value)));
+        DEVICE_FIELDS.put("deviceName", (device, value) -> device.setDeviceName(String.valueOf(value)));
+        DEVICE_FIELDS.put("deviceMake", (device, value) -> device.setDeviceMake(String.valueOf(value)));
+        DEVICE_FIELDS.put("deviceModel", (device, value) -> device.setDeviceModel(String.valueOf(value)));
+        DEVICE_FIELDS.put("serialNumber", (device, value) -> device.setSerialNumber(String.valueOf(value)));
+        DEVICE_FIELDS.put("type", (device, value) -> device.setType(String.valueOf(value)));
+        DEVICE_FIELDS.put("category", (device, value) -> device.setCategory(String.valueOf(value)));
+        DEVICE_FIELDS.put("deviceOnline", (device, value) -> device.setDeviceOnline(value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(String.valueOf(value))));
+    }
+
+    private final String node;
+    private final Predicate<JsonNode> filter;
+    private final Map<BiConsumer<AggregatedDevice, Object>, Function<JsonNode, Object>> deviceFields = new LinkedHashMap<>();
+    private final Map<String, Function<JsonNode, Object>> properties = new LinkedHashMap<>();
+
+    /**
+     * Compile model mapping into an extraction plan
+     *
+     * @param mapping model mapping to compile
+     * @throws IllegalArgumentException if the mapping contains expressions that are not supported
+     */
+    public ModelMappingPlan(PropertiesMapping mapping) {
+        node = mapping.getNode();
+        filter = compileFilter(mapping.getFilter());
+        mapping.getDeviceProperties().forEach((name, expression) -> {
+            BiConsumer<AggregatedDevice, Object> deviceField = DEVICE_FIELDS.get(name);
+            if (deviceField == null) {
+                throw new IllegalArgumentException("Unsupported device mapping field: " + name);
+            }
+            deviceFields.put(deviceField, compileExpression(expression, true));
+        });
+        mapping.getProperties().forEach((name, expression) -> properties.put(name, compileExpression(expression, false)));
+    }
+
+    /**
+     * Extract devices from the model node array of the json provided
+     *
+     * @param json containing the model node
+     * @return list of devices extracted, filtered with the model filter
+     */
+    public List<AggregatedDevice> extractDevices(JsonNode json) {
+        List<AggregatedDevice> devices = new ArrayList<>();
+        JsonNode deviceNodes = node == null ? json : json.get(node);
+        if (deviceNodes == null || !deviceNodes.isArray()) {
+            return devices;
+        }
+        for (JsonNode deviceNode : deviceNodes) {
+            AggregatedDevice device = extractDevice(deviceNode);
+            if (device != null) {
+                devices.add(device);
+            }
+        }
+        return devices;
+    }
+
+    /**
+     * Extract a single device from the json provided
+     *
+     * @param deviceNode device json
+     * @return device extracted, or null if the device json does not pass the model filter
+     */
+    public AggregatedDevice extractDevice(JsonNode deviceNode) {
+        if (!filter.test(deviceNode)) {
+            return null;
+        }
+        AggregatedDevice device = new AggregatedDevice();
+        deviceFields.forEach((deviceField, accessor) -> deviceField.accept(device, accessor.apply(deviceNode)));
+
+        Map<String, String> deviceProperties = new HashMap<>();
+        properties.forEach((name, accessor) -> {
+            Object value = accessor.apply(deviceNode);
+            if (value != null) {
+                deviceProperties.put(name, String.valueOf(value));
+            }
+        });
+        device.setProperties(deviceProperties);
+        device.setControl(new HashMap<>());
+        device.setStatistics(new HashMap<>());
+        device.setDynamicStatistics(new HashMap<>());
+        device.setControllableProperties(new ArrayList<>());
+        return device;
+    }
+
+    /**
+     * Compile value expression into an accessor function.
+     * Missing and null json values are resolved to an empty value for the device fields, and skipped for properties.
+     *
+     * @param expression  to compile
+     * @param deviceField whether the expression is used for a device field
+     * @return accessor function
+     */
+    private static Function<JsonNode, Object> compileExpression(String expression, boolean deviceField) {
+        String trimmedExpression = expression.trim();
+        if (!trimmedExpression.startsWith("at(") && !trimmedExpression.startsWith("get(")) {
+            return json -> trimmedExpression;
+        }
+        Matcher matcher = AT_EXPRESSION.matcher(trimmedExpression);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Unsupported mapping expression: " + expression);
+        }
+        JsonPointer pointer = JsonPointer.compile(matcher.group(1));
+        String method = matcher.group(3);
+        Object emptyValue = null;
+        if (AS_BOOLEAN.equals(method)) {
+            emptyValue = Boolean.FALSE;
+        } else if (deviceField || method != null) {
+            emptyValue = EMPTY_STRING;
+        }
+        Object missingValue = emptyValue;
+        return json -> {
+            JsonNode value = json.at(pointer);
+            if (value.isMissingNode() || value.isNull()) {
+                return missingValue;
+            }
+            if (AS_BOOLEAN.equals(method)) {
+                return value.asBoolean();
+            }
+            return value.isValueNode() ? value.asText() : value.toString();
+        };
+    }
+
+    /**
+     * Compile filter expression into a predicate
+     *
+     * @param expression to compile, may be empty
+     * @return filter predicate
+     */
+    private static Predicate<JsonNode> compileFilter(String expression) {
+        Predicate<JsonNode> predicate = json -> true;
+        if (expression == null || expression.trim().isEmpty()) {
+            return predicate;
+        }
+        for (String condition : expression.split("&&")) {
+            Matcher matcher = FILTER_EXPRESSION.matcher(condition.trim());
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Unsupported mapping filter: " + expression);
+            }
+            String field = matcher.group(1);
+            boolean present = "!=".equals(matcher.group(2));
+            predicate = predicate.and(json -> json.has(field) == present);
+        }
+        return predicate;
+    }
+}
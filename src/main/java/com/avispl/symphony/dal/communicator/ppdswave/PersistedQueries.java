@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Automatic persisted queries support for the GraphQL requests.
+ * Instead of the full query text, only its SHA-256 hash is sent. If the server does not know the hash yet, it responds
+ * with PersistedQueryNotFound error and the request is repeated with both the query text and the hash, so the server
+ * registers the query. Whether the server accepts persisted queries is cached per operation: once it's known that
+ * an operation is not supported, the full query text is sent right away.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class PersistedQueries {
+    /**
+     * Transport to send the request body with
+     */
+    @FunctionalInterface
+    public interface Transport {
+        /**
+         * Send the request body and read the response
+         *
+         * @param requestBody GraphQL request body
+         * @return GraphQL errors node, if present in the response, null otherwise
+         * @throws Exception if the request has failed
+         */
+        JsonNode send(byte[] requestBody) throws Exception;
+    }
+
+    /**
+     * Persisted queries support of an operation
+     */
+    private enum Support {
+        SUPPORTED, UNSUPPORTED
+    }
+
+    private static final String QUERY = "query";
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String VERSION = "version";
+    private static final String SHA256_HASH = "sha256Hash";
+    private static final String MESSAGE = "message";
+    private static final String CODE = "code";
+    private static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+    private static final String PERSISTED_QUERY_NOT_FOUND_CODE = "PERSISTED_QUERY_NOT_FOUND";
+    private static final String PERSISTED_QUERY_NOT_SUPPORTED = "PersistedQueryNotSupported";
+    private static final String PERSISTED_QUERY_NOT_SUPPORTED_CODE = "PERSISTED_QUERY_NOT_SUPPORTED";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<String, Support> operationsSupport = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong fullQueryCount = new AtomicLong();
+
+    /**
+     * Create persisted queries support with the object mapper provided
+     *
+     * @param objectMapper to build the request bodies with
+     */
+    public PersistedQueries(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Execute GraphQL request, sending the query hash instead of the query text, if the operation supports it
+     *
+     * @param operation name of the operation, to cache persisted queries support for
+     * @param request   full GraphQL request body, with the query text
+     * @param transport to send the request with
+     * @return GraphQL errors node, if present in the final response, null otherwise
+     * @throws Exception if the request has failed
+     */
+    public JsonNode execute(String operation, String request, Transport transport) throws Exception {
+        Support support = operationsSupport.get(operation);
+        if (support == Support.UNSUPPORTED) {
+            fullQueryCount.incrementAndGet();
+            return transport.send(request.getBytes(StandardCharsets.UTF_8));
+        }
+        ObjectNode fullRequest = (ObjectNode) objectMapper.readTree(request);
+        JsonNode query = fullRequest.get(QUERY);
+        if (query == null || !query.isTextual()) {
+            fullQueryCount.incrementAndGet();
+            return transport.send(request.getBytes(StandardCharsets.UTF_8));
+        }
+        ObjectNode hashedRequest = fullRequest.deepCopy();
+        hashedRequest.remove(QUERY);
+        hashedRequest.putObject(EXTENSIONS).putObject(PERSISTED_QUERY).put(VERSION, 1).put(SHA256_HASH, sha256(query.asText()));
+
+        JsonNode errors = transport.send(objectMapper.writeValueAsBytes(hashedRequest));
+        if (errors == null) {
+            hitCount.incrementAndGet();
+            operationsSupport.put(operation, Support.SUPPORTED);
+            return null;
+        }
+        if (hasError(errors, PERSISTED_QUERY_NOT_FOUND, PERSISTED_QUERY_NOT_FOUND_CODE)) {
+            missCount.incrementAndGet();
+            fullRequest.set(EXTENSIONS, hashedRequest.get(EXTENSIONS));
+            errors = transport.send(objectMapper.writeValueAsBytes(fullRequest));
+            operationsSupport.put(operation, Support.SUPPORTED);
+            return errors;
+        }
+        boolean notSupported = hasError(errors, PERSISTED_QUERY_NOT_SUPPORTED, PERSISTED_QUERY_NOT_SUPPORTED_CODE);
+        if (support == Support.SUPPORTED && !notSupported) {
+            hitCount.incrementAndGet();
+            return errors;
+        }
+        // Either the server does not support persisted queries, or it's unknown yet whether the errors are caused
+        // by the missing query text. If the full query succeeds where the hash has failed - the operation
+        // is not sent by hash anymore, otherwise the errors are not related to persisted queries
+        fullQueryCount.incrementAndGet();
+        JsonNode fullQueryErrors = transport.send(request.getBytes(StandardCharsets.UTF_8));
+        if (notSupported || fullQueryErrors == null) {
+            operationsSupport.put(operation, Support.UNSUPPORTED);
+        }
+        return fullQueryErrors;
+    }
+
+    /**
+     * Check whether GraphQL errors contain persisted query error, that should be handled by resending the full query
+     *
+     * @param errors GraphQL errors node
+     * @return true if errors are caused by the persisted query not being found or not supported
+     */
+    public boolean isPersistedQueryError(JsonNode errors) {
+        return hasError(errors, PERSISTED_QUERY_NOT_FOUND, PERSISTED_QUERY_NOT_FOUND_CODE)
+                || hasError(errors, PERSISTED_QUERY_NOT_SUPPORTED, PERSISTED_QUERY_NOT_SUPPORTED_CODE);
+    }
+
+    /**
+     * Retrieves number of requests sent by query hash only
+     *
+     * @return value of {@link #hitCount}
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Retrieves number of requests resent with the query text, since the query hash was not known by the server
+     *
+     * @return value of {@link #missCount}
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Retrieves number of requests sent with the query text only, since persisted queries are not supported
+     *
+     * @return value of {@link #fullQueryCount}
+     */
+    public long getFullQueryCount() {
+        return fullQueryCount.get();
+    }
+
+    /**
+     * Forget persisted queries support of all the operations
+     */
+    public void clear() {
+        operationsSupport.clear();
+    }
+
+    /**
+     * Check whether GraphQL errors contain error with the message or code provided
+     *
+     * @param errors  GraphQL errors node
+     * @param message error message
+     * @param code    error extensions code
+     * @return true if any of the errors matches
+     */
+    private static boolean hasError(JsonNode errors, String message, String code) {
+        if (errors == null) {
+            return false;
+        }
+        for (JsonNode error : errors) {
+            if (message.equals(error.path(MESSAGE).asText()) || code.equals(error.path(EXTENSIONS).path(CODE).asText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calculate SHA-256 hash of the query text
+     *
+     * @param query text
+     * @return lowercase hex hash
+     */
+    static String sha256(String query) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        char[] hash = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hash[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+            hash[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xF];
+        }
+        return new String(hash);
+    }
+}
@@ -12,37 +12,50 @@ import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
 import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
-import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
-import com.avispl.symphony.dal.communicator.ppdswave.concurrent.DeviceLock;
+import com.avispl.symphony.dal.communicator.ppdswave.concurrent.ControlCommandBatcher;
+import com.avispl.symphony.dal.communicator.ppdswave.concurrent.ControlValueCoalescer;
+import com.avispl.symphony.dal.communicator.ppdswave.concurrent.DeviceLockManager;
+import com.avispl.symphony.dal.communicator.ppdswave.concurrent.ParallelTaskExecutor;
 import com.avispl.symphony.dal.communicator.ppdswave.dto.ReportedDataWrapper;
-import com.avispl.symphony.dal.communicator.ppdswave.dto.ResponseWrapper;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.ReportedValue;
 import com.avispl.symphony.dal.communicator.ppdswave.dto.display.*;
 import com.avispl.symphony.dal.communicator.ppdswave.dto.display.power.LatestJob;
 import com.avispl.symphony.dal.communicator.ppdswave.dto.display.power.PowerSchedule;
 import com.avispl.symphony.dal.communicator.ppdswave.dto.display.power.Schedule;
 import com.avispl.symphony.dal.communicator.ppdswave.dto.display.power.TimeBlock;
-import com.avispl.symphony.dal.communicator.ppdswave.dto.CustomerByHandle;
-import com.avispl.symphony.dal.communicator.ppdswave.dto.Data;
 import com.avispl.symphony.dal.communicator.ppdswave.dto.display.source.ContentSource;
 import com.avispl.symphony.dal.communicator.ppdswave.dto.display.source.Source;
+import com.avispl.symphony.dal.communicator.ppdswave.error.CircuitBreakerOpenException;
 import com.avispl.symphony.dal.communicator.ppdswave.error.PPDSWaveCommandExecutionException;
 import com.avispl.symphony.dal.util.StringUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
 
 import javax.security.auth.login.FailedLoginException;
 import java.io.*;
 import java.net.ConnectException;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import static com.avispl.symphony.dal.communicator.ppdswave.Constants.Utility.EMPTY;
@@ -93,12 +106,18 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
     /**
      * Process that is running constantly and triggers collecting data from Philips Wave API endpoints,
      * based on the given timeouts and thresholds.
+     * The loader does not poll: it is parked on {@link #collectionRequested} until either
+     * {@link #retrieveMultipleStatistics()} requests a new cycle, the regular collection interval elapses
+     * or the adapter is destroyed. While the aggregator is paused, the loader is not woken up at all.
      *
      * @author Maksym.Rossiytsev
      * @since 1.0.0
      */
     class PPDSDeviceDataLoader implements Runnable {
         private volatile boolean inProgress;
+        private boolean collectionTriggered;
+        private final ReentrantLock collectionLock = new ReentrantLock();
+        private final Condition collectionRequested = collectionLock.newCondition();
 
         public PPDSDeviceDataLoader() {
             inProgress = true;
@@ -106,39 +125,21 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
 
         @Override
         public void run() {
-            mainloop:
             while (inProgress) {
                 try {
-                    TimeUnit.MILLISECONDS.sleep(500);
+                    awaitNextCycle();
                 } catch (InterruptedException e) {
-                    if (logger.isWarnEnabled()) {
-                        logger.warn("Process was interrupted!", e);
-                    }
-                }
-
-                if (!inProgress) {
-                    break mainloop;
-                }
-
-                // next line will determine whether Philips Wave monitoring was paused
-                updateAggregatorStatus();
-                if (devicePaused) {
                     if (logger.isDebugEnabled()) {
-                        logger.debug("Philips Wave Aggregator is paused");
+                        logger.debug("Philips Wave devices data loader was interrupted, stopping.");
                     }
-                    continue mainloop;
+                    Thread.currentThread().interrupt();
+                    break;
                 }
-
-                while (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
-                    try {
-                        TimeUnit.MILLISECONDS.sleep(1000);
-                    } catch (InterruptedException e) {
-                        if (logger.isWarnEnabled()) {
-                            logger.warn("Process was interrupted!", e);
-                        }
-                    }
+                if (!inProgress) {
+                    break;
                 }
 
+                cycleDeadline = System.currentTimeMillis() + collectionCycleBudget;
                 boolean retrievedWithErrors = false;
                 try {
                     if (logger.isDebugEnabled()) {
@@ -154,7 +155,7 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
                         String code = String.valueOf(((CommandFailureException) e).getStatusCode());
                         latestErrors.put(code, e.getMessage());
                     }
-                    logger.error("Error occurred during device list retrieval", e);
+                    logRequestError("Error occurred during device list retrieval", e);
                 }
                 if (!retrievedWithErrors) {
                     latestErrors.clear();
@@ -163,13 +164,21 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
                 try {
                     processDeviceDetails();
                 } catch (Exception e) {
-                    logger.error("Unable to process devices details", e);
+                    logRequestError("Unable to process devices details", e);
+                } finally {
+                    cycleDeadline = Long.MAX_VALUE;
+                }
+                try {
+                    publishDeviceSnapshots();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
                 }
                 if (!inProgress) {
-                    break mainloop;
+                    break;
                 }
                 // We don't want to fetch devices statuses too often, so by default it's currentTime + 30s
-                // otherwise - the variable is reset by the retrieveMultipleStatistics() call, which
+                // otherwise - the cycle is triggered by the retrieveMultipleStatistics() call, which
                 // launches devices detailed statistics collection
                 nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + 30000;
 
@@ -180,11 +189,100 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
             // Finished collecting
         }
 
+        /**
+         * Block until the next collection cycle is due.
+         * The cycle is due whenever it was explicitly requested by {@link #triggerCollection()}, or
+         * {@link #nextDevicesCollectionIterationTimestamp} has passed while the aggregator is active.
+         * When the aggregator is paused, the thread waits without a timeout, so it's only woken up by
+         * {@link #triggerCollection()} or {@link #stop()}.
+         *
+         * @throws InterruptedException if the thread is interrupted while waiting
+         */
+        private void awaitNextCycle() throws InterruptedException {
+            collectionLock.lock();
+            try {
+                while (inProgress && !collectionTriggered) {
+                    long currentTimestamp = System.currentTimeMillis();
+                    if (validRetrieveStatisticsTimestamp < currentTimestamp) {
+                        if (!devicePaused && logger.isDebugEnabled()) {
+                            logger.debug("Philips Wave Aggregator is paused");
+                        }
+                        devicePaused = true;
+                        collectionRequested.await();
+                        continue;
+                    }
+                    long cycleDelay = nextDevicesCollectionIterationTimestamp - currentTimestamp;
+                    if (cycleDelay <= 0) {
+                        break;
+                    }
+                    collectionRequested.await(cycleDelay, TimeUnit.MILLISECONDS);
+                }
+                collectionTriggered = false;
+            } finally {
+                collectionLock.unlock();
+            }
+        }
+
+        /**
+         * Requests the next collection cycle to start immediately
+         */
+        public void triggerCollection() {
+            collectionLock.lock();
+            try {
+                collectionTriggered = true;
+                collectionRequested.signalAll();
+            } finally {
+                collectionLock.unlock();
+            }
+        }
+
         /**
          * Triggers main loop to stop
          */
         public void stop() {
             inProgress = false;
+            collectionLock.lock();
+            try {
+                collectionRequested.signalAll();
+            } finally {
+                collectionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Groups of display details, based on how often the data is expected to change.
+     * Each group is retrieved with a separate request and has its own refresh interval.
+     *
+     * @since 1.0.1
+     */
+    private enum DetailsTier {
+        HOT(Constants.GraphQLRequests.MonitoringRequests.DISPLAYS_DETAILS_REQUEST_HOT),
+        WARM(Constants.GraphQLRequests.MonitoringRequests.DISPLAYS_DETAILS_REQUEST_WARM),
+        COLD(Constants.GraphQLRequests.MonitoringRequests.DISPLAYS_DETAILS_REQUEST_COLD);
+
+        private final String request;
+
+        DetailsTier(String request) {
+            this.request = request;
+        }
+    }
+
+    /**
+     * Wave API operations, each one has its own {@link CircuitBreaker}
+     *
+     * @since 1.0.1
+     */
+    private enum ApiOperation {
+        CUSTOMERS("Customers"),
+        DISPLAYS_METADATA("DisplaysMetadata"),
+        DISPLAYS_DETAILS("DisplaysDetails"),
+        MUTATIONS("Mutations");
+
+        private final String name;
+
+        ApiOperation(String name) {
+            this.name = name;
         }
     }
 
@@ -224,6 +322,42 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
         this.deviceDetailsRetrievalTimeout = Math.max(defaultMetaDataTimeout, deviceDetailsRetrievalTimeout);
     }
 
+    /**
+     * Retrieves {@link #deviceWarmDetailsRetrievalTimeout}
+     *
+     * @return value of {@link #deviceWarmDetailsRetrievalTimeout}
+     */
+    public long getDeviceWarmDetailsRetrievalTimeout() {
+        return deviceWarmDetailsRetrievalTimeout;
+    }
+
+    /**
+     * Sets {@link #deviceWarmDetailsRetrievalTimeout} value
+     *
+     * @param deviceWarmDetailsRetrievalTimeout new value of {@link #deviceWarmDetailsRetrievalTimeout}
+     */
+    public void setDeviceWarmDetailsRetrievalTimeout(long deviceWarmDetailsRetrievalTimeout) {
+        this.deviceWarmDetailsRetrievalTimeout = Math.max(defaultMetaDataTimeout, deviceWarmDetailsRetrievalTimeout);
+    }
+
+    /**
+     * Retrieves {@link #deviceColdDetailsRetrievalTimeout}
+     *
+     * @return value of {@link #deviceColdDetailsRetrievalTimeout}
+     */
+    public long getDeviceColdDetailsRetrievalTimeout() {
+        return deviceColdDetailsRetrievalTimeout;
+    }
+
+    /**
+     * Sets {@link #deviceColdDetailsRetrievalTimeout} value
+     *
+     * @param deviceColdDetailsRetrievalTimeout new value of {@link #deviceColdDetailsRetrievalTimeout}
+     */
+    public void setDeviceColdDetailsRetrievalTimeout(long deviceColdDetailsRetrievalTimeout) {
+        this.deviceColdDetailsRetrievalTimeout = Math.max(defaultMetaDataTimeout, deviceColdDetailsRetrievalTimeout);
+    }
+
     /**
      * Retrieves {@link #customerHandleFilter}
      *
@@ -290,6 +424,330 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
         this.displayPropertyGroups = Arrays.stream(displayPropertyGroups.split(",")).map(String::trim).map(String::toLowerCase).collect(toList());
     }
 
+    /**
+     * Retrieves {@link #customerConcurrency}
+     *
+     * @return value of {@link #customerConcurrency}
+     */
+    public int getCustomerConcurrency() {
+        return customerConcurrency;
+    }
+
+    /**
+     * Sets {@link #customerConcurrency} value
+     *
+     * @param customerConcurrency new value of {@link #customerConcurrency}
+     */
+    public void setCustomerConcurrency(int customerConcurrency) {
+        this.customerConcurrency = Math.max(1, customerConcurrency);
+    }
+
+    /**
+     * Retrieves {@link #customerRetrievalTimeout}
+     *
+     * @return value of {@link #customerRetrievalTimeout}
+     */
+    public long getCustomerRetrievalTimeout() {
+        return customerRetrievalTimeout;
+    }
+
+    /**
+     * Sets {@link #customerRetrievalTimeout} value
+     *
+     * @param customerRetrievalTimeout new value of {@link #customerRetrievalTimeout}
+     */
+    public void setCustomerRetrievalTimeout(long customerRetrievalTimeout) {
+        this.customerRetrievalTimeout = Math.max(defaultCustomerRetrievalTimeout, customerRetrievalTimeout);
+    }
+
+    /**
+     * Retrieves {@link #displaysPageSize}
+     *
+     * @return value of {@link #displaysPageSize}
+     */
+    public int getDisplaysPageSize() {
+        return displaysPageSize;
+    }
+
+    /**
+     * Sets {@link #displaysPageSize} value
+     *
+     * @param displaysPageSize new value of {@link #displaysPageSize}
+     */
+    public void setDisplaysPageSize(int displaysPageSize) {
+        this.displaysPageSize = Math.max(0, displaysPageSize);
+    }
+
+    /**
+     * Retrieves {@link #controlBatchWindow}
+     *
+     * @return value of {@link #controlBatchWindow}
+     */
+    public long getControlBatchWindow() {
+        return controlBatchWindow;
+    }
+
+    /**
+     * Sets {@link #controlBatchWindow} value
+     *
+     * @param controlBatchWindow new value of {@link #controlBatchWindow}
+     */
+    public void setControlBatchWindow(long controlBatchWindow) {
+        this.controlBatchWindow = Math.max(0, controlBatchWindow);
+    }
+
+    /**
+     * Retrieves {@link #sliderDebounceWindow}
+     *
+     * @return value of {@link #sliderDebounceWindow}
+     */
+    public long getSliderDebounceWindow() {
+        return sliderDebounceWindow;
+    }
+
+    /**
+     * Sets {@link #sliderDebounceWindow} value
+     *
+     * @param sliderDebounceWindow new value of {@link #sliderDebounceWindow}
+     */
+    public void setSliderDebounceWindow(long sliderDebounceWindow) {
+        this.sliderDebounceWindow = Math.max(0, sliderDebounceWindow);
+    }
+
+    /**
+     * Retrieves {@link #deviceOnDemandRefreshThreshold}
+     *
+     * @return value of {@link #deviceOnDemandRefreshThreshold}
+     */
+    public long getDeviceOnDemandRefreshThreshold() {
+        return deviceOnDemandRefreshThreshold;
+    }
+
+    /**
+     * Sets {@link #deviceOnDemandRefreshThreshold} value
+     *
+     * @param deviceOnDemandRefreshThreshold new value of {@link #deviceOnDemandRefreshThreshold}
+     */
+    public void setDeviceOnDemandRefreshThreshold(long deviceOnDemandRefreshThreshold) {
+        this.deviceOnDemandRefreshThreshold = Math.max(0, deviceOnDemandRefreshThreshold);
+    }
+
+    /**
+     * Retrieves {@link #persistedQueriesEnabled}
+     *
+     * @return value of {@link #persistedQueriesEnabled}
+     */
+    public boolean isPersistedQueriesEnabled() {
+        return persistedQueriesEnabled;
+    }
+
+    /**
+     * Sets {@link #persistedQueriesEnabled} value
+     *
+     * @param persistedQueriesEnabled new value of {@link #persistedQueriesEnabled}
+     */
+    public void setPersistedQueriesEnabled(boolean persistedQueriesEnabled) {
+        this.persistedQueriesEnabled = persistedQueriesEnabled;
+    }
+
+    /**
+     * Retrieves {@link #connectionPoolSize}
+     *
+     * @return value of {@link #connectionPoolSize}
+     */
+    public int getConnectionPoolSize() {
+        return connectionPoolSize;
+    }
+
+    /**
+     * Sets {@link #connectionPoolSize} value
+     *
+     * @param connectionPoolSize new value of {@link #connectionPoolSize}
+     */
+    public void setConnectionPoolSize(int connectionPoolSize) {
+        this.connectionPoolSize = Math.max(1, connectionPoolSize);
+    }
+
+    /**
+     * Retrieves {@link #connectionKeepAlive}
+     *
+     * @return value of {@link #connectionKeepAlive}
+     */
+    public long getConnectionKeepAlive() {
+        return connectionKeepAlive;
+    }
+
+    /**
+     * Sets {@link #connectionKeepAlive} value
+     *
+     * @param connectionKeepAlive new value of {@link #connectionKeepAlive}
+     */
+    public void setConnectionKeepAlive(long connectionKeepAlive) {
+        this.connectionKeepAlive = Math.max(1000, connectionKeepAlive);
+    }
+
+    /**
+     * Retrieves {@link #requestRateLimit}
+     *
+     * @return value of {@link #requestRateLimit}
+     */
+    public double getRequestRateLimit() {
+        return requestRateLimit;
+    }
+
+    /**
+     * Sets {@link #requestRateLimit} value
+     *
+     * @param requestRateLimit new value of {@link #requestRateLimit}
+     */
+    public void setRequestRateLimit(double requestRateLimit) {
+        this.requestRateLimit = Math.max(1, requestRateLimit);
+    }
+
+    /**
+     * Retrieves {@link #circuitBreakerFailureThreshold}
+     *
+     * @return value of {@link #circuitBreakerFailureThreshold}
+     */
+    public int getCircuitBreakerFailureThreshold() {
+        return circuitBreakerFailureThreshold;
+    }
+
+    /**
+     * Sets {@link #circuitBreakerFailureThreshold} value
+     *
+     * @param circuitBreakerFailureThreshold new value of {@link #circuitBreakerFailureThreshold}
+     */
+    public void setCircuitBreakerFailureThreshold(int circuitBreakerFailureThreshold) {
+        this.circuitBreakerFailureThreshold = Math.max(1, circuitBreakerFailureThreshold);
+    }
+
+    /**
+     * Retrieves {@link #circuitBreakerOpenTime}
+     *
+     * @return value of {@link #circuitBreakerOpenTime}
+     */
+    public long getCircuitBreakerOpenTime() {
+        return circuitBreakerOpenTime;
+    }
+
+    /**
+     * Sets {@link #circuitBreakerOpenTime} value
+     *
+     * @param circuitBreakerOpenTime new value of {@link #circuitBreakerOpenTime}
+     */
+    public void setCircuitBreakerOpenTime(long circuitBreakerOpenTime) {
+        this.circuitBreakerOpenTime = Math.max(1000, circuitBreakerOpenTime);
+    }
+
+    /**
+     * Retrieves {@link #metadataRequestTimeout}
+     *
+     * @return value of {@link #metadataRequestTimeout}
+     */
+    public long getMetadataRequestTimeout() {
+        return metadataRequestTimeout;
+    }
+
+    /**
+     * Sets {@link #metadataRequestTimeout} value
+     *
+     * @param metadataRequestTimeout new value of {@link #metadataRequestTimeout}
+     */
+    public void setMetadataRequestTimeout(long metadataRequestTimeout) {
+        this.metadataRequestTimeout = Math.max(1000, metadataRequestTimeout);
+    }
+
+    /**
+     * Retrieves {@link #basicDetailsRequestTimeout}
+     *
+     * @return value of {@link #basicDetailsRequestTimeout}
+     */
+    public long getBasicDetailsRequestTimeout() {
+        return basicDetailsRequestTimeout;
+    }
+
+    /**
+     * Sets {@link #basicDetailsRequestTimeout} value
+     *
+     * @param basicDetailsRequestTimeout new value of {@link #basicDetailsRequestTimeout}
+     */
+    public void setBasicDetailsRequestTimeout(long basicDetailsRequestTimeout) {
+        this.basicDetailsRequestTimeout = Math.max(1000, basicDetailsRequestTimeout);
+    }
+
+    /**
+     * Retrieves {@link #detailedDetailsRequestTimeout}
+     *
+     * @return value of {@link #detailedDetailsRequestTimeout}
+     */
+    public long getDetailedDetailsRequestTimeout() {
+        return detailedDetailsRequestTimeout;
+    }
+
+    /**
+     * Sets {@link #detailedDetailsRequestTimeout} value
+     *
+     * @param detailedDetailsRequestTimeout new value of {@link #detailedDetailsRequestTimeout}
+     */
+    public void setDetailedDetailsRequestTimeout(long detailedDetailsRequestTimeout) {
+        this.detailedDetailsRequestTimeout = Math.max(1000, detailedDetailsRequestTimeout);
+    }
+
+    /**
+     * Retrieves {@link #controlRequestTimeout}
+     *
+     * @return value of {@link #controlRequestTimeout}
+     */
+    public long getControlRequestTimeout() {
+        return controlRequestTimeout;
+    }
+
+    /**
+     * Sets {@link #controlRequestTimeout} value
+     *
+     * @param controlRequestTimeout new value of {@link #controlRequestTimeout}
+     */
+    public void setControlRequestTimeout(long controlRequestTimeout) {
+        this.controlRequestTimeout = Math.max(1000, controlRequestTimeout);
+    }
+
+    /**
+     * Retrieves {@link #collectionCycleBudget}
+     *
+     * @return value of {@link #collectionCycleBudget}
+     */
+    public long getCollectionCycleBudget() {
+        return collectionCycleBudget;
+    }
+
+    /**
+     * Sets {@link #collectionCycleBudget} value
+     *
+     * @param collectionCycleBudget new value of {@link #collectionCycleBudget}
+     */
+    public void setCollectionCycleBudget(long collectionCycleBudget) {
+        this.collectionCycleBudget = Math.max(defaultCustomerRetrievalTimeout, collectionCycleBudget);
+    }
+
+    /**
+     * Retrieves {@link #hedgedRequestsEnabled}
+     *
+     * @return value of {@link #hedgedRequestsEnabled}
+     */
+    public boolean isHedgedRequestsEnabled() {
+        return hedgedRequestsEnabled;
+    }
+
+    /**
+     * Sets {@link #hedgedRequestsEnabled} value
+     *
+     * @param hedgedRequestsEnabled new value of {@link #hedgedRequestsEnabled}
+     */
+    public void setHedgedRequestsEnabled(boolean hedgedRequestsEnabled) {
+        this.hedgedRequestsEnabled = hedgedRequestsEnabled;
+    }
+
     /**
      * Adapter metadata, collected from the version.properties
      */
@@ -303,7 +761,22 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
     /**
      * Executor that runs all the async operations
      */
-    private static ExecutorService executorService;
+    private ExecutorService executorService;
+
+    /**
+     * Executor that collects data for multiple customer handles in parallel, see {@link #customerConcurrency}
+     */
+    private ParallelTaskExecutor customerTaskExecutor;
+
+    /**
+     * Collects control commands for multiple devices into bulk mutations, see {@link #BULK_CONTROL_COMMANDS}
+     */
+    private ControlCommandBatcher controlCommandBatcher;
+
+    /**
+     * Coalesces slider control values, so only the latest one is sent, see {@link #sliderDebounceWindow}
+     */
+    private ControlValueCoalescer sliderValueCoalescer;
 
     /**
      * Latest aggregator errors
@@ -327,10 +800,21 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
     private long deviceMetaDataRetrievalTimeout = 60 * 1000 * 10;
 
     /**
-     * Device details retrieval timeout. The device details are updated once during this time period.
+     * Device details retrieval timeout. The frequently changing device details ({@link DetailsTier#HOT}) are updated
+     * once during this time period.
      */
     private long deviceDetailsRetrievalTimeout = 60 * 1000 * 1;
 
+    /**
+     * Device details retrieval timeout for the details that change occasionally ({@link DetailsTier#WARM}).
+     */
+    private long deviceWarmDetailsRetrievalTimeout = 60 * 1000 * 5;
+
+    /**
+     * Device details retrieval timeout for the details that almost never change ({@link DetailsTier#COLD}).
+     */
+    private long deviceColdDetailsRetrievalTimeout = 60 * 1000 * 30;
+
     /**
      * Customer handle filter. The devices are only retrieved for the handle specified.
      */
@@ -346,6 +830,118 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
      */
     private List<String> displayPropertyGroups = new ArrayList<>();
 
+    /**
+     * Max number of customer handles that have their data collected at the same time
+     */
+    private int customerConcurrency = 4;
+
+    /**
+     * Minimal value of {@link #customerRetrievalTimeout}, to make sure there's enough time for one customer handle to be processed
+     */
+    private static final long defaultCustomerRetrievalTimeout = 10 * 1000;
+
+    /**
+     * Max time in ms allowed for a single customer handle data to be retrieved and processed.
+     * The deadline is counted per customer handle, from the moment its data retrieval is started.
+     */
+    private long customerRetrievalTimeout = 60 * 1000 * 2;
+
+    /**
+     * Max number of displays requested with a single displays details request. 0 means no paging,
+     * so all the displays of a customer are requested at once.
+     */
+    private int displaysPageSize = 0;
+
+    /**
+     * Time in ms within which the same control command with the same value, issued for different devices,
+     * is collected into a single bulk mutation. Commands are only collected while a bulk mutation of the same command
+     * and value is in progress, otherwise the command is sent right away. 0 means only the commands of a single
+     * {@link #controlProperties(List)} call are batched.
+     */
+    private long controlBatchWindow = 100;
+
+    /**
+     * Time in ms to wait for the next value of a slider control (volume, brightness) of the same device, before
+     * sending the latest value to the API. Intermediate values are only applied locally, and if the latest value
+     * could not be sent, the control value is restored to the one reported by the device. 0 (default) means every value
+     * is sent right away, and the control fails if the value could not be sent.
+     */
+    private long sliderDebounceWindow;
+
+    /**
+     * Age in ms after which the devices requested with {@link #retrieveMultipleStatistics(List)} have their
+     * frequently changing details ({@link DetailsTier#HOT}) refreshed on demand, outside the regular cycle.
+     * 0 means no on-demand refresh.
+     */
+    private long deviceOnDemandRefreshThreshold = 0;
+
+    /**
+     * Whether the displays requests are sent as automatic persisted queries: by the query hash, with the full query text
+     * sent only if the query is not known by the server yet, see {@link PersistedQueries}
+     */
+    private boolean persistedQueriesEnabled = true;
+
+    /**
+     * Max number of pooled connections to the Wave API, shared by the details collection and control operations.
+     * Control requests have {@link GraphQLClient#CONTROL_CONCURRENCY} more connections on top of it.
+     */
+    private int connectionPoolSize = 20;
+
+    /**
+     * Max time in ms an idle pooled connection is kept alive
+     */
+    private long connectionKeepAlive = 60 * 1000;
+
+    /**
+     * Max number of requests per second sent to the Wave API, shared by all the operations.
+     * The actual rate is lowered when the API responds with 429 (Too Many Requests), see {@link RequestRateLimiter}
+     */
+    private double requestRateLimit = 10;
+
+    /**
+     * Number of consecutive failed requests of an API operation, after which the requests of the operation
+     * are rejected without being sent, see {@link CircuitBreaker}
+     */
+    private int circuitBreakerFailureThreshold = 3;
+
+    /**
+     * Time in ms the requests of a failing API operation are rejected for, before a probe request is sent.
+     * Doubled with every failed probe, up to 5 minutes.
+     */
+    private long circuitBreakerOpenTime = 10 * 1000;
+
+    /**
+     * Max time in ms for the customers and displays metadata requests
+     */
+    private long metadataRequestTimeout = 30 * 1000;
+
+    /**
+     * Max time in ms for the frequently changing displays details requests ({@link DetailsTier#HOT})
+     */
+    private long basicDetailsRequestTimeout = 15 * 1000;
+
+    /**
+     * Max time in ms for the rest of the displays details requests ({@link DetailsTier#WARM}, {@link DetailsTier#COLD})
+     */
+    private long detailedDetailsRequestTimeout = 30 * 1000;
+
+    /**
+     * Max time in ms for the control requests
+     */
+    private long controlRequestTimeout = 15 * 1000;
+
+    /**
+     * Max time in ms for all the requests of a collection cycle. Requests of a cycle have their timeouts limited to
+     * the time left in the cycle budget, so a single slow response does not delay the whole cycle.
+     */
+    private long collectionCycleBudget = 60 * 1000 * 2;
+
+    /**
+     * Whether the monitoring requests are hedged: if a request takes longer than 95% of the latest requests
+     * of the same operation, a duplicate request is sent, and the response that arrives first is used
+     */
+    private boolean hedgedRequestsEnabled = false;
+
     /**
      * Aggregator inactivity timeout. If the {@link PhilipsWaveAggregatorCommunicator#retrieveMultipleStatistics()}  method is not
      * called during this period of time - device is considered to be paused, thus the Cloud API
@@ -360,10 +956,97 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
     private volatile long validDeviceMetaDataRetrievalPeriodTimestamp;
 
     /**
-     * Time period within which the device details cannot be refreshed.
-     * Ignored if device list is not yet retrieved or the cached device list is empty {@link PhilipsWaveAggregatorCommunicator#aggregatedDevices}
+     * Timestamps of when each of the device details tiers can be refreshed next time.
+     * Ignored if device list is not yet retrieved or there are devices with no details retrieved yet
+     */
+    private final Map<DetailsTier, Long> detailsTierRetrievalTimestamps = new ConcurrentHashMap<>();
+
+    /**
+     * Latest display details of every {@link DetailsTier} response, indexed by tier ordinal, by display id.
+     * Tier arrays are never modified once published, a tier response replaces the whole array.
+     */
+    private final ConcurrentHashMap<String, Display[]> displayStates = new ConcurrentHashMap<>();
+
+    /**
+     * Maps display details to the aggregated devices properties and controls
+     */
+    private final DisplayPropertiesMapper displayPropertiesMapper = new DisplayPropertiesMapper();
+
+    /**
+     * Fingerprints of the display details, to skip mapping of the displays that have not changed
+     */
+    private final DisplayFingerprints displayFingerprints = new DisplayFingerprints(DetailsTier.values().length);
+
+    /**
+     * Controls of the aggregated devices, by device id
+     */
+    private final ConcurrentHashMap<String, DeviceControls> deviceControls = new ConcurrentHashMap<>();
+
+    /**
+     * Alerts of the displays, accumulated incrementally
+     */
+    private final DisplayAlerts displayAlerts = new DisplayAlerts();
+
+    /**
+     * Number of stale device properties and dynamic statistics, swept after the display mapping
+     */
+    private final AtomicLong sweptProperties = new AtomicLong();
+
+    /**
+     * Latest customer playlists, by customer handle
+     */
+    private final ConcurrentHashMap<String, List<Playlist>> customerPlaylists = new ConcurrentHashMap<>();
+
+    /**
+     * Device ids by customer handle, used to reconcile {@link #aggregatedDevices} with the retrieved devices list
+     */
+    private final DeviceMembershipTracker deviceMembershipTracker = new DeviceMembershipTracker();
+
+    /**
+     * Object mapper to decode display details into {@link Display}
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * Persisted queries support of the displays requests
+     */
+    private final PersistedQueries persistedQueries = new PersistedQueries(objectMapper);
+
+    /**
+     * Response compression negotiation and decoding of the GraphQL requests
+     */
+    private final ContentEncodingInterceptor contentEncodingInterceptor = new ContentEncodingInterceptor();
+
+    /**
+     * Dedicated pooled http transport of the GraphQL requests, see {@link PooledHttpTransport}
+     */
+    private volatile PooledHttpTransport httpTransport;
+
+    /**
+     * Request rate limiter of the GraphQL requests, see {@link RequestRateLimiter}
+     */
+    private volatile RequestRateLimiter rateLimiter;
+
+    /**
+     * Circuit breakers of the Wave API operations
+     */
+    private volatile Map<ApiOperation, CircuitBreaker> circuitBreakers = Collections.emptyMap();
+
+    /**
+     * Asynchronous client of the GraphQL requests, executing the requests with at most {@link #connectionPoolSize}
+     * request threads, so every request thread has a pooled connection available
+     */
+    private volatile GraphQLClient graphQLClient;
+
+    /**
+     * Whether the request bodies are gzip compressed, same as {@link RestCommunicator#setEnableCompression(boolean)}
+     */
+    private boolean requestCompressionEnabled;
+
+    /**
+     * Min request body size to compress, same as {@link RestCommunicator#setCompressionMinSize(int)}
      */
-    private volatile long validDeviceDetailsRetrievalPeriodTimestamp;
+    private int requestCompressionMinSize;
 
     /**
      * Devices this aggregator is responsible for
@@ -371,26 +1054,80 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
      */
     private final ConcurrentHashMap<String, AggregatedDevice> aggregatedDevices = new ConcurrentHashMap<>();
 
+    /**
+     * Published snapshots of {@link #aggregatedDevices}, returned by {@link #retrieveMultipleStatistics()}
+     */
+    private final DeviceSnapshots deviceSnapshots = new DeviceSnapshots();
+
+    /**
+     * Ids of the devices that were mapped again since their latest snapshot was created, so only these devices
+     * get new snapshots at the end of the collection cycle
+     */
+    private final Set<String> remappedDeviceIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Ids of the devices that have an on-demand details refresh in progress, see {@link #deviceOnDemandRefreshThreshold}
+     */
+    private final Set<String> onDemandRefreshDeviceIds = ConcurrentHashMap.newKeySet();
+
     /**
      * Selected content source for existing devices. It is grants proper content source dropdowns and selected options rendered
      */
     private final ConcurrentHashMap<String, String> deviceSelectedContentSource = new ConcurrentHashMap<>();
 
     /**
-     * Reentrant lock to avoid altering device's controls and properties while control operation is in progress.
+     * Per-device locks to avoid altering device's controls and properties while control operation is in progress.
      * Normally, control operations imply that the current control value is changed to the new one, so we need to make
-     * sure they are updated in the right order
+     * sure they are updated in the right order. Control operations have priority over the details refresh.
      */
-    private final DeviceLock controlOperationsLock = new DeviceLock();
+    private final DeviceLockManager deviceLockManager = new DeviceLockManager();
+
+    /**
+     * Max time in ms a control operation waits for the device lock
+     */
+    private static final long CONTROL_LOCK_TIMEOUT = 10 * 1000;
+
+    /**
+     * Max time in ms the details refresh waits for the device lock, before the device is skipped until the next cycle
+     */
+    private static final long REFRESH_LOCK_TIMEOUT = 500;
+
+    /**
+     * Control commands that are executed with displayBulk* mutations, so the same command with the same value
+     * can be executed for multiple displays with a single request
+     */
+    private static final Set<String> BULK_CONTROL_COMMANDS = new HashSet<>(Arrays.asList(
+            Constants.ControlProperties.CONTROL_POWER_REBOOT,
+            Constants.ControlProperties.CONTROL_VIDEO_BRIGHTNESS,
+            Constants.ControlProperties.CONTROL_VIDEO_INPUT_SOURCE,
+            Constants.ControlProperties.CONTROL_PLAYLIST_SOURCE,
+            Constants.ControlProperties.CONTROL_BOOKMARK_SOURCE,
+            Constants.ControlProperties.CONTROL_APPLICATION_SOURCE,
+            Constants.ControlProperties.CONTROL_IR_CONTROL,
+            Constants.ControlProperties.CONTROL_KEYBOARD_CONTROL,
+            Constants.ControlProperties.CONTROL_LED_COLOR,
+            Constants.ControlProperties.CONTROL_PORTS_CONTROL));
+
+    /**
+     * Operation name of the displays metadata request, to cache persisted queries support for
+     */
+    private static final String DISPLAYS_METADATA_OPERATION = "DisplaysMetadata";
 
     /**
      * We don't want the statistics to be collected constantly, because if there's not a big list of devices -
      * new devices statistics loop will be launched before the next monitoring iteration. To avoid that -
      * this variable stores a timestamp which validates it, so when the devices statistics is done collecting, variable
-     * is set to currentTime + 30s, at the same time, calling {@link #retrieveMultipleStatistics()} and updating the
-     * {@link #aggregatedDevices} resets it to the currentTime timestamp, which will re-activate data collection.
+     * is set to currentTime + 30s, at the same time, calling {@link #retrieveMultipleStatistics()}
+     * triggers the next cycle directly, which will re-activate data collection.
+     */
+    private volatile long nextDevicesCollectionIterationTimestamp;
+
+    /**
+     * Time when the {@link #collectionCycleBudget} of the current collection cycle runs out, or {@link Long#MAX_VALUE}
+     * if there's no collection cycle running. Requests sent during the cycle, including the on-demand refresh
+     * requests, have their timeouts limited to the time left.
      */
-    private static long nextDevicesCollectionIterationTimestamp;
+    private volatile long cycleDeadline = Long.MAX_VALUE;
 
     /**
      * This parameter holds timestamp of when we need to stop performing API calls
@@ -417,9 +1154,9 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
     private long adapterInitializationTimestamp;
 
     /**
-     * Aggregated device processor, for automatic response json processing, based on the model-mapping.yml configuration
+     * Displays model mapping, compiled from the model-mapping.yml configuration once on init
      */
-    AggregatedDeviceProcessor aggregatedDeviceProcessor;
+    ModelMappingPlan displayMappingPlan;
 
     public PhilipsWaveAggregatorCommunicator() {
     }
@@ -428,18 +1165,39 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
     protected void internalInit() throws Exception {
         models = new PropertiesMappingParser()
                 .loadYML("mapping/model-mapping.yml", getClass());
-        aggregatedDeviceProcessor = new AggregatedDeviceProcessor(models);
+        displayMappingPlan = new ModelMappingPlan(models.get("Generic"));
 
         adapterProperties = new Properties();
         adapterProperties.load(getClass().getResourceAsStream("/version.properties"));
 
         executorService = Executors.newCachedThreadPool();
+        customerTaskExecutor = new ParallelTaskExecutor(customerConcurrency);
+        controlCommandBatcher = new ControlCommandBatcher(this::executeBulkCommand, controlBatchWindow, executorService);
+        if (sliderDebounceWindow > 0) {
+            sliderValueCoalescer = new ControlValueCoalescer(this::sendSliderValue, this::onSliderValueFailure, sliderDebounceWindow, executorService);
+        }
+        this.setBaseUri("/graphql");
+        this.setTrustAllCertificates(true);
+        rateLimiter = new RequestRateLimiter(requestRateLimit);
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+        interceptors.add(rateLimiter);
+        if (requestCompressionEnabled) {
+            RestCommunicator.GzipHttpRequestInterceptor requestCompressionInterceptor = new RestCommunicator.GzipHttpRequestInterceptor();
+            requestCompressionInterceptor.setCompressionMinSize(requestCompressionMinSize);
+            interceptors.add(requestCompressionInterceptor);
+        }
+        interceptors.add(contentEncodingInterceptor);
+        httpTransport = new PooledHttpTransport(connectionPoolSize + GraphQLClient.CONTROL_CONCURRENCY, connectionKeepAlive, getTimeout(), getTrustAllCertificates(), interceptors);
+        graphQLClient = new GraphQLClient(request -> doPost(EMPTY_STRING, request, JsonNode.class), objectMapper, rateLimiter, connectionPoolSize, hedgedRequestsEnabled);
+        Map<ApiOperation, CircuitBreaker> operationCircuitBreakers = new EnumMap<>(ApiOperation.class);
+        for (ApiOperation operation : ApiOperation.values()) {
+            operationCircuitBreakers.put(operation, new CircuitBreaker(operation.name, circuitBreakerFailureThreshold, circuitBreakerOpenTime));
+        }
+        circuitBreakers = operationCircuitBreakers;
+
         adapterInitializationTimestamp = System.currentTimeMillis();
         executorService.submit(deviceDataLoader = new PPDSDeviceDataLoader());
         validDeviceMetaDataRetrievalPeriodTimestamp = System.currentTimeMillis();
-        validDeviceDetailsRetrievalPeriodTimestamp = System.currentTimeMillis();
-        this.setBaseUri("/graphql");
-        this.setTrustAllCertificates(true);
         super.internalInit();
     }
 
@@ -456,11 +1214,49 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
             deviceDataLoader.stop();
             deviceDataLoader = null;
         }
+        // batcher and coalescer submit to the executor service, so they are stopped before it
+        if (controlCommandBatcher != null) {
+            controlCommandBatcher.shutdown();
+            controlCommandBatcher = null;
+        }
+        if (sliderValueCoalescer != null) {
+            sliderValueCoalescer.shutdown();
+            sliderValueCoalescer = null;
+        }
+        if (graphQLClient != null) {
+            graphQLClient.shutdown();
+            graphQLClient = null;
+        }
+        rateLimiter = null;
+        circuitBreakers = Collections.emptyMap();
+        if (httpTransport != null) {
+            try {
+                httpTransport.close();
+            } catch (IOException e) {
+                logger.warn("Unable to close http transport", e);
+            }
+            httpTransport = null;
+        }
         if (executorService != null) {
             executorService.shutdownNow();
             executorService = null;
         }
+        if (customerTaskExecutor != null) {
+            customerTaskExecutor.shutdown();
+            customerTaskExecutor = null;
+        }
         aggregatedDevices.clear();
+        deviceSnapshots.clear();
+        remappedDeviceIds.clear();
+        onDemandRefreshDeviceIds.clear();
+        displayStates.clear();
+        displayFingerprints.clear();
+        displayAlerts.clear();
+        persistedQueries.clear();
+        deviceControls.clear();
+        deviceMembershipTracker.clear();
+        customerPlaylists.clear();
+        detailsTierRetrievalTimestamps.clear();
         latestErrors.clear();
         deviceSelectedContentSource.clear();
         super.internalDestroy();
@@ -472,7 +1268,9 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
         String command = controllableProperty.getProperty();
         String value = String.valueOf(controllableProperty.getValue());
 
-        controlOperationsLock.tryLock(deviceId);
+        if (!deviceLockManager.lockForControl(deviceId, CONTROL_LOCK_TIMEOUT)) {
+            throw controlLockTimeout(command, deviceId);
+        }
         try {
             boolean controlPropagated = true;
             switch (command) {
@@ -480,25 +1278,26 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
                     commandChangeMuteStatus(deviceId, String.valueOf("1".equals(value)));
                     break;
                 case Constants.ControlProperties.CONTROL_AUDIO_VOLUME:
-                    commandChangeVolume(deviceId, value);
-                    break;
                 case Constants.ControlProperties.CONTROL_VIDEO_BRIGHTNESS:
-                    commandChangeBrightness(deviceId, value);
+                    if (sliderValueCoalescer != null) {
+                        sliderValueCoalescer.submit(deviceId, command, value);
+                    } else {
+                        sendSliderValue(deviceId, command, value);
+                    }
                     break;
                 case Constants.ControlProperties.CONTROL_VIDEO_ORIENTATION:
                     commandChangeOrientation(deviceId, value);
                     break;
+                case Constants.ControlProperties.CONTROL_POWER_REBOOT:
                 case Constants.ControlProperties.CONTROL_VIDEO_INPUT_SOURCE:
-                    commandChangeInput(deviceId, value);
-                    break;
                 case Constants.ControlProperties.CONTROL_BOOKMARK_SOURCE:
-                    commandChangeBookmark(deviceId, value);
-                    break;
                 case Constants.ControlProperties.CONTROL_APPLICATION_SOURCE:
-                    commandChangeApplication(deviceId, value);
-                    break;
                 case Constants.ControlProperties.CONTROL_PLAYLIST_SOURCE:
-                    commandChangePlaylist(deviceId, value);
+                case Constants.ControlProperties.CONTROL_IR_CONTROL:
+                case Constants.ControlProperties.CONTROL_KEYBOARD_CONTROL:
+                case Constants.ControlProperties.CONTROL_LED_COLOR:
+                case Constants.ControlProperties.CONTROL_PORTS_CONTROL:
+                    controlCommandBatcher.execute(command, value, deviceId);
                     break;
                 case Constants.ControlProperties.CONTROL_CONTENT_SOURCE:
                     commandChangeContentSourceType(deviceId, value);
@@ -509,24 +1308,9 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
                 case Constants.ControlProperties.CONTROL_SCREENSHOT_CREATE:
                     commandTakeScreenshot(deviceId);
                     break;
-                case Constants.ControlProperties.CONTROL_POWER_REBOOT:
-                    commandReboot(deviceId);
-                    break;
-                case Constants.ControlProperties.CONTROL_IR_CONTROL:
-                    commandChangeIRMode(deviceId, value);
-                    break;
-                case Constants.ControlProperties.CONTROL_KEYBOARD_CONTROL:
-                    commandChangeKeyboardMode(deviceId, value);
-                    break;
-                case Constants.ControlProperties.CONTROL_LED_COLOR:
-                    commandChangeLedColor(deviceId, value);
-                    break;
                 case Constants.ControlProperties.CONTROL_ALIAS:
                     commandChangeAlias(deviceId, value);
                     break;
-                case Constants.ControlProperties.CONTROL_PORTS_CONTROL:
-                    commandChangePortsControlState(deviceId, value);
-                    break;
                 default:
                     if (logger.isWarnEnabled()) {
                         logger.warn(String.format("Unable to execute %s command on device %s: Not Supported", command, deviceId));
@@ -534,22 +1318,226 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
                     controlPropagated = false;
                     break;
             }
-            if (controlPropagated) {
-                updateLocalControlValue(deviceId, command, value);
+            if (controlPropagated) {
+                updateLocalControlValue(deviceId, command, value);
+                publishDeviceSnapshots(Collections.singletonList(deviceId));
+            }
+        } finally {
+            deviceLockManager.unlockControl(deviceId);
+        }
+    }
+
+    @Override
+    public void controlProperties(List<ControllableProperty> controlProperties) throws Exception {
+        if (CollectionUtils.isEmpty(controlProperties)) {
+            throw new IllegalArgumentException("Controllable properties cannot be null or empty");
+        }
+        Map<String, List<ControllableProperty>> bulkControls = new LinkedHashMap<>();
+        for (ControllableProperty controllableProperty : controlProperties) {
+            String command = controllableProperty.getProperty();
+            if (BULK_CONTROL_COMMANDS.contains(command)) {
+                bulkControls.computeIfAbsent(command + '\n' + controllableProperty.getValue(), key -> new ArrayList<>()).add(controllableProperty);
+            } else {
+                controlProperty(controllableProperty);
+            }
+        }
+        if (bulkControls.isEmpty()) {
+            return;
+        }
+
+        // every device has its own result, so the devices the command was applied to are updated even if it failed for others
+        Map<ControllableProperty, CompletableFuture<Void>> bulkResults = new LinkedHashMap<>();
+        List<String> lockedDeviceIds = new ArrayList<>();
+        Exception failure = null;
+        try {
+            for (List<ControllableProperty> properties : bulkControls.values()) {
+                List<ControllableProperty> lockedProperties = new ArrayList<>();
+                for (ControllableProperty property : properties) {
+                    if (deviceLockManager.lockForControl(property.getDeviceId(), CONTROL_LOCK_TIMEOUT)) {
+                        lockedDeviceIds.add(property.getDeviceId());
+                        lockedProperties.add(property);
+                    } else {
+                        failure = addControlFailure(failure, controlLockTimeout(property.getProperty(), property.getDeviceId()));
+                    }
+                }
+                if (lockedProperties.isEmpty()) {
+                    continue;
+                }
+                ControllableProperty firstProperty = lockedProperties.get(0);
+                List<String> deviceIds = lockedProperties.stream().map(ControllableProperty::getDeviceId).collect(toList());
+                Map<String, CompletableFuture<Void>> deviceResults = controlCommandBatcher.submit(firstProperty.getProperty(), String.valueOf(firstProperty.getValue()), deviceIds);
+                lockedProperties.forEach(property -> bulkResults.put(property, deviceResults.get(property.getDeviceId())));
+            }
+            List<String> controlledDeviceIds = new ArrayList<>();
+            for (Map.Entry<ControllableProperty, CompletableFuture<Void>> bulkResult : bulkResults.entrySet()) {
+                ControllableProperty property = bulkResult.getKey();
+                try {
+                    ControlCommandBatcher.await(bulkResult.getValue());
+                    updateLocalControlValue(property.getDeviceId(), property.getProperty(), String.valueOf(property.getValue()));
+                    controlledDeviceIds.add(property.getDeviceId());
+                } catch (Exception e) {
+                    logger.error(String.format("Unable to execute bulk control command %s for the device with id %s", property.getProperty(), property.getDeviceId()), e);
+                    failure = addControlFailure(failure, e);
+                }
+            }
+            publishDeviceSnapshots(controlledDeviceIds);
+        } finally {
+            lockedDeviceIds.forEach(deviceLockManager::unlockControl);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Collect control failure of a device, so the first failure is reported with the failures of other devices suppressed
+     *
+     * @param failure previous control failure, or null if there's none
+     * @param error   control failure of the device
+     * @return control failure to report
+     */
+    private Exception addControlFailure(Exception failure, Exception error) {
+        if (failure == null) {
+            return error;
+        }
+        failure.addSuppressed(error);
+        return failure;
+    }
+
+    /**
+     * Create control failure for the device that could not be locked for the control operation in time
+     *
+     * @param command  name of the control command
+     * @param deviceId id of the device
+     * @return control command execution failure
+     */
+    private PPDSWaveCommandExecutionException controlLockTimeout(String command, String deviceId) {
+        return new PPDSWaveCommandExecutionException(String.format("Unable to execute %s command for the device with id %s: device is locked by another operation for more than %d ms",
+                command, deviceId, CONTROL_LOCK_TIMEOUT), null);
+    }
+
+    /**
+     * Send slider control value: volume is sent for a single display, brightness goes through {@link #controlCommandBatcher}
+     *
+     * @param deviceId to send the value for
+     * @param property name of the slider control
+     * @param value    new slider value
+     * @throws Exception if there's an error during command execution
+     */
+    private void sendSliderValue(String deviceId, String property, String value) throws Exception {
+        if (Constants.ControlProperties.CONTROL_AUDIO_VOLUME.equals(property)) {
+            commandChangeVolume(deviceId, value);
+        } else {
+            controlCommandBatcher.execute(property, value, deviceId);
+        }
+    }
+
+    /**
+     * Handle the slider value that could not be sent by {@link #sliderValueCoalescer}. The control was already reported
+     * as succeeded, so if the value is the latest one, the control value is restored to the one reported by the device,
+     * and the device is mapped again with the next details update.
+     *
+     * @param deviceId the value was sent for
+     * @param property name of the slider control
+     * @param latest   whether there's no newer value of the slider pending
+     * @param error    send error
+     */
+    private void onSliderValueFailure(String deviceId, String property, boolean latest, Exception error) {
+        logger.error(String.format("Unable to send %s control value for the device with id %s", property, deviceId), error);
+        if (!latest) {
+            return;
+        }
+        try {
+            if (!deviceLockManager.lockForControl(deviceId, CONTROL_LOCK_TIMEOUT)) {
+                displayFingerprints.invalidate(deviceId);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            Display[] displayTiers = displayStates.get(deviceId);
+            Display display = displayTiers == null ? null : Display.merge(displayTiers);
+            ReportedValue<Integer> reportedValue = null;
+            if (display != null && Constants.ControlProperties.CONTROL_AUDIO_VOLUME.equals(property)) {
+                reportedValue = display.getVolume() == null ? null : display.getVolume().getLevel();
+            } else if (display != null) {
+                reportedValue = display.getBrightness();
+            }
+            if (reportedValue != null && reportedValue.getReported() != null) {
+                updateLocalControlValue(deviceId, property, String.valueOf(reportedValue.getReported()));
+                publishDeviceSnapshots(Collections.singletonList(deviceId));
+            } else {
+                displayFingerprints.invalidate(deviceId);
             }
         } finally {
-            controlOperationsLock.unlock(deviceId);
+            deviceLockManager.unlockControl(deviceId);
         }
     }
 
-    @Override
-    public void controlProperties(List<ControllableProperty> controlProperties) throws Exception {
-        if (CollectionUtils.isEmpty(controlProperties)) {
-            throw new IllegalArgumentException("Controllable properties cannot be null or empty");
+    /**
+     * Execute bulk control command for multiple displays with a single displayBulk* mutation
+     *
+     * @param command    name of the control command, one of {@link #BULK_CONTROL_COMMANDS}
+     * @param value      control command value
+     * @param displayIds to execute command for
+     * @return ids of the displays reported back by the mutation, or null if the response does not contain them
+     * @throws Exception if there's an error during command execution
+     */
+    private Set<String> executeBulkCommand(String command, String value, List<String> displayIds) throws Exception {
+        JsonNode response;
+        switch (command) {
+            case Constants.ControlProperties.CONTROL_POWER_REBOOT:
+                response = commandReboot(displayIds);
+                break;
+            case Constants.ControlProperties.CONTROL_VIDEO_BRIGHTNESS:
+                response = commandChangeBrightness(displayIds, value);
+                break;
+            case Constants.ControlProperties.CONTROL_VIDEO_INPUT_SOURCE:
+                response = commandChangeInput(displayIds, value);
+                break;
+            case Constants.ControlProperties.CONTROL_BOOKMARK_SOURCE:
+                response = commandChangeBookmark(displayIds, value);
+                break;
+            case Constants.ControlProperties.CONTROL_APPLICATION_SOURCE:
+                response = commandChangeApplication(displayIds, value);
+                break;
+            case Constants.ControlProperties.CONTROL_PLAYLIST_SOURCE:
+                response = commandChangePlaylist(displayIds, value);
+                break;
+            case Constants.ControlProperties.CONTROL_IR_CONTROL:
+                response = commandChangeIRMode(displayIds, value);
+                break;
+            case Constants.ControlProperties.CONTROL_KEYBOARD_CONTROL:
+                response = commandChangeKeyboardMode(displayIds, value);
+                break;
+            case Constants.ControlProperties.CONTROL_LED_COLOR:
+                response = commandChangeLedColor(displayIds, value);
+                break;
+            case Constants.ControlProperties.CONTROL_PORTS_CONTROL:
+                response = commandChangePortsControlState(displayIds, value);
+                break;
+            default:
+                throw new IllegalArgumentException(String.format("Command %s is not supported as a bulk command", command));
         }
-        for (ControllableProperty controllableProperty : controlProperties) {
-            controlProperty(controllableProperty);
+        if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Bulk command %s with value %s executed for %d displays", command, value, displayIds.size()));
         }
+        JsonNode data = response == null ? null : response.get(Constants.GraphQLProperties.GQL_FIELD_DATA);
+        if (data == null || !data.isObject() || data.size() == 0) {
+            if (response != null && response.has(Constants.GraphQLProperties.GQL_FIELD_ERRORS)) {
+                throw new PPDSWaveCommandExecutionException(String.format("Bulk command %s with value %s failed: %s", command, value, response.get(Constants.GraphQLProperties.GQL_FIELD_ERRORS)), null);
+            }
+            return null;
+        }
+        JsonNode displays = data.elements().next().get(Constants.GraphQLProperties.GQL_FIELD_DISPLAYS);
+        if (displays == null || !displays.isArray()) {
+            return null;
+        }
+        Set<String> appliedIds = new HashSet<>();
+        displays.forEach(display -> appliedIds.add(display.at(Constants.GraphQLProperties.GQL_PATH_ID).asText()));
+        return appliedIds;
     }
 
     @Override
@@ -560,6 +1548,61 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
         apiProperties.put("AdapterVersion", adapterProperties.getProperty("aggregator.version"));
         apiProperties.put("AdapterBuildDate", adapterProperties.getProperty("aggregator.build.date"));
         apiProperties.put("AdapterUptime", normalizeUptime((System.currentTimeMillis() - adapterInitializationTimestamp) / 1000));
+        apiProperties.put(Constants.MonitoredProperties.DEVICES_TOTAL, String.valueOf(deviceMembershipTracker.getDevicesCount()));
+        apiProperties.put(Constants.MonitoredProperties.DEVICES_ADDED, String.valueOf(deviceMembershipTracker.getAddedCount()));
+        apiProperties.put(Constants.MonitoredProperties.DEVICES_REMOVED, String.valueOf(deviceMembershipTracker.getRemovedCount()));
+        apiProperties.put(Constants.MonitoredProperties.DISPLAY_MAPPING_SKIPPED, String.valueOf(displayFingerprints.getHitCount()));
+        apiProperties.put(Constants.MonitoredProperties.DISPLAY_MAPPING_MAPPED, String.valueOf(displayFingerprints.getMissCount()));
+        apiProperties.put(Constants.MonitoredProperties.DISPLAY_MAPPING_SWEPT_PROPERTIES, String.valueOf(sweptProperties.get()));
+        if (persistedQueriesEnabled) {
+            apiProperties.put(Constants.MonitoredProperties.PERSISTED_QUERIES_HITS, String.valueOf(persistedQueries.getHitCount()));
+            apiProperties.put(Constants.MonitoredProperties.PERSISTED_QUERIES_MISSES, String.valueOf(persistedQueries.getMissCount()));
+            apiProperties.put(Constants.MonitoredProperties.PERSISTED_QUERIES_FULL_QUERIES, String.valueOf(persistedQueries.getFullQueryCount()));
+        }
+        PooledHttpTransport transport = httpTransport;
+        if (transport != null) {
+            apiProperties.put(Constants.MonitoredProperties.CONNECTION_POOL_LEASED, String.valueOf(transport.getLeasedConnections()));
+            apiProperties.put(Constants.MonitoredProperties.CONNECTION_POOL_IDLE, String.valueOf(transport.getIdleConnections()));
+            apiProperties.put(Constants.MonitoredProperties.CONNECTION_POOL_PENDING, String.valueOf(transport.getPendingRequests()));
+            apiProperties.put(Constants.MonitoredProperties.CONNECTION_POOL_OPENED, String.valueOf(transport.getOpenedConnections()));
+        }
+        GraphQLClient client = graphQLClient;
+        if (client != null) {
+            apiProperties.put(Constants.MonitoredProperties.GRAPHQL_ACTIVE_REQUESTS, String.valueOf(client.getActiveRequests()));
+            apiProperties.put(Constants.MonitoredProperties.GRAPHQL_QUEUED_REQUESTS, String.valueOf(client.getQueuedRequests()));
+            apiProperties.put(Constants.MonitoredProperties.RATE_LIMITER_RETRIED_REQUESTS, String.valueOf(client.getThrottledRetries()));
+            apiProperties.put(Constants.MonitoredProperties.GRAPHQL_TIMED_OUT_REQUESTS, String.valueOf(client.getTimedOutRequests()));
+            apiProperties.put(Constants.MonitoredProperties.GRAPHQL_HEDGED_REQUESTS, String.valueOf(client.getHedgedRequests()));
+            apiProperties.put(Constants.MonitoredProperties.GRAPHQL_HEDGED_REQUESTS_WON, String.valueOf(client.getHedgedRequestsWon()));
+            List<String> operations = new ArrayList<>(Arrays.asList(ApiOperation.CUSTOMERS.name, DISPLAYS_METADATA_OPERATION));
+            for (DetailsTier tier : DetailsTier.values()) {
+                operations.add(tier.name());
+            }
+            for (String operation : operations) {
+                long latency = client.getLatencyPercentile(operation, GraphQLClient.HEDGE_PERCENTILE);
+                if (latency >= 0) {
+                    apiProperties.put(String.format(Constants.MonitoredProperties.GRAPHQL_LATENCY_P95, operation), String.valueOf(latency));
+                }
+            }
+        }
+        circuitBreakers.forEach((operation, circuitBreaker) -> {
+            apiProperties.put(String.format(Constants.MonitoredProperties.CIRCUIT_BREAKER_STATE, operation.name), circuitBreaker.getState().name());
+            apiProperties.put(String.format(Constants.MonitoredProperties.CIRCUIT_BREAKER_RETRY_IN, operation.name), String.valueOf(circuitBreaker.getRetryIn() / 1000));
+            apiProperties.put(String.format(Constants.MonitoredProperties.CIRCUIT_BREAKER_OPENINGS, operation.name), String.valueOf(circuitBreaker.getOpenings()));
+            apiProperties.put(String.format(Constants.MonitoredProperties.CIRCUIT_BREAKER_REJECTED_REQUESTS, operation.name), String.valueOf(circuitBreaker.getRejectedRequests()));
+        });
+        RequestRateLimiter limiter = rateLimiter;
+        if (limiter != null) {
+            apiProperties.put(Constants.MonitoredProperties.RATE_LIMITER_REQUEST_RATE, String.format("%.2f", limiter.getRate()));
+            apiProperties.put(Constants.MonitoredProperties.RATE_LIMITER_WAITING_REQUESTS, String.valueOf(limiter.getWaitingRequests()));
+            apiProperties.put(Constants.MonitoredProperties.RATE_LIMITER_THROTTLED_RESPONSES, String.valueOf(limiter.getThrottledResponses()));
+        }
+        apiProperties.put(Constants.MonitoredProperties.DEVICE_LOCKS_ACQUIRED, String.valueOf(deviceLockManager.getAcquiredCount()));
+        apiProperties.put(Constants.MonitoredProperties.DEVICE_LOCKS_CONTENDED, String.valueOf(deviceLockManager.getContendedCount()));
+        apiProperties.put(Constants.MonitoredProperties.DEVICE_LOCKS_TIMED_OUT, String.valueOf(deviceLockManager.getTimedOutCount()));
+        apiProperties.put(Constants.MonitoredProperties.DEVICE_LOCKS_REFRESH_SKIPPED, String.valueOf(deviceLockManager.getRefreshSkippedCount()));
+        apiProperties.put(Constants.MonitoredProperties.DEVICE_LOCKS_AVERAGE_WAIT, String.valueOf(deviceLockManager.getAverageWaitTime()));
+        apiProperties.put(Constants.MonitoredProperties.DEVICE_LOCKS_MAX_WAIT, String.valueOf(deviceLockManager.getMaxWaitTime()));
 
         extendedStatistics.setStatistics(apiProperties);
         return Collections.singletonList(extendedStatistics);
@@ -567,17 +1610,137 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
 
     @Override
     public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+        requestStatisticsCollection();
+        return deviceSnapshots.getDevices();
+    }
+
+    /**
+     * Check for the authorization errors, mark the aggregator as active and trigger the next collection cycle
+     *
+     * @throws FailedLoginException if the latest cycle has failed with an authorization error
+     */
+    private void requestStatisticsCollection() throws FailedLoginException {
         if (!latestErrors.isEmpty()) {
             if (latestErrors.containsKey("403") || latestErrors.containsKey("401")) {
                 throw new FailedLoginException("Authorization failed, please check API Token");
             }
         }
-        long currentTimestamp = System.currentTimeMillis();
-        nextDevicesCollectionIterationTimestamp = currentTimestamp;
         updateValidRetrieveStatisticsTimestamp();
+        PPDSDeviceDataLoader dataLoader = deviceDataLoader;
+        if (dataLoader != null) {
+            dataLoader.triggerCollection();
+        }
+    }
+
+    /**
+     * Publish snapshots of all the {@link #aggregatedDevices}, at the end of the collection cycle.
+     * New snapshots are only created for the devices that were mapped again during the cycle ({@link #remappedDeviceIds})
+     * and the new devices, other devices keep their previous snapshot. Devices that are locked by a control operation
+     * keep their previous snapshot as well, since the control operation publishes a new one once it's done.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting for a device lock
+     */
+    private void publishDeviceSnapshots() throws InterruptedException {
+        remappedDeviceIds.retainAll(aggregatedDevices.keySet());
+        List<String> changedDeviceIds = new ArrayList<>();
+        for (String deviceId : aggregatedDevices.keySet()) {
+            if (remappedDeviceIds.contains(deviceId) || deviceSnapshots.getDevice(deviceId) == null) {
+                changedDeviceIds.add(deviceId);
+            }
+        }
+        Map<String, AggregatedDevice> snapshots = new LinkedHashMap<>();
+        Map<String, AggregatedDevice> refreshedSnapshots = createDeviceSnapshots(changedDeviceIds);
+        for (String deviceId : aggregatedDevices.keySet()) {
+            AggregatedDevice snapshot = refreshedSnapshots.get(deviceId);
+            if (snapshot == null) {
+                snapshot = deviceSnapshots.getDevice(deviceId);
+            }
+            if (snapshot != null) {
+                snapshots.put(deviceId, snapshot);
+            }
+        }
+        deviceSnapshots.publishAll(snapshots);
+    }
+
+    /**
+     * Create snapshots of the devices provided, every device is locked for refresh while its snapshot is created.
+     * Devices that are locked by a control operation are skipped, and are kept in {@link #remappedDeviceIds} if they were mapped again.
+     *
+     * @param deviceIds to create snapshots for
+     * @return device snapshots by device id
+     * @throws InterruptedException if the thread is interrupted while waiting for a device lock
+     */
+    private Map<String, AggregatedDevice> createDeviceSnapshots(Collection<String> deviceIds) throws InterruptedException {
+        long snapshotTimestamp = System.currentTimeMillis();
+        Map<String, AggregatedDevice> snapshots = new HashMap<>();
+        for (String deviceId : deviceIds) {
+            if (!deviceLockManager.lockForRefresh(deviceId, REFRESH_LOCK_TIMEOUT)) {
+                continue;
+            }
+            try {
+                remappedDeviceIds.remove(deviceId);
+                AggregatedDevice aggregatedDevice = aggregatedDevices.get(deviceId);
+                if (aggregatedDevice != null) {
+                    snapshots.put(deviceId, DeviceSnapshots.snapshotOf(aggregatedDevice, snapshotTimestamp));
+                }
+            } finally {
+                deviceLockManager.unlockRefresh(deviceId);
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Publish snapshots of the devices provided, after their controls were updated.
+     * Devices must be locked by the caller.
+     *
+     * @param deviceIds to publish snapshots for
+     */
+    private void publishDeviceSnapshots(List<String> deviceIds) {
+        long snapshotTimestamp = System.currentTimeMillis();
+        List<AggregatedDevice> snapshots = new ArrayList<>();
+        for (String deviceId : deviceIds) {
+            AggregatedDevice aggregatedDevice = aggregatedDevices.get(deviceId);
+            if (aggregatedDevice != null) {
+                snapshots.add(DeviceSnapshots.snapshotOf(aggregatedDevice, snapshotTimestamp));
+            }
+        }
+        deviceSnapshots.publish(snapshots);
+    }
+
+    /**
+     * {@inheritDoc}
+     * GraphQL requests are sent with the {@link #httpTransport} rest template, once it's created.
+     */
+    @Override
+    protected RestTemplate obtainRestTemplate() throws Exception {
+        PooledHttpTransport transport = httpTransport;
+        return transport != null ? transport.getRestTemplate() : super.obtainRestTemplate();
+    }
 
-        aggregatedDevices.values().forEach(aggregatedDevice -> aggregatedDevice.setTimestamp(currentTimestamp));
-        return new ArrayList<>(aggregatedDevices.values());
+    /**
+     * {@inheritDoc}
+     * Idle connections of the {@link #httpTransport} are closed as well, so they're not reused after a connection error.
+     */
+    @Override
+    public void disconnect() throws Exception {
+        PooledHttpTransport transport = httpTransport;
+        if (transport != null) {
+            transport.closeIdleConnections();
+        }
+        super.disconnect();
+    }
+
+    @Override
+    public void setEnableCompression(boolean enableCompression) {
+        requestCompressionEnabled = enableCompression;
+        super.setEnableCompression(enableCompression);
+    }
+
+    @Override
+    public void setCompressionMinSize(int compressionMinSize) {
+        requestCompressionMinSize = compressionMinSize;
+        super.setCompressionMinSize(compressionMinSize);
     }
 
     @Override
@@ -591,10 +1754,58 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
         if (logger.isDebugEnabled()) {
             logger.debug("Philips Wave retrieveMultipleStatistics deviceIds=" + String.join(" ", deviceIds));
         }
-        return retrieveMultipleStatistics()
-                .stream()
-                .filter(aggregatedDevice -> deviceIds.contains(aggregatedDevice.getDeviceId()))
-                .collect(toList());
+        requestStatisticsCollection();
+        List<AggregatedDevice> devices = new ArrayList<>(deviceIds.size());
+        for (String deviceId : deviceIds) {
+            AggregatedDevice device = deviceSnapshots.getDevice(deviceId);
+            if (device != null) {
+                devices.add(device);
+            }
+        }
+        if (deviceOnDemandRefreshThreshold > 0) {
+            refreshStaleDevices(devices);
+        }
+        return devices;
+    }
+
+    /**
+     * Refresh frequently changing details ({@link DetailsTier#HOT}) of the devices which details of the tier were merged
+     * longer than {@link #deviceOnDemandRefreshThreshold} ago. Refresh is performed in the background, one request per customer handle,
+     * and the new snapshots are published once it's done, so they are returned by the next statistics request.
+     * Devices that already have the on-demand refresh in progress are skipped.
+     *
+     * @param devices device snapshots to check
+     */
+    private void refreshStaleDevices(List<AggregatedDevice> devices) {
+        if (graphQLClient == null) {
+            return;
+        }
+        Map<String, List<String>> staleDeviceIds = new HashMap<>();
+        for (AggregatedDevice device : devices) {
+            String deviceId = device.getDeviceId();
+            if (!displayFingerprints.isTierOlderThan(deviceId, DetailsTier.HOT.ordinal(), deviceOnDemandRefreshThreshold)) {
+                continue;
+            }
+            String handle = deviceMembershipTracker.getHandle(deviceId);
+            if (handle != null && onDemandRefreshDeviceIds.add(deviceId)) {
+                staleDeviceIds.computeIfAbsent(handle, key -> new ArrayList<>()).add(deviceId);
+            }
+        }
+        staleDeviceIds.forEach((handle, displayIds) -> processDisplaysDetailsPageAsync(handle, EnumSet.of(DetailsTier.HOT), displaysPageFilter(displayIds))
+                .thenRun(() -> {
+                    try {
+                        deviceSnapshots.publish(createDeviceSnapshots(displayIds).values());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new CompletionException(e);
+                    }
+                })
+                .whenComplete((result, error) -> {
+                    onDemandRefreshDeviceIds.removeAll(displayIds);
+                    if (error != null) {
+                        logger.error("Unable to refresh devices details on demand for customer handle " + handle, error);
+                    }
+                }));
     }
 
     /**
@@ -664,7 +1875,8 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
         }
         validDeviceMetaDataRetrievalPeriodTimestamp = currentTimestamp + deviceMetaDataRetrievalTimeout;
 
-        JsonNode httpResponse = doPost(EMPTY_STRING, Constants.GraphQLRequests.MonitoringRequests.CUSTOMERS_REQUEST, JsonNode.class);
+        JsonNode httpResponse = GraphQLClient.await(circuitBreakers.get(ApiOperation.CUSTOMERS).call(() -> graphQLClient.queryHedged(ApiOperation.CUSTOMERS.name,
+                Constants.GraphQLRequests.MonitoringRequests.CUSTOMERS_REQUEST, requestTimeout(metadataRequestTimeout))));
         ArrayNode customers = (ArrayNode) httpResponse.at(Constants.GraphQLProperties.GQL_PATH_CUSTOMERS);
 
         if (customers != null && !customers.isEmpty()) {
@@ -682,119 +1894,422 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
             customerHandles.clear();
         }
 
-        for (String handle : customerHandles) {
-            JsonNode customerDisplaysMeta = doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.MonitoringRequests.DISPLAYS_METADATA_REQUEST, handle), JsonNode.class);
-            List<AggregatedDevice> deviceList = aggregatedDeviceProcessor.extractDevices(customerDisplaysMeta.at(Constants.GraphQLProperties.GQL_PATH_CUSTOMER_BY_HANDLE));
+        Map<String, Exception> failedHandles = new LinkedHashMap<>();
+        Map<String, List<AggregatedDevice>> devicesByHandle = GraphQLClient.await(customerTaskExecutor.executeAll(new ArrayList<>(customerHandles),
+                customerRetrievalTimeout, this::fetchCustomerDevicesList, failedHandles::put));
 
-            if (deviceTypeFilter != null && !deviceTypeFilter.isEmpty()) {
-                deviceList.removeIf(aggregatedDevice -> !deviceTypeFilter.contains(aggregatedDevice.getProperties().get("DisplayType")));
-            }
+        // Only the devices of the handles retrieved are reconciled, devices of the customers that failed to respond
+        // are kept until the next successful retrieval
+        deviceMembershipTracker.resetCounters();
+        deviceMembershipTracker.retainHandles(customerHandles).forEach(aggregatedDevices::remove);
+        devicesByHandle.forEach((handle, deviceList) -> {
+            Map<String, AggregatedDevice> retrievedDevices = new HashMap<>();
+            deviceList.forEach(device -> retrievedDevices.put(device.getDeviceId(), device));
 
-            List<String> retrievedDeviceIds = new ArrayList<>();
-            deviceList.forEach(device -> {
-                String deviceId = device.getDeviceId();
-                retrievedDeviceIds.add(deviceId);
+            DeviceMembershipTracker.Changes changes = deviceMembershipTracker.reconcile(handle, retrievedDevices.keySet());
+            changes.getRemoved().forEach(aggregatedDevices::remove);
+            changes.getAdded().forEach(deviceId -> {
+                AggregatedDevice device = retrievedDevices.get(deviceId);
                 device.setTimestamp(currentTimestamp);
-
-                if (!aggregatedDevices.containsKey(device.getDeviceId())) {
-                    aggregatedDevices.put(device.getDeviceId(), device);
-                }
+                aggregatedDevices.putIfAbsent(deviceId, device);
             });
-            aggregatedDevices.keySet().removeIf(deviceId -> !retrievedDeviceIds.contains(deviceId));
+        });
+        if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Devices list reconciled: %s added, %s removed, %s total", deviceMembershipTracker.getAddedCount(),
+                    deviceMembershipTracker.getRemovedCount(), deviceMembershipTracker.getDevicesCount()));
         }
+
+        if (failedHandles.isEmpty()) {
+            return;
+        }
+        failedHandles.forEach((handle, error) -> logRequestError("Unable to retrieve devices list for customer handle " + handle, error));
+        throw failedHandles.values().iterator().next();
+    }
+
+    /**
+     * Fetch devices metadata for a single customer handle
+     *
+     * @param handle customer handle to fetch devices for
+     * @return future list of devices, with {@link #deviceTypeFilter} applied
+     */
+    private CompletableFuture<List<AggregatedDevice>> fetchCustomerDevicesList(String handle) {
+        // every request collects its own devices list, since a hedged request may run alongside the original one
+        return circuitBreakers.get(ApiOperation.DISPLAYS_METADATA).call(() ->
+                graphQLClient.executeHedged(DISPLAYS_METADATA_OPERATION, () -> {
+                    List<AggregatedDevice> devices = new ArrayList<>();
+                    DisplaysResponseReader metadataReader = new DisplaysResponseReader(objectMapper, displayNode -> {
+                        AggregatedDevice device = displayMappingPlan.extractDevice(displayNode);
+                        if (device != null) {
+                            devices.add(device);
+                        }
+                    });
+                    streamDisplays(DISPLAYS_METADATA_OPERATION, String.format(Constants.GraphQLRequests.MonitoringRequests.DISPLAYS_METADATA_REQUEST, handle), metadataReader);
+                    if (deviceTypeFilter != null && !deviceTypeFilter.isEmpty()) {
+                        devices.removeIf(aggregatedDevice -> !deviceTypeFilter.contains(aggregatedDevice.getProperties().get("DisplayType")));
+                    }
+                    return devices;
+                }, requestTimeout(metadataRequestTimeout)));
     }
 
     /**
-     * Process detailed displays information
+     * Process detailed displays information.
+     * Displays details are split into {@link DetailsTier} groups, each one is refreshed with its own interval,
+     * so only the tiers that are due are requested, and then merged into {@link #displayStates}.
+     * If there are displays that don't have any details cached yet - all the tiers are requested.
      *
      * @throws Exception when any error occurs
      */
     private void processDeviceDetails() throws Exception {
         long currentTimestamp = System.currentTimeMillis();
-        if (aggregatedDevices.size() > 0 && validDeviceDetailsRetrievalPeriodTimestamp > currentTimestamp) {
+        displayStates.keySet().removeIf(displayId -> !aggregatedDevices.containsKey(displayId));
+        displayFingerprints.retain(aggregatedDevices.keySet());
+        displayAlerts.retain(aggregatedDevices.keySet());
+        deviceControls.keySet().retainAll(aggregatedDevices.keySet());
+        boolean newDisplaysPresent = !displayStates.keySet().containsAll(aggregatedDevices.keySet());
+
+        Set<DetailsTier> dueTiers = EnumSet.noneOf(DetailsTier.class);
+        for (DetailsTier tier : DetailsTier.values()) {
+            if (newDisplaysPresent || detailsTierRetrievalTimestamps.getOrDefault(tier, 0L) <= currentTimestamp) {
+                dueTiers.add(tier);
+            }
+        }
+        if (aggregatedDevices.size() > 0 && dueTiers.isEmpty()) {
             if (logger.isDebugEnabled()) {
-                logger.debug(String.format("General devices metadata retrieval is in cooldown. %s seconds left",
-                        (validDeviceDetailsRetrievalPeriodTimestamp - currentTimestamp) / 1000));
+                long nextTierTimestamp = Collections.min(detailsTierRetrievalTimestamps.values());
+                logger.debug(String.format("General devices details retrieval is in cooldown. %s seconds left",
+                        (nextTierTimestamp - currentTimestamp) / 1000));
             }
             return;
         }
-        validDeviceDetailsRetrievalPeriodTimestamp = currentTimestamp + deviceDetailsRetrievalTimeout;
+        dueTiers.forEach(tier -> detailsTierRetrievalTimestamps.put(tier, currentTimestamp + getDetailsTierRetrievalTimeout(tier)));
 
         if (logger.isDebugEnabled()) {
-            logger.debug("Process devices details, devices to update: " + aggregatedDevices.keySet());
-        }
-        for (String handle : customerHandles) {
-            JsonNode customerDisplaysBasic = doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.MonitoringRequests.DISPLAYS_DETAILS_REQUEST_BASIC, handle), JsonNode.class);
-            ResponseWrapper customerDisplaysDetailed = doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.MonitoringRequests.DISPLAYS_DETAILS_REQUEST_DETAILED, handle), ResponseWrapper.class);
-            Map<String, Display> displayDetails = new HashMap<>();
-            List<Playlist> playlists = new ArrayList<>();
-            if (customerDisplaysDetailed != null) {
-                Data displaysWrapper = customerDisplaysDetailed.getData();
-                if (displaysWrapper != null) {
-                    CustomerByHandle customerByHandle = displaysWrapper.getCustomerByHandle();
-                    if (customerByHandle != null) {
-                        List<Display> displaysData = customerByHandle.getDisplays();
-                        playlists.addAll(customerByHandle.getPlaylists());
-                        if (deviceTypeFilter != null && !deviceTypeFilter.isEmpty()) {
-                            displaysData.removeIf(display -> display.getPlatform() == null && !deviceTypeFilter.contains(display.getPlatform().getType()));
-                        }
+            logger.debug(String.format("Process devices details tiers %s, devices to update: %s", dueTiers, aggregatedDevices.keySet()));
+        }
+        Map<String, Integer> processedDisplays = GraphQLClient.await(customerTaskExecutor.executeAll(new ArrayList<>(customerHandles), customerRetrievalTimeout,
+                handle -> processCustomerDeviceDetails(handle, dueTiers),
+                (handle, error) -> logRequestError("Unable to process devices details for customer handle " + handle, error)));
+        if (logger.isDebugEnabled()) {
+            logger.debug("Processed devices details, number of displays by customer handle: " + processedDisplays);
+        }
+    }
 
-                        displaysData.forEach(display -> displayDetails.put(display.getId(), display));
-                    }
-                }
+    /**
+     * Process detailed displays information for a single customer handle.
+     * If {@link #displaysPageSize} is set, displays of the customer are requested in pages of display ids,
+     * so every page is processed and released before the next one is requested.
+     *
+     * @param handle   customer handle to process displays for
+     * @param dueTiers details tiers to request
+     * @return future number of displays processed, cancelling it cancels the page in progress
+     */
+    private CompletableFuture<Integer> processCustomerDeviceDetails(String handle, Set<DetailsTier> dueTiers) {
+        if (displaysPageSize <= 0) {
+            return processDisplaysDetailsPageAsync(handle, dueTiers, EMPTY_STRING);
+        }
+        List<String> displayIds = new ArrayList<>(deviceMembershipTracker.getDeviceIds(handle));
+        CompletableFuture<Integer> processedDisplays = new CompletableFuture<>();
+        processDisplaysDetailsPages(handle, dueTiers, displayIds, 0, 0, processedDisplays);
+        return processedDisplays;
+    }
+
+    /**
+     * Process the page of customer displays starting at the index provided, and then the next pages, one after another
+     *
+     * @param handle            customer handle to process displays for
+     * @param dueTiers          details tiers to request
+     * @param displayIds        ids of all the customer displays
+     * @param pageStart         index of the first display of the page
+     * @param processedDisplays number of displays processed with the previous pages
+     * @param result            to complete with the total number of displays processed, once all the pages are processed
+     */
+    private void processDisplaysDetailsPages(String handle, Set<DetailsTier> dueTiers, List<String> displayIds, int pageStart,
+                                             int processedDisplays, CompletableFuture<Integer> result) {
+        if (result.isDone()) {
+            return;
+        }
+        if (pageStart >= displayIds.size()) {
+            result.complete(processedDisplays);
+            return;
+        }
+        List<String> pageIds = displayIds.subList(pageStart, Math.min(displayIds.size(), pageStart + displaysPageSize));
+        CompletableFuture<Integer> page = processDisplaysDetailsPageAsync(handle, dueTiers, displaysPageFilter(pageIds));
+        result.whenComplete((value, error) -> page.cancel(true));
+        page.whenComplete((pageDisplays, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                processDisplaysDetailsPages(handle, dueTiers, displayIds, pageStart + displaysPageSize, processedDisplays + pageDisplays, result);
             }
+        });
+    }
 
-            ArrayNode devicesDetails = (ArrayNode) customerDisplaysBasic.at(Constants.GraphQLProperties.GQL_PATH_DISPLAYS);
-            for (JsonNode deviceDetails : devicesDetails) {
-                String displayId = deviceDetails.at(Constants.GraphQLProperties.GQL_PATH_ID).asText();
-                if (StringUtils.isNullOrEmpty(displayId)) {
-                    if (logger.isWarnEnabled()) {
-                        logger.warn("Unable to retrieve displayId for customer handle " + handle);
+    /**
+     * Build displays filter to request displays by id
+     *
+     * @param displayIds to request
+     * @return displays filter, to be used with the displays details requests
+     */
+    private String displaysPageFilter(List<String> displayIds) {
+        String pageIds = displayIds.stream()
+                .map(displayId -> String.format(Constants.GraphQLRequests.MonitoringRequests.DISPLAYS_PAGE_FILTER_ID, displayId))
+                .collect(Collectors.joining(","));
+        return String.format(Constants.GraphQLRequests.MonitoringRequests.DISPLAYS_PAGE_FILTER, pageIds);
+    }
+
+    /**
+     * Process detailed displays information for a page of customer displays asynchronously.
+     * All the due tiers are requested in parallel, and each response is merged into the cached display state
+     * by display id, so the displays are processed once all the tier responses are merged, by the request thread that
+     * completes the last tier response. If any tier request fails, or the result is cancelled, other tier requests
+     * are cancelled as well.
+     *
+     * @param handle         customer handle to process displays for
+     * @param dueTiers       details tiers to request
+     * @param displaysFilter displays filter of the page, or empty string to request all the customer displays
+     * @return future number of displays processed
+     */
+    private CompletableFuture<Integer> processDisplaysDetailsPageAsync(String handle, Set<DetailsTier> dueTiers, String displaysFilter) {
+        List<CompletableFuture<Void>> tierResponses = new ArrayList<>();
+        Set<String> displayIds = ConcurrentHashMap.newKeySet();
+        for (DetailsTier tier : dueTiers) {
+            DisplaysResponseReader tierReader = new DisplaysResponseReader(objectMapper, Display.class,
+                    (tierDisplay, tierHash) -> mergeDisplayDetails(handle, tier, tierDisplay, tierHash, displayIds))
+                    .withPlaylistsConsumer(playlists -> {
+                        customerPlaylists.put(handle, objectMapper.convertValue(playlists, new TypeReference<List<Playlist>>() {}));
+                        displayFingerprints.updatePlaylists(handle, playlists);
+                    });
+            // the tier request can be hedged: a cancelled attempt stops passing displays to the tier reader once interrupted
+            tierResponses.add(circuitBreakers.get(ApiOperation.DISPLAYS_DETAILS).call(() -> graphQLClient.executeHedged(tier.name(), () -> {
+                streamDisplays(tier.name(), String.format(tier.request, handle, displaysFilter), tierReader);
+                return null;
+            }, requestTimeout(tier == DetailsTier.HOT ? basicDetailsRequestTimeout : detailedDetailsRequestTimeout))));
+        }
+        AtomicReference<Throwable> tierError = new AtomicReference<>();
+        tierResponses.forEach(tierResponse -> tierResponse.whenComplete((result, error) -> {
+            if (error != null && !(error instanceof CancellationException) && tierError.compareAndSet(null, error)) {
+                tierResponses.forEach(otherTierResponse -> otherTierResponse.cancel(true));
+            }
+        }));
+        CompletableFuture<Integer> processedDisplays = CompletableFuture.allOf(tierResponses.toArray(new CompletableFuture[0]))
+                .handle((responses, error) -> {
+                    // the first tier error is reported, rather than the cancellation of the other tiers it has caused
+                    Throwable responseError = tierError.get() != null ? tierError.get() : error;
+                    if (responseError != null) {
+                        throw responseError instanceof CompletionException ? (CompletionException) responseError : new CompletionException(responseError);
+                    }
+                    try {
+                        return processMergedDisplays(handle, displayIds);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new CompletionException(e);
                     }
+                });
+        processedDisplays.whenComplete((result, error) -> {
+            if (processedDisplays.isCancelled()) {
+                tierResponses.forEach(tierResponse -> tierResponse.cancel(true));
+            }
+        });
+        return processedDisplays;
+    }
+
+    /**
+     * Process the displays, which tier responses were merged into the {@link #displayStates}
+     *
+     * @param handle     customer handle to process displays for
+     * @param displayIds ids of the merged displays
+     * @return number of displays processed
+     * @throws InterruptedException if the thread is interrupted while waiting for the display lock
+     */
+    private int processMergedDisplays(String handle, Set<String> displayIds) throws InterruptedException {
+        List<Playlist> playlists = customerPlaylists.getOrDefault(handle, Collections.emptyList());
+        int configFingerprint = Objects.hashCode(displayPropertyGroups);
+
+        int processedDisplays = 0;
+        for (String displayId : displayIds) {
+            if (!deviceLockManager.lockForRefresh(displayId, REFRESH_LOCK_TIMEOUT)) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Display with id " + displayId + " is locked by a control operation, skipping its details update until the next cycle");
+                }
+                continue;
+            }
+            try {
+                AggregatedDevice aggregatedDevice = aggregatedDevices.get(displayId);
+                // fingerprint is taken before the tiers, so the tiers are at least as recent as the fingerprint
+                int displayFingerprint = displayFingerprints.fingerprint(displayId, handle, configFingerprint);
+                Display[] displayTiers = displayStates.get(displayId);
+                if (aggregatedDevice == null || displayTiers == null) {
+                    logger.debug("Unable to find cached display device with id " + displayId);
                     continue;
                 }
-                controlOperationsLock.tryLock(displayId);
-                try {
-                    AggregatedDevice aggregatedDevice = aggregatedDevices.get(displayId);
-                    if (aggregatedDevice == null) {
-                        logger.debug("Unable to find cached display device with id " + displayId);
-                        return;
-                    }
-                    Map<String, String> deviceProperties = aggregatedDevice.getProperties();
-                    aggregatedDeviceProcessor.applyProperties(aggregatedDevice, deviceDetails, "WaveDevice");
-
-                    Display display = displayDetails.get(displayId);
-                    if (display != null) {
-                        Map<String, String> properties = aggregatedDevice.getProperties();
-                        Map<String, String> dynamicStatistics = aggregatedDevice.getDynamicStatistics();
-                        List<AdvancedControllableProperty> controls = aggregatedDevice.getControllableProperties();
-
-                        processDeviceAlerts(properties, dynamicStatistics, display);
-                        processDevicePowerSchedule(properties, display);
-
-                        //deviceSelectedContentSource
-                        String deviceId = aggregatedDevice.getDeviceId();
-                        processDeviceInputSources(deviceId, properties, controls, display);
-                        processDeviceBookmarks(deviceId, properties, controls, display);
-                        processDeviceAppContentSources(deviceId, properties, controls, display);
-                        processDevicePlaylistContentSources(deviceId, properties, controls, display, playlists);
-
-                        String selectedContentSource = deviceSelectedContentSource.get(deviceId);
-                        controls.add(createPreset(Constants.ControlProperties.CONTROL_CONTENT_SOURCE, Arrays.asList(Constants.SourceType.APPLICATION_NAME,
-                                Constants.SourceType.BOOKMARK_NAME, Constants.SourceType.INPUT_NAME, Constants.SourceType.PLAYLIST_NAME), selectedContentSource));
-                        properties.put(Constants.ControlProperties.CONTROL_CONTENT_SOURCE, selectedContentSource);
-
-                        processDeviceAppSubscriptions(aggregatedDevice, display);
-                        processDeviceGroups(aggregatedDevice, display);
-
-                        if (displayPropertyGroups.contains("screenshot")) {
-                            aggregatedDeviceProcessor.applyProperties(deviceProperties, deviceDetails, "ScreenshotInfo");
-                        }
+                if (displayFingerprints.isUnchanged(displayId, aggregatedDevice, displayFingerprint)) {
+                    continue;
+                }
+                Display display = Display.merge(displayTiers);
+                displayPropertiesMapper.mapDisplay(aggregatedDevice, display);
+                processedDisplays++;
+
+                GenerationalMap properties = (GenerationalMap) aggregatedDevice.getProperties();
+                GenerationalMap dynamicStatistics = GenerationalMap.startGeneration(aggregatedDevice.getDynamicStatistics());
+                aggregatedDevice.setDynamicStatistics(dynamicStatistics);
+                List<AdvancedControllableProperty> controls = aggregatedDevice.getControllableProperties();
+
+                processDeviceAlerts(properties, dynamicStatistics, display);
+                processDevicePowerSchedule(properties, display);
+
+                //deviceSelectedContentSource
+                String deviceId = aggregatedDevice.getDeviceId();
+                processDeviceInputSources(deviceId, properties, controls, display);
+                processDeviceBookmarks(deviceId, properties, controls, display);
+                processDeviceAppContentSources(deviceId, properties, controls, display);
+                processDevicePlaylistContentSources(deviceId, properties, controls, display, playlists);
+
+                String selectedContentSource = deviceSelectedContentSource.get(deviceId);
+                controls.add(createPreset(Constants.ControlProperties.CONTROL_CONTENT_SOURCE, Arrays.asList(Constants.SourceType.APPLICATION_NAME,
+                        Constants.SourceType.BOOKMARK_NAME, Constants.SourceType.INPUT_NAME, Constants.SourceType.PLAYLIST_NAME), selectedContentSource));
+                properties.put(Constants.ControlProperties.CONTROL_CONTENT_SOURCE, selectedContentSource);
+
+                processDeviceAppSubscriptions(aggregatedDevice, display);
+                processDeviceGroups(aggregatedDevice, display);
+
+                if (displayPropertyGroups.contains("screenshot")) {
+                    displayPropertiesMapper.mapScreenshot(properties, display);
+                }
+                sweptProperties.addAndGet(properties.sweep() + dynamicStatistics.sweep());
+                aggregatedDevice.setControllableProperties(deviceControls.computeIfAbsent(displayId, id -> new DeviceControls()).update(controls));
+                displayFingerprints.markMapped(displayId, aggregatedDevice, displayFingerprint);
+                remappedDeviceIds.add(displayId);
+            } finally {
+                deviceLockManager.unlockRefresh(displayId);
+            }
+        }
+        return processedDisplays;
+    }
+
+    /**
+     * Merge display details of a tier response into the {@link #displayStates}. The tier details are bound to
+     * a new {@link Display}, which replaces the previous one of the same tier in a copy of the display tiers,
+     * so the displays being processed by other threads are never modified.
+     *
+     * @param handle      customer handle the display belongs to
+     * @param tier        details tier of the response
+     * @param tierDisplay display details of the tier
+     * @param tierHash    content hash of the display details of the tier
+     * @param displayIds  to collect ids of the merged displays to
+     */
+    private void mergeDisplayDetails(String handle, DetailsTier tier, Display tierDisplay, int tierHash, Set<String> displayIds) {
+        String displayId = tierDisplay.getId();
+        if (StringUtils.isNullOrEmpty(displayId)) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("Unable to retrieve displayId for customer handle " + handle);
+            }
+            return;
+        }
+        displayStates.compute(displayId, (id, displayTiers) -> {
+            Display[] mergedTiers = displayTiers == null ? new Display[DetailsTier.values().length] : displayTiers.clone();
+            mergedTiers[tier.ordinal()] = tierDisplay;
+            return mergedTiers;
+        });
+        displayFingerprints.updateTier(displayId, tier.ordinal(), tierHash);
+        displayIds.add(displayId);
+    }
+
+    /**
+     * Execute displays request and read the response with the displays reader as it arrives,
+     * without keeping the whole response in memory. If {@link #persistedQueriesEnabled} is set,
+     * the request is sent as a persisted query.
+     *
+     * @param operation      name of the request operation, to cache persisted queries support for
+     * @param request        GraphQL request body
+     * @param displaysReader to read the response with
+     * @throws Exception if the request fails or the response cannot be read
+     */
+    private void streamDisplays(String operation, String request, DisplaysResponseReader displaysReader) throws Exception {
+        String url = String.format("%s://%s:%d%s", getProtocol(), getHost(), getPort(), getBaseUri());
+        PersistedQueries.Transport transport = requestBody -> {
+            try {
+                return obtainRestTemplate().execute(url, HttpMethod.POST, httpRequest -> {
+                    HttpHeaders headers = httpRequest.getHeaders();
+                    headers.setContentType(MediaType.APPLICATION_JSON);
+                    try {
+                        headers.putAll(putExtraRequestHeaders(HttpMethod.POST, url, new HttpHeaders()));
+                    } catch (Exception e) {
+                        throw new IOException("Unable to set request headers", e);
                     }
-                } finally {
-                    controlOperationsLock.unlock(displayId);
+                    httpRequest.getBody().write(requestBody);
+                }, httpResponse -> displaysReader.read(httpResponse.getBody()));
+            } catch (RestClientResponseException e) {
+                JsonNode errors = readErrors(e.getResponseBodyAsString());
+                if (persistedQueries.isPersistedQueryError(errors)) {
+                    return errors;
                 }
+                throw new CommandFailureException(getHost(), request, e.getResponseBodyAsString(), e.getRawStatusCode(), e);
+            }
+        };
+        JsonNode errors = persistedQueriesEnabled ? persistedQueries.execute(operation, request, transport)
+                : transport.send(request.getBytes(StandardCharsets.UTF_8));
+        if (errors != null && logger.isWarnEnabled()) {
+            logger.warn("Displays request completed with errors: " + errors);
+        }
+    }
+
+    /**
+     * Retrieve timeout of a monitoring request: the operation timeout, limited to the time left in the
+     * {@link #collectionCycleBudget} if there's a collection cycle running
+     *
+     * @param operationTimeout timeout of the request operation in ms
+     * @return request timeout in ms, 0 if the cycle budget has run out
+     */
+    private long requestTimeout(long operationTimeout) {
+        return Math.max(0, Math.min(operationTimeout, cycleDeadline - System.currentTimeMillis()));
+    }
+
+    /**
+     * Log request error. Requests rejected by an open {@link CircuitBreaker} are logged without the stack trace,
+     * since the original error has already been logged when the circuit was opened.
+     *
+     * @param message error message
+     * @param error   request error
+     */
+    private void logRequestError(String message, Exception error) {
+        if (error instanceof CircuitBreakerOpenException) {
+            if (logger.isWarnEnabled()) {
+                logger.warn(message + ": " + error.getMessage());
             }
+            return;
+        }
+        logger.error(message, error);
+    }
+
+    /**
+     * Read GraphQL errors of an error response body
+     *
+     * @param responseBody error response body
+     * @return GraphQL errors node, or null if the response has no GraphQL errors
+     */
+    private JsonNode readErrors(String responseBody) {
+        try {
+            return objectMapper.readTree(responseBody).get(Constants.GraphQLProperties.GQL_FIELD_ERRORS);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Retrieve refresh interval of a details tier
+     *
+     * @param tier to get refresh interval for
+     * @return refresh interval in ms
+     */
+    private long getDetailsTierRetrievalTimeout(DetailsTier tier) {
+        switch (tier) {
+            case WARM:
+                return deviceWarmDetailsRetrievalTimeout;
+            case COLD:
+                return deviceColdDetailsRetrievalTimeout;
+            case HOT:
+            default:
+                return deviceDetailsRetrievalTimeout;
         }
     }
 
@@ -984,39 +2499,18 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
 
     /**
      * Process device alert details. Includes alert name, last occurrence, total occurrences for each alert type, etc.
+     * Alerts are accumulated in {@link #displayAlerts}, so only the new alerts are counted.
      *
-     * @param properties to collect device data to
-     * @param deviceNode object containing all the data necessary
+     * @param properties        to collect device data to
+     * @param dynamicProperties to collect alerts total count to
+     * @param deviceNode        object containing all the data necessary
      */
     private void processDeviceAlerts(Map<String, String> properties, Map<String, String> dynamicProperties, Display deviceNode) {
+        int newAlerts = displayAlerts.update(deviceNode.getId(), deviceNode.getAlerts());
         if (logger.isDebugEnabled()) {
-            logger.debug("Processing device alerts: " + deviceNode);
-        }
-        List<Alert> alerts = deviceNode.getAlerts();
-        if (alerts == null || alerts.isEmpty()) {
-            dynamicProperties.put(Constants.MonitoredProperties.ALERTS_TOTAL_COUNT, "0");
-            return;
-        }
-        Map<String, TreeMap<Date, Alert>> alertEntriesByType = new HashMap<>();
-
-        Map<String, Integer> alertTypesOccurrences = new HashMap<>();
-        for (Alert alert : alerts) {
-            String alertType = alert.getMessage();
-            TreeMap<Date, Alert> alertEntries = alertEntriesByType.computeIfAbsent(alertType, k -> new TreeMap<>());
-            alertEntries.put(alert.getCreatedAt(), alert);
-            alertTypesOccurrences.merge(alertType, 1, Integer::sum);
+            logger.debug(String.format("Processing device %s alerts, new alerts: %s", deviceNode.getId(), newAlerts));
         }
-
-        int index = 1;
-        int totalAlertCount = alertTypesOccurrences.values().stream().reduce(0, Integer::sum);
-        for (Map.Entry<String, TreeMap<Date, Alert>> entry : alertEntriesByType.entrySet()) {
-            Alert alertEntry = entry.getValue().lastEntry().getValue();
-            properties.put(String.format(Constants.MonitoredProperties.ALERTS_ALERT_MESSAGE, index), alertEntry.getMessage());
-            properties.put(String.format(Constants.MonitoredProperties.ALERTS_ALERT_OCCURRENCE_COUNT, index), String.valueOf(alertTypesOccurrences.get(entry.getKey())));
-            properties.put(String.format(Constants.MonitoredProperties.ALERTS_ALERT_LAST_OCCURRED, index), String.valueOf(alertEntry.getCreatedAt()));
-            index++;
-        }
-        dynamicProperties.put(Constants.MonitoredProperties.ALERTS_ALERT_TOTAL_COUNT, String.valueOf(totalAlertCount));
+        displayAlerts.putProperties(deviceNode.getId(), properties, dynamicProperties);
     }
 
     /**
@@ -1026,7 +2520,7 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
      * @param controls   to add device controls to
      * @param deviceNode object containing all the data necessary
      */
-    private void processDeviceBookmarks(String deviceId, Map<String, String> properties, List<AdvancedControllableProperty> controls, Display deviceNode) {
+    void processDeviceBookmarks(String deviceId, Map<String, String> properties, List<AdvancedControllableProperty> controls, Display deviceNode) {
         if (logger.isDebugEnabled()) {
             logger.debug("Processing device bookmarks: " + deviceNode);
         }
@@ -1038,10 +2532,11 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
         if (reportedData == null) {
             return;
         }
-        List<String> data = reportedData.getReported();
-        if (data == null) {
+        if (reportedData.getReported() == null) {
             return;
         }
+        // the display details are cached and mapped again on change, so the reported bookmarks must not be changed
+        List<String> data = new ArrayList<>(reportedData.getReported());
         try {
             int index = 0;
             List<String> bookmarkIds = new ArrayList<>();
@@ -1150,17 +2645,29 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
         }
     }
 
+    /**
+     * Post control request with the {@link #graphQLClient}, with the control priority, and wait for the response
+     *
+     * @param request GraphQL control request body
+     * @return control response
+     * @throws Exception if the request has failed
+     */
+    private JsonNode postControlRequest(String request) throws Exception {
+        return GraphQLClient.await(circuitBreakers.get(ApiOperation.MUTATIONS).call(() -> graphQLClient.mutate(request, controlRequestTimeout)));
+    }
+
     /**
      * Reboot command execution
      *
-     * @param displayId to execute the command for
+     * @param displayIds to execute the command for
+     * @return command response
      * @throws PPDSWaveCommandExecutionException if there's an error during command execution
      */
-    private void commandReboot(String displayId) throws Exception {
+    private JsonNode commandReboot(List<String> displayIds) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.REBOOT, displayId), JsonNode.class);
+            return postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.REBOOT, String.join(Constants.GraphQLRequests.ControlRequest.BULK_DISPLAY_IDS_DELIMITER, displayIds)));
         } catch (Exception ex) {
-            throw new PPDSWaveCommandExecutionException("Unable to execute Reboot command for the device with id " + displayId, ex);
+            throw new PPDSWaveCommandExecutionException("Unable to execute Reboot command for the devices with ids " + displayIds, ex);
         }
     }
 
@@ -1173,7 +2680,7 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
      */
     private void commandChangeMuteStatus(String displayId, String muteStatus) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.MUTE, displayId, muteStatus), JsonNode.class);
+            postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.MUTE, displayId, muteStatus));
         } catch (Exception ex) {
             throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Mute status change command for the device with id %s with value %s", displayId, muteStatus), ex);
         }
@@ -1188,7 +2695,7 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
      */
     private void commandChangeVolume(String displayId, String volumeLevel) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.VOLUME, displayId, Float.parseFloat(volumeLevel)), JsonNode.class);
+            postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.VOLUME, displayId, Float.parseFloat(volumeLevel)));
         } catch (Exception ex) {
             throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Volume change command for the device with id %s with value %s", displayId, volumeLevel), ex);
         }
@@ -1197,15 +2704,16 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
     /**
      * Screen brightness change
      *
-     * @param displayId       to execute command for
+     * @param displayIds      to execute command for
      * @param brightnessLevel new brightness level
+     * @return command response
      * @throws PPDSWaveCommandExecutionException if there's an error during command execution
      */
-    private void commandChangeBrightness(String displayId, String brightnessLevel) throws Exception {
+    private JsonNode commandChangeBrightness(List<String> displayIds, String brightnessLevel) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.BRIGHTNESS, displayId, Float.parseFloat(brightnessLevel)), JsonNode.class);
+            return postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.BRIGHTNESS, String.join(Constants.GraphQLRequests.ControlRequest.BULK_DISPLAY_IDS_DELIMITER, displayIds), Float.parseFloat(brightnessLevel)));
         } catch (Exception ex) {
-            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Brightness change command for the device with id %s with value %s", displayId, brightnessLevel), ex);
+            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Brightness change command for the devices with ids %s with value %s", displayIds, brightnessLevel), ex);
         }
     }
 
@@ -1219,7 +2727,7 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
     private void commandChangePowerState(String displayId, String powerState) throws Exception {
         String powerStateValue = "1".equals(powerState) ? "ON" : "STANDBY";
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.POWER, displayId, powerStateValue), JsonNode.class);
+            postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.POWER, displayId, powerStateValue));
         } catch (Exception ex) {
             throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Power state change command for the device with id %s with value %s", displayId, powerState), ex);
         }
@@ -1234,7 +2742,7 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
      */
     private void commandChangeOrientation(String displayId, String orientationState) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.ORIENTATION, displayId, orientationState), JsonNode.class);
+            postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.ORIENTATION, displayId, orientationState));
         } catch (Exception ex) {
             throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Orientation state change command for the device with id %s with value %s", displayId, orientationState), ex);
         }
@@ -1243,60 +2751,64 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
     /**
      * Video input source change
      *
-     * @param displayId  to execute command for
+     * @param displayIds to execute command for
      * @param inputState new input state
+     * @return command response
      * @throws PPDSWaveCommandExecutionException if there's an error during command execution
      */
-    private void commandChangeInput(String displayId, String inputState) throws Exception {
+    private JsonNode commandChangeInput(List<String> displayIds, String inputState) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.INPUT, displayId, inputState), JsonNode.class);
+            return postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.INPUT, String.join(Constants.GraphQLRequests.ControlRequest.BULK_DISPLAY_IDS_DELIMITER, displayIds), inputState));
         } catch (Exception ex) {
-            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Input change command for the device with id %s with value %s", displayId, inputState), ex);
+            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Input change command for the devices with ids %s with value %s", displayIds, inputState), ex);
         }
     }
 
     /**
      * Playlist source change
      *
-     * @param displayId  to execute command for
+     * @param displayIds to execute command for
      * @param inputState new input state
+     * @return command response
      * @throws PPDSWaveCommandExecutionException if there's an error during command execution
      */
-    private void commandChangePlaylist(String displayId, String inputState) throws Exception {
+    private JsonNode commandChangePlaylist(List<String> displayIds, String inputState) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.PLAYLIST, displayId, inputState), JsonNode.class);
+            return postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.PLAYLIST, String.join(Constants.GraphQLRequests.ControlRequest.BULK_DISPLAY_IDS_DELIMITER, displayIds), inputState));
         } catch (Exception ex) {
-            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Input change command for the device with id %s with value %s", displayId, inputState), ex);
+            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Input change command for the devices with ids %s with value %s", displayIds, inputState), ex);
         }
     }
 
     /**
      * Application source change
      *
-     * @param displayId  to execute command for
+     * @param displayIds to execute command for
      * @param inputState new input state
+     * @return command response
      * @throws PPDSWaveCommandExecutionException if there's an error during command execution
      */
-    private void commandChangeApplication(String displayId, String inputState) throws Exception {
+    private JsonNode commandChangeApplication(List<String> displayIds, String inputState) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.APPLICATION, displayId, inputState), JsonNode.class);
+            return postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.APPLICATION, String.join(Constants.GraphQLRequests.ControlRequest.BULK_DISPLAY_IDS_DELIMITER, displayIds), inputState));
         } catch (Exception ex) {
-            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Input change command for the device with id %s with value %s", displayId, inputState), ex);
+            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Input change command for the devices with ids %s with value %s", displayIds, inputState), ex);
         }
     }
 
     /**
      * Bookmark source change
      *
-     * @param displayId  to execute command for
+     * @param displayIds to execute command for
      * @param inputState new input state
+     * @return command response
      * @throws PPDSWaveCommandExecutionException if there's an error during command execution
      */
-    private void commandChangeBookmark(String displayId, String inputState) throws Exception {
+    private JsonNode commandChangeBookmark(List<String> displayIds, String inputState) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.BOOKMARK, displayId, Integer.parseInt(inputState)), JsonNode.class);
+            return postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.BOOKMARK, String.join(Constants.GraphQLRequests.ControlRequest.BULK_DISPLAY_IDS_DELIMITER, displayIds), Integer.parseInt(inputState)));
         } catch (Exception ex) {
-            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Input change command for the device with id %s with value %s", displayId, inputState), ex);
+            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Input change command for the devices with ids %s with value %s", displayIds, inputState), ex);
         }
     }
 
@@ -1308,7 +2820,7 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
      */
     private void commandTakeScreenshot(String displayId) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.SCREENSHOT, displayId), JsonNode.class);
+            postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.SCREENSHOT, displayId));
         } catch (Exception ex) {
             throw new PPDSWaveCommandExecutionException("Unable to execute Screenshot capture change command for the device with id " + displayId, ex);
         }
@@ -1317,60 +2829,64 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
     /**
      * Change IR control mode command, LOCKED/POWER_ONLY/UNLOCKED/VOLUME_ONLY
      *
-     * @param displayId to execute command for
+     * @param displayIds to execute command for
      * @param irMode    new IR control mode
+     * @return command response
      * @throws PPDSWaveCommandExecutionException if there's an error during command execution
      */
-    private void commandChangeIRMode(String displayId, String irMode) throws Exception {
+    private JsonNode commandChangeIRMode(List<String> displayIds, String irMode) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.IR_MODE, displayId, irMode), JsonNode.class);
+            return postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.IR_MODE, String.join(Constants.GraphQLRequests.ControlRequest.BULK_DISPLAY_IDS_DELIMITER, displayIds), irMode));
         } catch (Exception ex) {
-            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute IR Mode change command for the device with id %s with value %s", displayId, irMode), ex);
+            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute IR Mode change command for the devices with ids %s with value %s", displayIds, irMode), ex);
         }
     }
 
     /**
      * Change keyboard control mode command, LOCKED/POWER_ONLY/UNLOCKED/VOLUME_ONLY
      *
-     * @param displayId     to execute command for
+     * @param displayIds    to execute command for
      * @param keyboardState new keyboard control mode
+     * @return command response
      * @throws PPDSWaveCommandExecutionException if there's an error during command execution
      */
-    private void commandChangeKeyboardMode(String displayId, String keyboardState) throws Exception {
+    private JsonNode commandChangeKeyboardMode(List<String> displayIds, String keyboardState) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.KEYBOARD_MODE, displayId, keyboardState), JsonNode.class);
+            return postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.KEYBOARD_MODE, String.join(Constants.GraphQLRequests.ControlRequest.BULK_DISPLAY_IDS_DELIMITER, displayIds), keyboardState));
         } catch (Exception ex) {
-            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Keyboard control mode change command for the device with id %s with value %s", displayId, keyboardState), ex);
+            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Keyboard control mode change command for the devices with ids %s with value %s", displayIds, keyboardState), ex);
         }
     }
 
     /**
      * LED Strip color change command
      *
-     * @param displayId to execute command for
+     * @param displayIds to execute command for
      * @param ledColor  new LED Strip color
+     * @return command response
      * @throws PPDSWaveCommandExecutionException if there's an error during command execution
      */
-    private void commandChangeLedColor(String displayId, String ledColor) throws Exception {
+    private JsonNode commandChangeLedColor(List<String> displayIds, String ledColor) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.LED_COLOR, displayId, ledColor), JsonNode.class);
+            return postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.LED_COLOR, String.join(Constants.GraphQLRequests.ControlRequest.BULK_DISPLAY_IDS_DELIMITER, displayIds), ledColor));
         } catch (Exception ex) {
-            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute LED Strip Color change command for the device with id %s with value %s", displayId, ledColor), ex);
+            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute LED Strip Color change command for the devices with ids %s with value %s", displayIds, ledColor), ex);
         }
     }
 
     /**
      * Ports control state change command, LOCKED/UNLOCKED
      *
-     * @param displayId    to execute command for
+     * @param displayIds   to execute command for
      * @param controlState new ports control state
+     * @return command response
      * @throws PPDSWaveCommandExecutionException if there's an error during command execution
      */
-    private void commandChangePortsControlState(String displayId, String controlState) throws Exception {
+    private JsonNode commandChangePortsControlState(List<String> displayIds, String controlState) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.PORTS_CONTROL, displayId, controlState), JsonNode.class);
+            return postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.PORTS_CONTROL, String.join(Constants.GraphQLRequests.ControlRequest.BULK_DISPLAY_IDS_DELIMITER, displayIds), controlState));
         } catch (Exception ex) {
-            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Ports control state change command for the device with id %s with value %s", displayId, controlState), ex);
+            throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Ports control state change command for the devices with ids %s with value %s", displayIds, controlState), ex);
         }
     }
 
@@ -1383,7 +2899,7 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
      */
     private void commandChangeAlias(String displayId, String aliasValue) throws Exception {
         try {
-            doPost(EMPTY_STRING, String.format(Constants.GraphQLRequests.ControlRequest.ALIAS, displayId, aliasValue), JsonNode.class);
+            postControlRequest(String.format(Constants.GraphQLRequests.ControlRequest.ALIAS, displayId, aliasValue));
         } catch (Exception ex) {
             throw new PPDSWaveCommandExecutionException(String.format("Unable to execute Alias change command for the device with id %s with value %s", displayId, aliasValue), ex);
         }
@@ -1404,37 +2920,34 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
      * @param value    to set to the control property
      */
     private void updateLocalControlValue(String deviceId, String name, String value) {
-        Optional<AggregatedDevice> device = aggregatedDevices.values().stream().filter(aggregatedDevice ->
-                deviceId.equals(aggregatedDevice.getDeviceId())).findFirst();
-        if (!device.isPresent()) {
+        displayFingerprints.invalidate(deviceId);
+        AggregatedDevice aggregatedDevice = aggregatedDevices.get(deviceId);
+        if (aggregatedDevice == null) {
             return;
         }
-        AggregatedDevice aggregatedDevice = device.get();
-        List<AdvancedControllableProperty> deviceControls = aggregatedDevice.getControllableProperties();
         Map<String, String> properties = aggregatedDevice.getProperties();
-        Date currentDate = new Date();
-        deviceControls.stream().filter(advancedControllableProperty ->
-                name.equals(advancedControllableProperty.getName())).findFirst().ifPresent(advancedControllableProperty -> {
-                    advancedControllableProperty.setValue(value);
-                    advancedControllableProperty.setTimestamp(currentDate);
-                    AdvancedControllableProperty.ControllableType type = advancedControllableProperty.getType();
-
-                    if (type instanceof AdvancedControllableProperty.DropDown) {
-                        String activeLabel = updateNoneControlEntriesAndReturnLabel((AdvancedControllableProperty.DropDown) type, value, false);
-
-                        properties.put(Constants.MonitoredProperties.CONTENT_SOURCE, activeLabel);
-                        deviceControls.stream().filter(control -> control.getName().startsWith(Constants.ControlProperties.CONTENT_SOURCE_NAME + "#Source") && !control.getName().equals(name)).forEach(control -> {
-                            control.setTimestamp(currentDate);
-                            control.setValue(Constants.Utility.NONE_LABEL);
-                            AdvancedControllableProperty.ControllableType externalType = control.getType();
-                            if (externalType instanceof AdvancedControllableProperty.DropDown) {
-                                updateNoneControlEntriesAndReturnLabel((AdvancedControllableProperty.DropDown) externalType, value, true);
-                            }
-                        });
+        DeviceControls controls = deviceControls.get(deviceId);
+        AdvancedControllableProperty advancedControllableProperty = controls == null ? null : controls.get(name);
+        if (advancedControllableProperty != null) {
+            Date currentDate = new Date();
+            advancedControllableProperty.setValue(value);
+            advancedControllableProperty.setTimestamp(currentDate);
+            AdvancedControllableProperty.ControllableType type = advancedControllableProperty.getType();
+
+            if (type instanceof AdvancedControllableProperty.DropDown) {
+                String activeLabel = updateNoneControlEntriesAndReturnLabel((AdvancedControllableProperty.DropDown) type, value, false);
+
+                properties.put(Constants.MonitoredProperties.CONTENT_SOURCE, activeLabel);
+                controls.getAll().stream().filter(control -> control.getName().startsWith(Constants.ControlProperties.CONTENT_SOURCE_NAME + "#Source") && !control.getName().equals(name)).forEach(control -> {
+                    control.setTimestamp(currentDate);
+                    control.setValue(Constants.Utility.NONE_LABEL);
+                    AdvancedControllableProperty.ControllableType externalType = control.getType();
+                    if (externalType instanceof AdvancedControllableProperty.DropDown) {
+                        updateNoneControlEntriesAndReturnLabel((AdvancedControllableProperty.DropDown) externalType, value, true);
                     }
-                }
-
-        );
+                });
+            }
+        }
         properties.put(name, value);
     }
 
@@ -1512,21 +3025,13 @@ public class PhilipsWaveAggregatorCommunicator extends RestCommunicator implemen
         return normalizedUptime.toString().trim();
     }
 
-    /**
-     * Update the status of the device.
-     * The device is considered as paused if did not receive any retrieveMultipleStatistics()
-     * calls during {@link PhilipsWaveAggregatorCommunicator#validRetrieveStatisticsTimestamp}
-     */
-    private synchronized void updateAggregatorStatus() {
-        devicePaused = validRetrieveStatisticsTimestamp < System.currentTimeMillis();
-    }
-
     /**
      * Update general aggregator status (paused or active) and update the value, based on which
-     * it the device is considered paused (2 minutes inactivity -> {@link #retrieveStatisticsTimeOut})
+     * it the device is considered paused (3 minutes inactivity -> {@link #retrieveStatisticsTimeOut}).
+     * The paused state itself is then re-evaluated by {@link PPDSDeviceDataLoader} before each cycle.
      */
-    private synchronized void updateValidRetrieveStatisticsTimestamp() {
+    private void updateValidRetrieveStatisticsTimestamp() {
         validRetrieveStatisticsTimestamp = System.currentTimeMillis() + retrieveStatisticsTimeOut;
-        updateAggregatorStatus();
+        devicePaused = false;
     }
 }
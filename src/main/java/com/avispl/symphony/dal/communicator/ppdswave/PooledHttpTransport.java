@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultRoutePlanner;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.ssl.SSLContexts;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dedicated http transport of the Wave GraphQL endpoint: a pooled keep-alive http client, sized for the parallel
+ * details collection and control operations, so requests reuse the open connections instead of waiting for the default
+ * 2 connections per route or opening a new connection (and TLS handshake) per request.
+ * Idle connections are kept alive for the keep-alive time provided (or the one the server asks for, if shorter),
+ * stale ones are validated before reuse and evicted in the background.
+ * Requests executed with a {@link RequestDeadline} have their timeouts limited to the time left until the deadline,
+ * and are aborted if the deadline passes while they're in flight.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class PooledHttpTransport implements AutoCloseable {
+    private static final String HTTP = "http";
+    private static final String HTTPS = "https";
+    private static final String KEEP_ALIVE = "Keep-Alive";
+    private static final String TIMEOUT = "timeout";
+    private static final int VALIDATE_AFTER_INACTIVITY = 2000;
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    /**
+     * Number of connections opened, for https connections it's the number of TLS handshakes
+     */
+    private final AtomicLong openedConnections = new AtomicLong();
+
+    /**
+     * Create transport with the connection pool provided
+     *
+     * @param maxConnections       max number of pooled connections
+     * @param keepAlive            max time in ms to keep an idle connection open
+     * @param timeout              connect, socket and pooled connection lease timeout in ms
+     * @param trustAllCertificates whether to trust all the server certificates
+     * @param interceptors         rest template request interceptors
+     * @throws Exception if the ssl context cannot be created
+     */
+    public PooledHttpTransport(int maxConnections, long keepAlive, int timeout, boolean trustAllCertificates,
+                               List<ClientHttpRequestInterceptor> interceptors) throws Exception {
+        SSLContext sslContext = trustAllCertificates ? SSLContexts.custom().loadTrustMaterial(null, (chain, authType) -> true).build()
+                : SSLContexts.createSystemDefault();
+        HostnameVerifier hostnameVerifier = trustAllCertificates ? NoopHostnameVerifier.INSTANCE : SSLConnectionSocketFactory.getDefaultHostnameVerifier();
+        ConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(sslContext, hostnameVerifier) {
+            @Override
+            public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+                                        InetSocketAddress localAddress, HttpContext context) throws IOException {
+                openedConnections.incrementAndGet();
+                return super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+            }
+        };
+        ConnectionSocketFactory plainSocketFactory = new PlainConnectionSocketFactory() {
+            @Override
+            public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+                                        InetSocketAddress localAddress, HttpContext context) throws IOException {
+                openedConnections.incrementAndGet();
+                return super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+            }
+        };
+        Registry<ConnectionSocketFactory> socketFactories = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register(HTTP, plainSocketFactory)
+                .register(HTTPS, sslSocketFactory)
+                .build();
+
+        connectionManager = new PoolingHttpClientConnectionManager(socketFactories);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(timeout)
+                .setSocketTimeout(timeout)
+                .setConnectionRequestTimeout(timeout)
+                .build();
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(keepAliveStrategy(keepAlive))
+                .setRoutePlanner(new SystemDefaultRoutePlanner(ProxySelector.getDefault()))
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive, TimeUnit.MILLISECONDS)
+                .build();
+
+        restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient) {
+            @Override
+            protected void postProcessHttpRequest(HttpUriRequest request) {
+                RequestDeadline deadline = RequestDeadline.current();
+                if (deadline != null) {
+                    deadline.onAbort(request::abort);
+                }
+            }
+
+            @Override
+            protected RequestConfig mergeRequestConfig(RequestConfig clientConfig) {
+                RequestDeadline deadline = RequestDeadline.current();
+                if (deadline == null) {
+                    return clientConfig;
+                }
+                int remainingTime = (int) Math.max(1, Math.min(Integer.MAX_VALUE, deadline.getRemainingTime()));
+                return RequestConfig.copy(clientConfig)
+                        .setSocketTimeout(limitTimeout(clientConfig.getSocketTimeout(), remainingTime))
+                        .setConnectionRequestTimeout(limitTimeout(clientConfig.getConnectionRequestTimeout(), remainingTime))
+                        .build();
+            }
+        });
+        restTemplate.setInterceptors(interceptors);
+    }
+
+    /**
+     * Retrieves {@link #restTemplate}
+     *
+     * @return value of {@link #restTemplate}
+     */
+    public RestTemplate getRestTemplate() {
+        return restTemplate;
+    }
+
+    /**
+     * Retrieves number of connections currently leased for the requests
+     *
+     * @return number of leased connections
+     */
+    public int getLeasedConnections() {
+        return connectionManager.getTotalStats().getLeased();
+    }
+
+    /**
+     * Retrieves number of idle connections kept alive in the pool
+     *
+     * @return number of idle connections
+     */
+    public int getIdleConnections() {
+        return connectionManager.getTotalStats().getAvailable();
+    }
+
+    /**
+     * Retrieves number of requests waiting for a pooled connection
+     *
+     * @return number of pending requests
+     */
+    public int getPendingRequests() {
+        return connectionManager.getTotalStats().getPending();
+    }
+
+    /**
+     * Retrieves number of connections opened, for https connections it's the number of TLS handshakes
+     *
+     * @return value of {@link #openedConnections}
+     */
+    public long getOpenedConnections() {
+        return openedConnections.get();
+    }
+
+    /**
+     * Close idle connections, e.g. after a connection error, so the next requests do not reuse them
+     */
+    public void closeIdleConnections() {
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    /**
+     * Limit the timeout to the time left until the request deadline
+     *
+     * @param timeout       configured timeout in ms, 0 or less means no timeout
+     * @param remainingTime time in ms left until the request deadline
+     * @return limited timeout in ms
+     */
+    private static int limitTimeout(int timeout, int remainingTime) {
+        return timeout > 0 ? Math.min(timeout, remainingTime) : remainingTime;
+    }
+
+    /**
+     * Create keep-alive strategy, that keeps connections alive for the time the server asks for with Keep-Alive header,
+     * but no longer than the max keep-alive time provided
+     *
+     * @param keepAlive max time in ms to keep an idle connection alive
+     * @return keep-alive strategy
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long keepAlive) {
+        return (response, context) -> {
+            BasicHeaderElementIterator headerElements = new BasicHeaderElementIterator(response.headerIterator(KEEP_ALIVE));
+            while (headerElements.hasNext()) {
+                HeaderElement headerElement = headerElements.nextElement();
+                if (TIMEOUT.equalsIgnoreCase(headerElement.getName()) && headerElement.getValue() != null) {
+                    try {
+                        return Math.min(keepAlive, Long.parseLong(headerElement.getValue()) * 1000);
+                    } catch (NumberFormatException e) {
+                        return keepAlive;
+                    }
+                }
+            }
+            return keepAlive;
+        };
+    }
+}
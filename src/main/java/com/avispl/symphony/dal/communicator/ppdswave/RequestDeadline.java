@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deadline of a GraphQL request, attached to the request thread while the request is executed.
+ * The http transport limits the connection lease and socket timeouts of the requests to the time left,
+ * and registers the requests to be aborted when the deadline passes, so a request thread blocked on a slow
+ * response is released at the deadline rather than after the socket timeout.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class RequestDeadline {
+    private static final ThreadLocal<RequestDeadline> currentDeadline = new ThreadLocal<>();
+
+    private final long deadline;
+    private final List<Runnable> abortActions = new ArrayList<>();
+    private boolean aborted;
+
+    /**
+     * Create deadline of the request
+     *
+     * @param deadline time in ms, when the request has to be completed
+     */
+    public RequestDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Retrieves deadline of the request executed by the current thread
+     *
+     * @return current request deadline, or null if the current request has no deadline
+     */
+    public static RequestDeadline current() {
+        return currentDeadline.get();
+    }
+
+    /**
+     * Attach the deadline to the current thread
+     */
+    public void attach() {
+        currentDeadline.set(this);
+    }
+
+    /**
+     * Detach the deadline from the current thread
+     */
+    public void detach() {
+        currentDeadline.remove();
+    }
+
+    /**
+     * Retrieves time in ms left until the deadline
+     *
+     * @return time left, 0 if the deadline has passed
+     */
+    public long getRemainingTime() {
+        return Math.max(0, deadline - System.currentTimeMillis());
+    }
+
+    /**
+     * Register an action to abort the request with, e.g. to abort the http request in flight.
+     * If the deadline has already been aborted, the action is executed right away.
+     *
+     * @param abortAction to execute when the request is aborted
+     */
+    public void onAbort(Runnable abortAction) {
+        synchronized (abortActions) {
+            if (!aborted) {
+                abortActions.add(abortAction);
+                return;
+            }
+        }
+        abortAction.run();
+    }
+
+    /**
+     * Abort the request, when the deadline passes or the request is cancelled
+     */
+    public void abort() {
+        List<Runnable> actions;
+        synchronized (abortActions) {
+            if (aborted) {
+                return;
+            }
+            aborted = true;
+            actions = new ArrayList<>(abortActions);
+            abortActions.clear();
+        }
+        actions.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive token bucket, shared by all the http requests of an aggregator instance.
+ * Every request takes a token before it's sent, tokens are refilled with the current request rate, up to one second
+ * of requests. The rate starts at the max rate provided, it's halved with every throttled (429) response and
+ * restored gradually with the successful responses. A throttled response also pauses all the requests for the time
+ * the server asks for with Retry-After header, or for {@link #DEFAULT_RETRY_AFTER} ms if there's none.
+ * Requests of {@link Priority#CONTROL} priority take the tokens first, monitoring requests wait while there are
+ * control requests waiting.
+ * The priority of a request is the priority set for the thread executing it, see {@link #setRequestPriority(Priority)}.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class RequestRateLimiter implements ClientHttpRequestInterceptor {
+    /**
+     * Priority of the requests
+     */
+    public enum Priority {
+        CONTROL, MONITORING
+    }
+
+    private static final String RETRY_AFTER = "Retry-After";
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final long DEFAULT_RETRY_AFTER = 1000;
+    private static final long MAX_RETRY_AFTER = 5 * 60 * 1000;
+    private static final double MIN_RATE = 0.5;
+    /**
+     * Share of the max rate restored with every successful response
+     */
+    private static final double RATE_RECOVERY = 0.02;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition tokensAvailable = lock.newCondition();
+    private final ThreadLocal<Priority> requestPriority = ThreadLocal.withInitial(() -> Priority.MONITORING);
+    private final double maxRate;
+    private double rate;
+    private double tokens;
+    private long refillTimestamp;
+    private long pausedUntil;
+    private int waitingControlRequests;
+    private int waitingRequests;
+    private final AtomicLong throttledResponses = new AtomicLong();
+
+    /**
+     * Create rate limiter with the max request rate provided
+     *
+     * @param maxRate max number of requests per second
+     */
+    public RequestRateLimiter(double maxRate) {
+        this.maxRate = Math.max(MIN_RATE, maxRate);
+        rate = this.maxRate;
+        tokens = Math.max(1, this.maxRate);
+        refillTimestamp = System.nanoTime();
+    }
+
+    /**
+     * Sets priority of the requests sent by the current thread
+     *
+     * @param priority of the requests
+     */
+    public void setRequestPriority(Priority priority) {
+        requestPriority.set(priority);
+    }
+
+    /**
+     * Reset priority of the requests sent by the current thread to {@link Priority#MONITORING}
+     */
+    public void clearRequestPriority() {
+        requestPriority.remove();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        try {
+            acquire(requestPriority.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the request rate limit");
+        }
+        ClientHttpResponse response = execution.execute(request, body);
+        int statusCode = response.getRawStatusCode();
+        String retryAfter = response.getHeaders().getFirst(RETRY_AFTER);
+        if (statusCode == TOO_MANY_REQUESTS || (statusCode == SERVICE_UNAVAILABLE && retryAfter != null)) {
+            onThrottled(parseRetryAfter(retryAfter));
+        } else if (statusCode < 400) {
+            onSuccess();
+        }
+        return response;
+    }
+
+    /**
+     * Wait for a request token
+     *
+     * @param priority of the request
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void acquire(Priority priority) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            boolean control = priority == Priority.CONTROL;
+            waitingRequests++;
+            if (control) {
+                waitingControlRequests++;
+            }
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    refill(now);
+                    long waitTime = pausedUntil - now;
+                    if (waitTime <= 0 && (control || waitingControlRequests == 0)) {
+                        if (tokens >= 1) {
+                            tokens--;
+                            return;
+                        }
+                        waitTime = (long) ((1 - tokens) / rate * TimeUnit.SECONDS.toNanos(1));
+                    }
+                    // a monitoring request waiting for control requests is signalled when they take their tokens
+                    if (waitTime > 0) {
+                        tokensAvailable.awaitNanos(waitTime);
+                    } else {
+                        tokensAvailable.await();
+                    }
+                }
+            } finally {
+                waitingRequests--;
+                if (control && --waitingControlRequests == 0) {
+                    tokensAvailable.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Halve the request rate and pause the requests after a throttled response
+     *
+     * @param retryAfter time in ms the server asks to wait for before the next request
+     */
+    public void onThrottled(long retryAfter) {
+        throttledResponses.incrementAndGet();
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            refill(now);
+            rate = Math.max(MIN_RATE, rate / 2);
+            tokens = 0;
+            pausedUntil = Math.max(pausedUntil, now + TimeUnit.MILLISECONDS.toNanos(retryAfter));
+            refillTimestamp = Math.max(refillTimestamp, pausedUntil);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gradually restore the request rate after a successful response
+     */
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (rate < maxRate) {
+                refill(System.nanoTime());
+                rate = Math.min(maxRate, rate + maxRate * RATE_RECOVERY);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves current number of requests per second
+     *
+     * @return current request rate
+     */
+    public double getRate() {
+        lock.lock();
+        try {
+            return rate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves number of requests waiting for a token
+     *
+     * @return number of waiting requests
+     */
+    public int getWaitingRequests() {
+        lock.lock();
+        try {
+            return waitingRequests;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves number of throttled responses received
+     *
+     * @return value of {@link #throttledResponses}
+     */
+    public long getThrottledResponses() {
+        return throttledResponses.get();
+    }
+
+    /**
+     * Add the tokens for the time passed since the last refill, up to one second of requests
+     *
+     * @param now current {@link System#nanoTime()}
+     */
+    private void refill(long now) {
+        if (now > refillTimestamp) {
+            tokens = Math.min(Math.max(1, rate), tokens + (now - refillTimestamp) * rate / TimeUnit.SECONDS.toNanos(1));
+            refillTimestamp = now;
+        }
+    }
+
+    /**
+     * Parse Retry-After header value, either number of seconds or http date
+     *
+     * @param retryAfter Retry-After header value
+     * @return time to wait for in ms, {@link #DEFAULT_RETRY_AFTER} if the value is missing or cannot be parsed
+     */
+    static long parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.trim().isEmpty()) {
+            return DEFAULT_RETRY_AFTER;
+        }
+        long waitTime;
+        try {
+            waitTime = TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                waitTime = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli() - System.currentTimeMillis();
+            } catch (DateTimeParseException dateTimeParseException) {
+                return DEFAULT_RETRY_AFTER;
+            }
+        }
+        return Math.min(MAX_RETRY_AFTER, Math.max(0, waitTime));
+    }
+}
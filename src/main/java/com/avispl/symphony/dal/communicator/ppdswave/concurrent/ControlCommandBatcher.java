@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.concurrent;
+
+import com.avispl.symphony.dal.communicator.ppdswave.error.PPDSWaveCommandExecutionException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groups control commands with the same name and value, submitted for different devices within a short window,
+ * into a single bulk command execution. Result of the bulk command is then fanned out to every device:
+ * a device command succeeds only if the device is reported back by the bulk command, so the devices the command
+ * was applied to succeed even if the command was not applied to the other devices of the batch.
+ * Commands are only held back while a bulk command of the same name and value is in progress: if there's none,
+ * the command is executed right away, so a single control does not wait for the batch window.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class ControlCommandBatcher {
+    /**
+     * Bulk command, executed for all the devices of a batch at once
+     */
+    @FunctionalInterface
+    public interface BulkCommand {
+        /**
+         * Execute the command for the devices provided
+         *
+         * @param command   name of the command
+         * @param value     command value
+         * @param deviceIds devices to execute the command for
+         * @return ids of the devices the command was applied to, or null if the command does not report them
+         * @throws Exception if the command has failed for all the devices
+         */
+        Set<String> execute(String command, String value, List<String> deviceIds) throws Exception;
+    }
+
+    /**
+     * Command submitted for a single device, with the command result of the device
+     */
+    private static class Submission {
+        private final String deviceId;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        Submission(String deviceId) {
+            this.deviceId = deviceId;
+        }
+    }
+
+    /**
+     * Submissions of the same command and value, collected within the batch window
+     */
+    private static class Batch {
+        private final String key;
+        private final String command;
+        private final String value;
+        private final List<Submission> submissions = new ArrayList<>();
+
+        Batch(String key, String command, String value) {
+            this.key = key;
+            this.command = command;
+            this.value = value;
+        }
+    }
+
+    private static final long THREAD_KEEP_ALIVE = 60 * 1000;
+
+    private final Map<String, Batch> openBatches = new HashMap<>();
+    /**
+     * Number of batches passed to the executor and not finished yet, by batch key. Guarded by {@link #openBatches}
+     */
+    private final Map<String, Integer> runningBatches = new HashMap<>();
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final BulkCommand bulkCommand;
+    private final Executor executor;
+    private final long batchWindow;
+
+    /**
+     * Create batcher for the bulk command provided
+     *
+     * @param bulkCommand to execute batches with
+     * @param batchWindow time in ms to collect submissions of the same command and value for, while a batch of the same
+     *                    command and value is in progress, 0 to execute right away
+     * @param executor    to execute the batches on
+     */
+    public ControlCommandBatcher(BulkCommand bulkCommand, long batchWindow, Executor executor) {
+        this.bulkCommand = bulkCommand;
+        this.batchWindow = Math.max(0, batchWindow);
+        this.executor = executor;
+        scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "PPDSWave-ControlBatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setKeepAliveTime(THREAD_KEEP_ALIVE, TimeUnit.MILLISECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Submit command for the devices provided. The devices join the open batch of the same command and value,
+     * or open a new one. A new batch is executed right away if there's no batch of the same command and value in progress,
+     * otherwise it's executed once the batch window is over, with all the devices submitted within the window.
+     *
+     * @param command   name of the command
+     * @param value     command value
+     * @param deviceIds devices to execute the command for
+     * @return result of the command for every device provided, by device id
+     */
+    public Map<String, CompletableFuture<Void>> submit(String command, String value, Collection<String> deviceIds) {
+        Map<String, CompletableFuture<Void>> results = new LinkedHashMap<>();
+        String batchKey = command + '\n' + value;
+        Batch immediateBatch = null;
+        synchronized (openBatches) {
+            Batch batch = openBatches.get(batchKey);
+            if (batch == null) {
+                Batch newBatch = new Batch(batchKey, command, value);
+                if (runningBatches.containsKey(batchKey)) {
+                    openBatches.put(batchKey, newBatch);
+                    scheduler.schedule(() -> flush(newBatch), batchWindow, TimeUnit.MILLISECONDS);
+                } else {
+                    // the batch is not open, so no other submission can join it before it's executed
+                    immediateBatch = newBatch;
+                    runningBatches.merge(batchKey, 1, Integer::sum);
+                }
+                batch = newBatch;
+            }
+            for (String deviceId : deviceIds) {
+                if (!results.containsKey(deviceId)) {
+                    Submission submission = new Submission(deviceId);
+                    batch.submissions.add(submission);
+                    results.put(deviceId, submission.result);
+                }
+            }
+        }
+        if (immediateBatch != null) {
+            dispatch(immediateBatch);
+        }
+        return results;
+    }
+
+    /**
+     * Submit command for the device provided and wait for its result
+     *
+     * @param command  name of the command
+     * @param value    command value
+     * @param deviceId device to execute the command for
+     * @throws Exception if the command has failed or was not applied to the device
+     */
+    public void execute(String command, String value, String deviceId) throws Exception {
+        await(submit(command, value, Collections.singletonList(deviceId)).get(deviceId));
+    }
+
+    /**
+     * Wait for the command result of a device, unwrapping the original command failure
+     *
+     * @param result of the device command
+     * @throws Exception if the command has failed or was not applied to the device
+     */
+    public static void await(CompletableFuture<Void> result) throws Exception {
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    /**
+     * Close the batch once the batch window is over and pass it to the executor
+     *
+     * @param batch to close
+     */
+    private void flush(Batch batch) {
+        synchronized (openBatches) {
+            if (!openBatches.remove(batch.key, batch)) {
+                return;
+            }
+            runningBatches.merge(batch.key, 1, Integer::sum);
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * Pass the closed batch to the executor, the batch must be counted in {@link #runningBatches}
+     *
+     * @param batch to execute
+     */
+    private void dispatch(Batch batch) {
+        try {
+            executor.execute(() -> executeBatch(batch));
+        } catch (Exception e) {
+            finish(batch);
+            batch.submissions.forEach(submission -> submission.result.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Remove the finished batch from {@link #runningBatches}
+     *
+     * @param batch finished
+     */
+    private void finish(Batch batch) {
+        synchronized (openBatches) {
+            runningBatches.computeIfPresent(batch.key, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * Execute the bulk command for all the devices of the batch and report the result to every submission.
+     * The batch is finished before the results are reported, so the next command of a caller is not held back by it.
+     *
+     * @param batch to execute
+     */
+    private void executeBatch(Batch batch) {
+        Set<String> deviceIds = new LinkedHashSet<>();
+        batch.submissions.forEach(submission -> deviceIds.add(submission.deviceId));
+        Set<String> appliedIds;
+        try {
+            appliedIds = bulkCommand.execute(batch.command, batch.value, new ArrayList<>(deviceIds));
+        } catch (Exception e) {
+            finish(batch);
+            batch.submissions.forEach(submission -> submission.result.completeExceptionally(e));
+            return;
+        }
+        finish(batch);
+        for (Submission submission : batch.submissions) {
+            if (appliedIds == null || appliedIds.contains(submission.deviceId)) {
+                submission.result.complete(null);
+            } else {
+                submission.result.completeExceptionally(new PPDSWaveCommandExecutionException(
+                        String.format("%s command with value %s was not applied to the device with id %s", batch.command, batch.value, submission.deviceId), null));
+            }
+        }
+    }
+
+    /**
+     * Stop the batch scheduling, batches that are not executed yet are failed
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        synchronized (openBatches) {
+            openBatches.values().forEach(batch -> batch.submissions.forEach(submission ->
+                    submission.result.completeExceptionally(new IllegalStateException("Control command batcher is shut down"))));
+            openBatches.clear();
+            runningBatches.clear();
+        }
+    }
+}
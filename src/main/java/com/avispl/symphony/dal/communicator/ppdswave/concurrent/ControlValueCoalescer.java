@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.concurrent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Last-write-wins coalescing of control values, per device and per control property.
+ * Values submitted for the same device property within the debounce window replace each other, and only the latest
+ * one is sent once the window is over. While a value is being sent, new values are collected and the latest one
+ * is sent right after, so the values of the same device property are never sent out of order.
+ * If values keep arriving (e.g. slider is being dragged), the latest value is still sent at least every
+ * {@link #MAX_DELAY_WINDOWS} debounce windows.
+ * Failed values are reported to the failure handler, along with whether a newer value of the same device property
+ * is pending, so the caller can restore the control value if the latest value has failed.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class ControlValueCoalescer {
+    /**
+     * Sender of the coalesced control value
+     */
+    @FunctionalInterface
+    public interface ValueSender {
+        /**
+         * Send the control value
+         *
+         * @param deviceId to send the value for
+         * @param property name of the control property
+         * @param value    latest value of the control property
+         * @throws Exception if any error occurs
+         */
+        void send(String deviceId, String property, String value) throws Exception;
+    }
+
+    /**
+     * Handler of the values that could not be sent
+     */
+    @FunctionalInterface
+    public interface FailureHandler {
+        /**
+         * Handle the value that could not be sent
+         *
+         * @param deviceId the value was sent for
+         * @param property name of the control property
+         * @param latest   whether the value is the latest one, i.e. there's no newer value of the property pending
+         * @param error    send error
+         */
+        void onFailure(String deviceId, String property, boolean latest, Exception error);
+    }
+
+    /**
+     * Latest value of a device control property, that is not sent yet
+     */
+    private static class PendingValue {
+        private final String deviceId;
+        private final String property;
+        private String value;
+        private boolean dirty;
+        private boolean sending;
+        private long firstSubmitTimestamp;
+        private ScheduledFuture<?> scheduledSend;
+
+        PendingValue(String deviceId, String property) {
+            this.deviceId = deviceId;
+            this.property = property;
+        }
+    }
+
+    /**
+     * Max delay of the value, in debounce windows, counted from the first value that is not sent yet
+     */
+    private static final int MAX_DELAY_WINDOWS = 4;
+    private static final long THREAD_KEEP_ALIVE = 60 * 1000;
+
+    private final Map<String, PendingValue> pendingValues = new HashMap<>();
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ValueSender valueSender;
+    private final FailureHandler failureHandler;
+    private final Executor executor;
+    private final long debounceWindow;
+
+    /**
+     * Create coalescer for the value sender provided
+     *
+     * @param valueSender    to send the latest values with
+     * @param failureHandler to report the values that could not be sent to
+     * @param debounceWindow time in ms to wait for the next value of the same device property, before sending the latest one
+     * @param executor       to send the values on
+     */
+    public ControlValueCoalescer(ValueSender valueSender, FailureHandler failureHandler, long debounceWindow, Executor executor) {
+        this.valueSender = valueSender;
+        this.failureHandler = failureHandler;
+        this.debounceWindow = Math.max(0, debounceWindow);
+        this.executor = executor;
+        scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "PPDSWave-ControlCoalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setKeepAliveTime(THREAD_KEEP_ALIVE, TimeUnit.MILLISECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Submit control value, replacing the value of the same device property that is not sent yet
+     *
+     * @param deviceId to send the value for
+     * @param property name of the control property
+     * @param value    new value of the control property
+     */
+    public void submit(String deviceId, String property, String value) {
+        String key = deviceId + '\n' + property;
+        synchronized (pendingValues) {
+            PendingValue pendingValue = pendingValues.computeIfAbsent(key, k -> new PendingValue(deviceId, property));
+            if (!pendingValue.dirty) {
+                pendingValue.firstSubmitTimestamp = System.currentTimeMillis();
+            }
+            pendingValue.value = value;
+            pendingValue.dirty = true;
+            if (!pendingValue.sending) {
+                scheduleSend(key, pendingValue);
+            }
+        }
+    }
+
+    /**
+     * (Re)schedule sending of the pending value, within the debounce window but not later than the max delay.
+     * Must be called while holding {@link #pendingValues} monitor.
+     *
+     * @param key          of the pending value
+     * @param pendingValue to send
+     */
+    private void scheduleSend(String key, PendingValue pendingValue) {
+        if (pendingValue.scheduledSend != null) {
+            pendingValue.scheduledSend.cancel(false);
+        }
+        long maxDelay = pendingValue.firstSubmitTimestamp + debounceWindow * MAX_DELAY_WINDOWS - System.currentTimeMillis();
+        long delay = Math.max(0, Math.min(debounceWindow, maxDelay));
+        pendingValue.scheduledSend = scheduler.schedule(() -> send(key, pendingValue), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Send the latest pending value, and schedule the next one if new values arrived while the value was being sent
+     *
+     * @param key          of the pending value
+     * @param pendingValue to send
+     */
+    private void send(String key, PendingValue pendingValue) {
+        String value;
+        synchronized (pendingValues) {
+            if (!pendingValue.dirty || pendingValue.sending) {
+                return;
+            }
+            value = pendingValue.value;
+            pendingValue.dirty = false;
+            pendingValue.sending = true;
+            pendingValue.scheduledSend = null;
+        }
+        executor.execute(() -> {
+            try {
+                valueSender.send(pendingValue.deviceId, pendingValue.property, value);
+            } catch (Exception e) {
+                boolean latest;
+                synchronized (pendingValues) {
+                    latest = !pendingValue.dirty;
+                }
+                failureHandler.onFailure(pendingValue.deviceId, pendingValue.property, latest, e);
+            } finally {
+                synchronized (pendingValues) {
+                    pendingValue.sending = false;
+                    if (pendingValue.dirty) {
+                        scheduleSend(key, pendingValue);
+                    } else {
+                        pendingValues.remove(key);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Stop sending the values, values that are not sent yet are dropped
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        synchronized (pendingValues) {
+            pendingValues.clear();
+        }
+    }
+}
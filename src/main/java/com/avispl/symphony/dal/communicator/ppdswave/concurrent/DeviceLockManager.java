@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.concurrent;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-device lock manager, to grant mutual exclusion of the control operations and devices details refresh
+ * based on the device id. Every device has its own {@link ReentrantLock}, that exists only while it's held or
+ * awaited, so devices do not contend with each other.
+ * Control operations have priority over the refresh: refresh does not wait for a device that has a control
+ * operation in progress or pending, it's skipped instead, so the refreshed data does not override the new control value.
+ * Lock contention and wait time are counted, to be reported with the aggregator statistics.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class DeviceLockManager {
+    /**
+     * Lock of a single device, with the number of threads holding or awaiting it.
+     * Counters are only changed within {@link ConcurrentHashMap#compute}, so they're guarded by the map.
+     */
+    private static class KeyLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int users;
+        private int controlUsers;
+    }
+
+    private final ConcurrentHashMap<String, KeyLock> locks = new ConcurrentHashMap<>();
+    private final AtomicLong acquiredCount = new AtomicLong();
+    private final AtomicLong contendedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private final AtomicLong refreshSkippedCount = new AtomicLong();
+    private final AtomicLong totalWaitTime = new AtomicLong();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    /**
+     * Lock device for a control operation, waiting for the current lock holder up to the timeout provided
+     *
+     * @param key     device id to lock
+     * @param timeout max time in ms to wait for the lock
+     * @return true if the lock is acquired, false if timed out
+     * @throws InterruptedException if the thread is interrupted while waiting for the lock
+     */
+    public boolean lockForControl(String key, long timeout) throws InterruptedException {
+        KeyLock keyLock = locks.compute(key, (k, existing) -> {
+            KeyLock value = existing == null ? new KeyLock() : existing;
+            value.users++;
+            value.controlUsers++;
+            return value;
+        });
+        boolean locked = false;
+        try {
+            locked = acquire(keyLock, timeout);
+            return locked;
+        } finally {
+            if (!locked) {
+                release(key, true);
+            }
+        }
+    }
+
+    /**
+     * Lock device for the details refresh. Device is not locked if there's a control operation in progress or pending.
+     *
+     * @param key     device id to lock
+     * @param timeout max time in ms to wait for the lock
+     * @return true if the lock is acquired, false if the device has a control operation pending or timed out
+     * @throws InterruptedException if the thread is interrupted while waiting for the lock
+     */
+    public boolean lockForRefresh(String key, long timeout) throws InterruptedException {
+        boolean[] controlPending = new boolean[1];
+        KeyLock keyLock = locks.compute(key, (k, existing) -> {
+            if (existing != null && existing.controlUsers > 0) {
+                controlPending[0] = true;
+                return existing;
+            }
+            KeyLock value = existing == null ? new KeyLock() : existing;
+            value.users++;
+            return value;
+        });
+        if (controlPending[0]) {
+            refreshSkippedCount.incrementAndGet();
+            return false;
+        }
+        boolean locked = false;
+        try {
+            locked = acquire(keyLock, timeout);
+            return locked;
+        } finally {
+            if (!locked) {
+                release(key, false);
+            }
+        }
+    }
+
+    /**
+     * Unlock device locked with {@link #lockForControl(String, long)}
+     *
+     * @param key device id to unlock
+     */
+    public void unlockControl(String key) {
+        unlock(key, true);
+    }
+
+    /**
+     * Unlock device locked with {@link #lockForRefresh(String, long)}
+     *
+     * @param key device id to unlock
+     */
+    public void unlockRefresh(String key) {
+        unlock(key, false);
+    }
+
+    /**
+     * Retrieves number of devices that have their lock held or awaited
+     *
+     * @return number of device locks in use
+     */
+    public int getLockedDevicesCount() {
+        return locks.size();
+    }
+
+    /**
+     * Retrieves number of locks acquired
+     *
+     * @return value of {@link #acquiredCount}
+     */
+    public long getAcquiredCount() {
+        return acquiredCount.get();
+    }
+
+    /**
+     * Retrieves number of lock acquisitions that had to wait for another lock holder
+     *
+     * @return value of {@link #contendedCount}
+     */
+    public long getContendedCount() {
+        return contendedCount.get();
+    }
+
+    /**
+     * Retrieves number of lock acquisitions that timed out
+     *
+     * @return value of {@link #timedOutCount}
+     */
+    public long getTimedOutCount() {
+        return timedOutCount.get();
+    }
+
+    /**
+     * Retrieves number of refresh lock acquisitions skipped in favor of control operations
+     *
+     * @return value of {@link #refreshSkippedCount}
+     */
+    public long getRefreshSkippedCount() {
+        return refreshSkippedCount.get();
+    }
+
+    /**
+     * Retrieves average time in ms spent waiting for contended locks
+     *
+     * @return average wait time in ms, 0 if there was no contention
+     */
+    public long getAverageWaitTime() {
+        long contended = contendedCount.get();
+        return contended == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitTime.get() / contended);
+    }
+
+    /**
+     * Retrieves max time in ms spent waiting for a contended lock
+     *
+     * @return value of {@link #maxWaitTime} in ms
+     */
+    public long getMaxWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitTime.get());
+    }
+
+    /**
+     * Acquire the device lock, counting contention and wait time
+     *
+     * @param keyLock to acquire
+     * @param timeout max time in ms to wait for the lock
+     * @return true if the lock is acquired, false if timed out
+     * @throws InterruptedException if the thread is interrupted while waiting for the lock
+     */
+    private boolean acquire(KeyLock keyLock, long timeout) throws InterruptedException {
+        if (keyLock.lock.tryLock()) {
+            acquiredCount.incrementAndGet();
+            return true;
+        }
+        contendedCount.incrementAndGet();
+        long waitStart = System.nanoTime();
+        boolean locked = keyLock.lock.tryLock(timeout, TimeUnit.MILLISECONDS);
+        long waitTime = System.nanoTime() - waitStart;
+        totalWaitTime.addAndGet(waitTime);
+        maxWaitTime.accumulateAndGet(waitTime, Math::max);
+        if (locked) {
+            acquiredCount.incrementAndGet();
+        } else {
+            timedOutCount.incrementAndGet();
+        }
+        return locked;
+    }
+
+    /**
+     * Unlock the device lock and release it
+     *
+     * @param key     device id to unlock
+     * @param control whether the lock was acquired for a control operation
+     */
+    private void unlock(String key, boolean control) {
+        KeyLock keyLock = locks.get(key);
+        if (keyLock == null || !keyLock.lock.isHeldByCurrentThread()) {
+            return;
+        }
+        keyLock.lock.unlock();
+        release(key, control);
+    }
+
+    /**
+     * Decrement the number of device lock users, removing the lock once it's not used anymore
+     *
+     * @param key     device id to release
+     * @param control whether the lock was used for a control operation
+     */
+    private void release(String key, boolean control) {
+        locks.computeIfPresent(key, (k, keyLock) -> {
+            keyLock.users--;
+            if (control) {
+                keyLock.controlUsers--;
+            }
+            return keyLock.users == 0 ? null : keyLock;
+        });
+    }
+}
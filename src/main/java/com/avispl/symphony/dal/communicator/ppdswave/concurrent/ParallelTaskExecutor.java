@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Bounded executor that runs the same asynchronous task for a number of keys (e.g. customer handles) in parallel.
+ * A task is started by a worker thread, which is released as soon as the task returns its future result,
+ * and up to the parallelism provided tasks are in progress at the same time: the next task is started once
+ * the result of a running one is completed. Every task has its own deadline, which starts when the task is started,
+ * so tasks that wait in the queue behind others are not penalized for the queue time.
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ */
+public class ParallelTaskExecutor {
+    /**
+     * Asynchronous task to execute for a given key
+     *
+     * @param <T> type of the task result
+     */
+    @FunctionalInterface
+    public interface KeyedTask<T> {
+        /**
+         * Start task for the key provided
+         *
+         * @param key to execute the task for
+         * @return future task result, cancelling it is expected to cancel the task
+         * @throws Exception if the task cannot be started
+         */
+        CompletableFuture<T> execute(String key) throws Exception;
+    }
+
+    /**
+     * Tasks of a single {@link #executeAll(Collection, long, KeyedTask, BiConsumer)} call
+     *
+     * @param <T> type of the task result
+     */
+    private class TaskGroup<T> {
+        private final Map<String, CompletableFuture<T>> results = new LinkedHashMap<>();
+        private final Queue<String> pendingKeys = new ArrayDeque<>();
+        private final long taskTimeout;
+        private final KeyedTask<T> task;
+
+        TaskGroup(Collection<String> keys, long taskTimeout, KeyedTask<T> task) {
+            this.taskTimeout = taskTimeout;
+            this.task = task;
+            for (String key : keys) {
+                if (!results.containsKey(key)) {
+                    results.put(key, new CompletableFuture<>());
+                    pendingKeys.add(key);
+                }
+            }
+        }
+
+        /**
+         * Start the next pending task with a worker thread, if there's one
+         */
+        private void startNext() {
+            String key;
+            synchronized (pendingKeys) {
+                key = pendingKeys.poll();
+            }
+            if (key == null) {
+                return;
+            }
+            CompletableFuture<T> result = results.get(key);
+            try {
+                executorService.execute(() -> start(key, result));
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+                startNext();
+            }
+        }
+
+        /**
+         * Start the task, and schedule its deadline. The next pending task is started once the task result is completed.
+         *
+         * @param key    to start the task for
+         * @param result future result of the task
+         */
+        private void start(String key, CompletableFuture<T> result) {
+            if (result.isDone()) {
+                startNext();
+                return;
+            }
+            CompletableFuture<T> taskResult;
+            try {
+                taskResult = task.execute(key);
+            } catch (Exception e) {
+                taskResult = new CompletableFuture<>();
+                taskResult.completeExceptionally(e);
+            }
+            taskResult.whenComplete((value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                }
+            });
+            ScheduledFuture<?> deadline = scheduler.schedule(() -> result.completeExceptionally(
+                    new TimeoutException(String.format("Task for %s did not finish within %d ms", key, taskTimeout))), taskTimeout, TimeUnit.MILLISECONDS);
+            CompletableFuture<T> startedTaskResult = taskResult;
+            result.whenComplete((value, error) -> {
+                deadline.cancel(false);
+                // timed out or cancelled task is cancelled as well, no-op if the task has already completed
+                startedTaskResult.cancel(true);
+                startNext();
+            });
+        }
+
+        /**
+         * Cancel all the tasks of the group, including the pending ones
+         */
+        private void cancel() {
+            synchronized (pendingKeys) {
+                pendingKeys.clear();
+            }
+            results.values().forEach(result -> result.cancel(true));
+        }
+    }
+
+    private static final long THREAD_KEEP_ALIVE = 60 * 1000;
+
+    private final int parallelism;
+    private final ThreadPoolExecutor executorService;
+    /**
+     * Scheduler of the task deadlines
+     */
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * Create executor with the maximum number of tasks running at the same time.
+     * Worker threads are daemon threads, released once idle for {@link #THREAD_KEEP_ALIVE} ms.
+     *
+     * @param parallelism max number of tasks running in parallel
+     */
+    public ParallelTaskExecutor(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        AtomicInteger threadNumber = new AtomicInteger();
+        executorService = new ThreadPoolExecutor(this.parallelism, this.parallelism, THREAD_KEEP_ALIVE, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "PPDSWave-Customer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executorService.allowCoreThreadTimeOut(true);
+        scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "PPDSWave-Customer-Scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setKeepAliveTime(THREAD_KEEP_ALIVE, TimeUnit.MILLISECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Run the task for every key provided, without waiting for the tasks to finish.
+     * Tasks that did not finish within the timeout are cancelled and reported to the failure handler
+     * with {@link TimeoutException}, same as the tasks that failed with an error.
+     * Failure handler is called once all the tasks are finished, by the thread that finishes the last one.
+     * Cancelling the returned future cancels all the tasks.
+     *
+     * @param keys           to run the task for
+     * @param taskTimeout    max time in ms a single task may take, counted from the moment it is started
+     * @param task           to execute for each key
+     * @param failureHandler to report failed or timed out tasks to
+     * @param <T>            type of the task result
+     * @return future map of successful task results by key, in the order of the keys provided
+     */
+    public <T> CompletableFuture<Map<String, T>> executeAll(Collection<String> keys, long taskTimeout, KeyedTask<T> task,
+                                                            BiConsumer<String, Exception> failureHandler) {
+        TaskGroup<T> taskGroup = new TaskGroup<>(keys, taskTimeout, task);
+        CompletableFuture<Map<String, T>> results = CompletableFuture.allOf(taskGroup.results.values().toArray(new CompletableFuture[0]))
+                .handle((value, error) -> {
+                    Map<String, T> taskResults = new LinkedHashMap<>();
+                    taskGroup.results.forEach((key, result) -> result.handle((taskResult, taskError) -> {
+                        if (taskError == null) {
+                            taskResults.put(key, taskResult);
+                        } else {
+                            failureHandler.accept(key, taskError instanceof Exception ? (Exception) taskError : new CompletionException(taskError));
+                        }
+                        return null;
+                    }));
+                    return taskResults;
+                });
+        results.whenComplete((value, error) -> {
+            if (results.isCancelled()) {
+                taskGroup.cancel();
+            }
+        });
+        for (int i = 0; i < parallelism; i++) {
+            taskGroup.startNext();
+        }
+        return results;
+    }
+
+    /**
+     * Stop all the running tasks and release worker threads
+     */
+    public void shutdown() {
+        executorService.shutdownNow();
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto;
+
+/**
+ * Reported value of a display setting, as reported by the display agent
+ *
+ * @param <T> type of the reported value
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class ReportedValue<T> {
+    private T reported;
+    private String reportedAt;
+
+    /**
+     * Retrieves {@link #reported}
+     *
+     * @return value of {@link #reported}
+     */
+    public T getReported() {
+        return reported;
+    }
+
+    /**
+     * Sets {@link #reported} value
+     *
+     * @param reported new value of {@link #reported}
+     */
+    public void setReported(T reported) {
+        this.reported = reported;
+    }
+
+    /**
+     * Retrieves {@link #reportedAt}
+     *
+     * @return value of {@link #reportedAt}
+     */
+    public String getReportedAt() {
+        return reportedAt;
+    }
+
+    /**
+     * Sets {@link #reportedAt} value
+     *
+     * @param reportedAt new value of {@link #reportedAt}
+     */
+    public void setReportedAt(String reportedAt) {
+        this.reportedAt = reportedAt;
+    }
+}
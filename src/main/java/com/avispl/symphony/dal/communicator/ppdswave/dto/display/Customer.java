@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+/**
+ * Customer the display belongs to
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class Customer {
+    private String id;
+    private String name;
+    private String handle;
+    private String avatarUrl;
+
+    /**
+     * Retrieves {@link #id}
+     *
+     * @return value of {@link #id}
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets {@link #id} value
+     *
+     * @param id new value of {@link #id}
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieves {@link #name}
+     *
+     * @return value of {@link #name}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets {@link #name} value
+     *
+     * @param name new value of {@link #name}
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves {@link #handle}
+     *
+     * @return value of {@link #handle}
+     */
+    public String getHandle() {
+        return handle;
+    }
+
+    /**
+     * Sets {@link #handle} value
+     *
+     * @param handle new value of {@link #handle}
+     */
+    public void setHandle(String handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Retrieves {@link #avatarUrl}
+     *
+     * @return value of {@link #avatarUrl}
+     */
+    public String getAvatarUrl() {
+        return avatarUrl;
+    }
+
+    /**
+     * Sets {@link #avatarUrl} value
+     *
+     * @param avatarUrl new value of {@link #avatarUrl}
+     */
+    public void setAvatarUrl(String avatarUrl) {
+        this.avatarUrl = avatarUrl;
+    }
+}
@@ -3,10 +3,12 @@
  */
 package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
 
+import com.avispl.symphony.dal.communicator.ppdswave.dto.ReportedValue;
 import com.avispl.symphony.dal.communicator.ppdswave.dto.display.power.PowerSchedule;
 import com.avispl.symphony.dal.communicator.ppdswave.dto.display.source.ContentSource;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Display data container
@@ -24,6 +26,31 @@ public class Display {
     private List<AppSubscription> appSubscriptions;
     private Bookmarks bookmarks;
     private ContentSource contentSource;
+    private String alias;
+    private String serialNumber;
+    private String agentVersion;
+    private String commercialTypeNumber;
+    private Boolean hasEmptyShadow;
+    private Boolean hasSensitiveData;
+    private ReportedValue<String> agentReleaseChannel;
+    private ReportedValue<Integer> brightness;
+    private ReportedValue<String> orientation;
+    private ReportedValue<String> signalDetection;
+    private ReportedValue<String> power;
+    private ReportedValue<String> infraRedControl;
+    private ReportedValue<String> keyboardControl;
+    private ReportedValue<String> ledStripColor;
+    private ReportedValue<String> portsControl;
+    private ReportedValue<String> timeZone;
+    private ReportedValue<RecommendedSettings> recommendedSettings;
+    private Presence presence;
+    private Screenshot screenshot;
+    private Volume volume;
+    private NetworkInformation networkInformation;
+    private DisplayPlaylist playlist;
+    private Customer customer;
+    private Site site;
+    private Firmware firmware;
 
     /**
      * Retrieves {@link #platform}
@@ -168,4 +195,518 @@ public class Display {
     public void setContentSource(ContentSource contentSource) {
         this.contentSource = contentSource;
     }
+
+    /**
+     * Retrieves {@link #alias}
+     *
+     * @return value of {@link #alias}
+     */
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     * Sets {@link #alias} value
+     *
+     * @param alias new value of {@link #alias}
+     */
+    public void setAlias(String alias) {
+        this.alias = alias;
+    }
+
+    /**
+     * Retrieves {@link #serialNumber}
+     *
+     * @return value of {@link #serialNumber}
+     */
+    public String getSerialNumber() {
+        return serialNumber;
+    }
+
+    /**
+     * Sets {@link #serialNumber} value
+     *
+     * @param serialNumber new value of {@link #serialNumber}
+     */
+    public void setSerialNumber(String serialNumber) {
+        this.serialNumber = serialNumber;
+    }
+
+    /**
+     * Retrieves {@link #agentVersion}
+     *
+     * @return value of {@link #agentVersion}
+     */
+    public String getAgentVersion() {
+        return agentVersion;
+    }
+
+    /**
+     * Sets {@link #agentVersion} value
+     *
+     * @param agentVersion new value of {@link #agentVersion}
+     */
+    public void setAgentVersion(String agentVersion) {
+        this.agentVersion = agentVersion;
+    }
+
+    /**
+     * Retrieves {@link #commercialTypeNumber}
+     *
+     * @return value of {@link #commercialTypeNumber}
+     */
+    public String getCommercialTypeNumber() {
+        return commercialTypeNumber;
+    }
+
+    /**
+     * Sets {@link #commercialTypeNumber} value
+     *
+     * @param commercialTypeNumber new value of {@link #commercialTypeNumber}
+     */
+    public void setCommercialTypeNumber(String commercialTypeNumber) {
+        this.commercialTypeNumber = commercialTypeNumber;
+    }
+
+    /**
+     * Retrieves {@link #hasEmptyShadow}
+     *
+     * @return value of {@link #hasEmptyShadow}
+     */
+    public Boolean getHasEmptyShadow() {
+        return hasEmptyShadow;
+    }
+
+    /**
+     * Sets {@link #hasEmptyShadow} value
+     *
+     * @param hasEmptyShadow new value of {@link #hasEmptyShadow}
+     */
+    public void setHasEmptyShadow(Boolean hasEmptyShadow) {
+        this.hasEmptyShadow = hasEmptyShadow;
+    }
+
+    /**
+     * Retrieves {@link #hasSensitiveData}
+     *
+     * @return value of {@link #hasSensitiveData}
+     */
+    public Boolean getHasSensitiveData() {
+        return hasSensitiveData;
+    }
+
+    /**
+     * Sets {@link #hasSensitiveData} value
+     *
+     * @param hasSensitiveData new value of {@link #hasSensitiveData}
+     */
+    public void setHasSensitiveData(Boolean hasSensitiveData) {
+        this.hasSensitiveData = hasSensitiveData;
+    }
+
+    /**
+     * Retrieves {@link #agentReleaseChannel}
+     *
+     * @return value of {@link #agentReleaseChannel}
+     */
+    public ReportedValue<String> getAgentReleaseChannel() {
+        return agentReleaseChannel;
+    }
+
+    /**
+     * Sets {@link #agentReleaseChannel} value
+     *
+     * @param agentReleaseChannel new value of {@link #agentReleaseChannel}
+     */
+    public void setAgentReleaseChannel(ReportedValue<String> agentReleaseChannel) {
+        this.agentReleaseChannel = agentReleaseChannel;
+    }
+
+    /**
+     * Retrieves {@link #brightness}
+     *
+     * @return value of {@link #brightness}
+     */
+    public ReportedValue<Integer> getBrightness() {
+        return brightness;
+    }
+
+    /**
+     * Sets {@link #brightness} value
+     *
+     * @param brightness new value of {@link #brightness}
+     */
+    public void setBrightness(ReportedValue<Integer> brightness) {
+        this.brightness = brightness;
+    }
+
+    /**
+     * Retrieves {@link #orientation}
+     *
+     * @return value of {@link #orientation}
+     */
+    public ReportedValue<String> getOrientation() {
+        return orientation;
+    }
+
+    /**
+     * Sets {@link #orientation} value
+     *
+     * @param orientation new value of {@link #orientation}
+     */
+    public void setOrientation(ReportedValue<String> orientation) {
+        this.orientation = orientation;
+    }
+
+    /**
+     * Retrieves {@link #signalDetection}
+     *
+     * @return value of {@link #signalDetection}
+     */
+    public ReportedValue<String> getSignalDetection() {
+        return signalDetection;
+    }
+
+    /**
+     * Sets {@link #signalDetection} value
+     *
+     * @param signalDetection new value of {@link #signalDetection}
+     */
+    public void setSignalDetection(ReportedValue<String> signalDetection) {
+        this.signalDetection = signalDetection;
+    }
+
+    /**
+     * Retrieves {@link #power}
+     *
+     * @return value of {@link #power}
+     */
+    public ReportedValue<String> getPower() {
+        return power;
+    }
+
+    /**
+     * Sets {@link #power} value
+     *
+     * @param power new value of {@link #power}
+     */
+    public void setPower(ReportedValue<String> power) {
+        this.power = power;
+    }
+
+    /**
+     * Retrieves {@link #infraRedControl}
+     *
+     * @return value of {@link #infraRedControl}
+     */
+    public ReportedValue<String> getInfraRedControl() {
+        return infraRedControl;
+    }
+
+    /**
+     * Sets {@link #infraRedControl} value
+     *
+     * @param infraRedControl new value of {@link #infraRedControl}
+     */
+    public void setInfraRedControl(ReportedValue<String> infraRedControl) {
+        this.infraRedControl = infraRedControl;
+    }
+
+    /**
+     * Retrieves {@link #keyboardControl}
+     *
+     * @return value of {@link #keyboardControl}
+     */
+    public ReportedValue<String> getKeyboardControl() {
+        return keyboardControl;
+    }
+
+    /**
+     * Sets {@link #keyboardControl} value
+     *
+     * @param keyboardControl new value of {@link #keyboardControl}
+     */
+    public void setKeyboardControl(ReportedValue<String> keyboardControl) {
+        this.keyboardControl = keyboardControl;
+    }
+
+    /**
+     * Retrieves {@link #ledStripColor}
+     *
+     * @return value of {@link #ledStripColor}
+     */
+    public ReportedValue<String> getLedStripColor() {
+        return ledStripColor;
+    }
+
+    /**
+     * Sets {@link #ledStripColor} value
+     *
+     * @param ledStripColor new value of {@link #ledStripColor}
+     */
+    public void setLedStripColor(ReportedValue<String> ledStripColor) {
+        this.ledStripColor = ledStripColor;
+    }
+
+    /**
+     * Retrieves {@link #portsControl}
+     *
+     * @return value of {@link #portsControl}
+     */
+    public ReportedValue<String> getPortsControl() {
+        return portsControl;
+    }
+
+    /**
+     * Sets {@link #portsControl} value
+     *
+     * @param portsControl new value of {@link #portsControl}
+     */
+    public void setPortsControl(ReportedValue<String> portsControl) {
+        this.portsControl = portsControl;
+    }
+
+    /**
+     * Retrieves {@link #timeZone}
+     *
+     * @return value of {@link #timeZone}
+     */
+    public ReportedValue<String> getTimeZone() {
+        return timeZone;
+    }
+
+    /**
+     * Sets {@link #timeZone} value
+     *
+     * @param timeZone new value of {@link #timeZone}
+     */
+    public void setTimeZone(ReportedValue<String> timeZone) {
+        this.timeZone = timeZone;
+    }
+
+    /**
+     * Retrieves {@link #recommendedSettings}
+     *
+     * @return value of {@link #recommendedSettings}
+     */
+    public ReportedValue<RecommendedSettings> getRecommendedSettings() {
+        return recommendedSettings;
+    }
+
+    /**
+     * Sets {@link #recommendedSettings} value
+     *
+     * @param recommendedSettings new value of {@link #recommendedSettings}
+     */
+    public void setRecommendedSettings(ReportedValue<RecommendedSettings> recommendedSettings) {
+        this.recommendedSettings = recommendedSettings;
+    }
+
+    /**
+     * Retrieves {@link #presence}
+     *
+     * @return value of {@link #presence}
+     */
+    public Presence getPresence() {
+        return presence;
+    }
+
+    /**
+     * Sets {@link #presence} value
+     *
+     * @param presence new value of {@link #presence}
+     */
+    public void setPresence(Presence presence) {
+        this.presence = presence;
+    }
+
+    /**
+     * Retrieves {@link #screenshot}
+     *
+     * @return value of {@link #screenshot}
+     */
+    public Screenshot getScreenshot() {
+        return screenshot;
+    }
+
+    /**
+     * Sets {@link #screenshot} value
+     *
+     * @param screenshot new value of {@link #screenshot}
+     */
+    public void setScreenshot(Screenshot screenshot) {
+        this.screenshot = screenshot;
+    }
+
+    /**
+     * Retrieves {@link #volume}
+     *
+     * @return value of {@link #volume}
+     */
+    public Volume getVolume() {
+        return volume;
+    }
+
+    /**
+     * Sets {@link #volume} value
+     *
+     * @param volume new value of {@link #volume}
+     */
+    public void setVolume(Volume volume) {
+        this.volume = volume;
+    }
+
+    /**
+     * Retrieves {@link #networkInformation}
+     *
+     * @return value of {@link #networkInformation}
+     */
+    public NetworkInformation getNetworkInformation() {
+        return networkInformation;
+    }
+
+    /**
+     * Sets {@link #networkInformation} value
+     *
+     * @param networkInformation new value of {@link #networkInformation}
+     */
+    public void setNetworkInformation(NetworkInformation networkInformation) {
+        this.networkInformation = networkInformation;
+    }
+
+    /**
+     * Retrieves {@link #playlist}
+     *
+     * @return value of {@link #playlist}
+     */
+    public DisplayPlaylist getPlaylist() {
+        return playlist;
+    }
+
+    /**
+     * Sets {@link #playlist} value
+     *
+     * @param playlist new value of {@link #playlist}
+     */
+    public void setPlaylist(DisplayPlaylist playlist) {
+        this.playlist = playlist;
+    }
+
+    /**
+     * Retrieves {@link #customer}
+     *
+     * @return value of {@link #customer}
+     */
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    /**
+     * Sets {@link #customer} value
+     *
+     * @param customer new value of {@link #customer}
+     */
+    public void setCustomer(Customer customer) {
+        this.customer = customer;
+    }
+
+    /**
+     * Retrieves {@link #site}
+     *
+     * @return value of {@link #site}
+     */
+    public Site getSite() {
+        return site;
+    }
+
+    /**
+     * Sets {@link #site} value
+     *
+     * @param site new value of {@link #site}
+     */
+    public void setSite(Site site) {
+        this.site = site;
+    }
+
+    /**
+     * Retrieves {@link #firmware}
+     *
+     * @return value of {@link #firmware}
+     */
+    public Firmware getFirmware() {
+        return firmware;
+    }
+
+    /**
+     * Sets {@link #firmware} value
+     *
+     * @param firmware new value of {@link #firmware}
+     */
+    public void setFirmware(Firmware firmware) {
+        this.firmware = firmware;
+    }
+
+    /**
+     * Merge details of the same display, retrieved with separate requests. Every field is taken from the first
+     * display that has it set, so the requests are expected to have no fields in common, apart from id.
+     *
+     * @param displays to merge, null elements are skipped
+     * @return new merged display
+     * @since 1.0.1
+     */
+    public static Display merge(Display... displays) {
+        Display merged = new Display();
+        merged.setId(firstNonNull(displays, Display::getId));
+        merged.setPlatform(firstNonNull(displays, Display::getPlatform));
+        merged.setPowerSchedule(firstNonNull(displays, Display::getPowerSchedule));
+        merged.setAlerts(firstNonNull(displays, Display::getAlerts));
+        merged.setGroups(firstNonNull(displays, Display::getGroups));
+        merged.setAppSubscriptions(firstNonNull(displays, Display::getAppSubscriptions));
+        merged.setBookmarks(firstNonNull(displays, Display::getBookmarks));
+        merged.setContentSource(firstNonNull(displays, Display::getContentSource));
+        merged.setAlias(firstNonNull(displays, Display::getAlias));
+        merged.setSerialNumber(firstNonNull(displays, Display::getSerialNumber));
+        merged.setAgentVersion(firstNonNull(displays, Display::getAgentVersion));
+        merged.setCommercialTypeNumber(firstNonNull(displays, Display::getCommercialTypeNumber));
+        merged.setHasEmptyShadow(firstNonNull(displays, Display::getHasEmptyShadow));
+        merged.setHasSensitiveData(firstNonNull(displays, Display::getHasSensitiveData));
+        merged.setAgentReleaseChannel(firstNonNull(displays, Display::getAgentReleaseChannel));
+        merged.setBrightness(firstNonNull(displays, Display::getBrightness));
+        merged.setOrientation(firstNonNull(displays, Display::getOrientation));
+        merged.setSignalDetection(firstNonNull(displays, Display::getSignalDetection));
+        merged.setPower(firstNonNull(displays, Display::getPower));
+        merged.setInfraRedControl(firstNonNull(displays, Display::getInfraRedControl));
+        merged.setKeyboardControl(firstNonNull(displays, Display::getKeyboardControl));
+        merged.setLedStripColor(firstNonNull(displays, Display::getLedStripColor));
+        merged.setPortsControl(firstNonNull(displays, Display::getPortsControl));
+        merged.setTimeZone(firstNonNull(displays, Display::getTimeZone));
+        merged.setRecommendedSettings(firstNonNull(displays, Display::getRecommendedSettings));
+        merged.setPresence(firstNonNull(displays, Display::getPresence));
+        merged.setScreenshot(firstNonNull(displays, Display::getScreenshot));
+        merged.setVolume(firstNonNull(displays, Display::getVolume));
+        merged.setNetworkInformation(firstNonNull(displays, Display::getNetworkInformation));
+        merged.setPlaylist(firstNonNull(displays, Display::getPlaylist));
+        merged.setCustomer(firstNonNull(displays, Display::getCustomer));
+        merged.setSite(firstNonNull(displays, Display::getSite));
+        merged.setFirmware(firstNonNull(displays, Display::getFirmware));
+        return merged;
+    }
+
+    /**
+     * Retrieve the first non-null field value of the displays
+     *
+     * @param displays to retrieve the value from, null elements are skipped
+     * @param getter   of the field
+     * @param <T>      type of the field
+     * @return first non-null value, or null if none of the displays has it set
+     */
+    private static <T> T firstNonNull(Display[] displays, Function<Display, T> getter) {
+        for (Display display : displays) {
+            T value = display == null ? null : getter.apply(display);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Playlist state of a display
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class DisplayPlaylist {
+    private PlaylistState current;
+    private JsonNode sync;
+
+    /**
+     * Retrieves {@link #current}
+     *
+     * @return value of {@link #current}
+     */
+    public PlaylistState getCurrent() {
+        return current;
+    }
+
+    /**
+     * Sets {@link #current} value
+     *
+     * @param current new value of {@link #current}
+     */
+    public void setCurrent(PlaylistState current) {
+        this.current = current;
+    }
+
+    /**
+     * Retrieves {@link #sync}
+     *
+     * @return value of {@link #sync}
+     */
+    public JsonNode getSync() {
+        return sync;
+    }
+
+    /**
+     * Sets {@link #sync} value
+     *
+     * @param sync new value of {@link #sync}
+     */
+    public void setSync(JsonNode sync) {
+        this.sync = sync;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+/**
+ * Display firmware information, for android platform and scaler
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class Firmware {
+    private FirmwareVersion android;
+    private FirmwareVersion scaler;
+
+    /**
+     * Retrieves {@link #android}
+     *
+     * @return value of {@link #android}
+     */
+    public FirmwareVersion getAndroid() {
+        return android;
+    }
+
+    /**
+     * Sets {@link #android} value
+     *
+     * @param android new value of {@link #android}
+     */
+    public void setAndroid(FirmwareVersion android) {
+        this.android = android;
+    }
+
+    /**
+     * Retrieves {@link #scaler}
+     *
+     * @return value of {@link #scaler}
+     */
+    public FirmwareVersion getScaler() {
+        return scaler;
+    }
+
+    /**
+     * Sets {@link #scaler} value
+     *
+     * @param scaler new value of {@link #scaler}
+     */
+    public void setScaler(FirmwareVersion scaler) {
+        this.scaler = scaler;
+    }
+}
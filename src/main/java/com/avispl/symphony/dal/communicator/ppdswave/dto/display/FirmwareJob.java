@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+/**
+ * Firmware update job information
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class FirmwareJob {
+    private String createdAt;
+    private String plannedAt;
+    private String targetVersion;
+
+    /**
+     * Retrieves {@link #createdAt}
+     *
+     * @return value of {@link #createdAt}
+     */
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Sets {@link #createdAt} value
+     *
+     * @param createdAt new value of {@link #createdAt}
+     */
+    public void setCreatedAt(String createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Retrieves {@link #plannedAt}
+     *
+     * @return value of {@link #plannedAt}
+     */
+    public String getPlannedAt() {
+        return plannedAt;
+    }
+
+    /**
+     * Sets {@link #plannedAt} value
+     *
+     * @param plannedAt new value of {@link #plannedAt}
+     */
+    public void setPlannedAt(String plannedAt) {
+        this.plannedAt = plannedAt;
+    }
+
+    /**
+     * Retrieves {@link #targetVersion}
+     *
+     * @return value of {@link #targetVersion}
+     */
+    public String getTargetVersion() {
+        return targetVersion;
+    }
+
+    /**
+     * Sets {@link #targetVersion} value
+     *
+     * @param targetVersion new value of {@link #targetVersion}
+     */
+    public void setTargetVersion(String targetVersion) {
+        this.targetVersion = targetVersion;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+/**
+ * Firmware version and latest firmware update job
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class FirmwareVersion {
+    private String version;
+    private FirmwareJob latestJob;
+
+    /**
+     * Retrieves {@link #version}
+     *
+     * @return value of {@link #version}
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets {@link #version} value
+     *
+     * @param version new value of {@link #version}
+     */
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    /**
+     * Retrieves {@link #latestJob}
+     *
+     * @return value of {@link #latestJob}
+     */
+    public FirmwareJob getLatestJob() {
+        return latestJob;
+    }
+
+    /**
+     * Sets {@link #latestJob} value
+     *
+     * @param latestJob new value of {@link #latestJob}
+     */
+    public void setLatestJob(FirmwareJob latestJob) {
+        this.latestJob = latestJob;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+/**
+ * Display network information
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class NetworkInformation {
+    private String ethernetMacAddress;
+    private String localIPAddress;
+    private String networkType;
+    private String wifiMacAddress;
+
+    /**
+     * Retrieves {@link #ethernetMacAddress}
+     *
+     * @return value of {@link #ethernetMacAddress}
+     */
+    public String getEthernetMacAddress() {
+        return ethernetMacAddress;
+    }
+
+    /**
+     * Sets {@link #ethernetMacAddress} value
+     *
+     * @param ethernetMacAddress new value of {@link #ethernetMacAddress}
+     */
+    public void setEthernetMacAddress(String ethernetMacAddress) {
+        this.ethernetMacAddress = ethernetMacAddress;
+    }
+
+    /**
+     * Retrieves {@link #localIPAddress}
+     *
+     * @return value of {@link #localIPAddress}
+     */
+    public String getLocalIPAddress() {
+        return localIPAddress;
+    }
+
+    /**
+     * Sets {@link #localIPAddress} value
+     *
+     * @param localIPAddress new value of {@link #localIPAddress}
+     */
+    public void setLocalIPAddress(String localIPAddress) {
+        this.localIPAddress = localIPAddress;
+    }
+
+    /**
+     * Retrieves {@link #networkType}
+     *
+     * @return value of {@link #networkType}
+     */
+    public String getNetworkType() {
+        return networkType;
+    }
+
+    /**
+     * Sets {@link #networkType} value
+     *
+     * @param networkType new value of {@link #networkType}
+     */
+    public void setNetworkType(String networkType) {
+        this.networkType = networkType;
+    }
+
+    /**
+     * Retrieves {@link #wifiMacAddress}
+     *
+     * @return value of {@link #wifiMacAddress}
+     */
+    public String getWifiMacAddress() {
+        return wifiMacAddress;
+    }
+
+    /**
+     * Sets {@link #wifiMacAddress} value
+     *
+     * @param wifiMacAddress new value of {@link #wifiMacAddress}
+     */
+    public void setWifiMacAddress(String wifiMacAddress) {
+        this.wifiMacAddress = wifiMacAddress;
+    }
+}
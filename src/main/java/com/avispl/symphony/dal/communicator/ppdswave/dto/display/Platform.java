@@ -2,6 +2,8 @@ package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
 
 public class Platform {
     private String type;
+    private String name;
+    private String version;
 
     /**
      * Retrieves {@link #type}
@@ -20,4 +22,40 @@ public class Platform {
     public void setType(String type) {
         this.type = type;
     }
+
+    /**
+     * Retrieves {@link #name}
+     *
+     * @return value of {@link #name}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets {@link #name} value
+     *
+     * @param name new value of {@link #name}
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves {@link #version}
+     *
+     * @return value of {@link #version}
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets {@link #version} value
+     *
+     * @param version new value of {@link #version}
+     */
+    public void setVersion(String version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+/**
+ * Current display playlist state
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class PlaylistState {
+    private String description;
+    private Boolean isOutOfSync;
+    private Boolean isTampered;
+
+    /**
+     * Retrieves {@link #description}
+     *
+     * @return value of {@link #description}
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Sets {@link #description} value
+     *
+     * @param description new value of {@link #description}
+     */
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Retrieves {@link #isOutOfSync}
+     *
+     * @return value of {@link #isOutOfSync}
+     */
+    public Boolean getIsOutOfSync() {
+        return isOutOfSync;
+    }
+
+    /**
+     * Sets {@link #isOutOfSync} value
+     *
+     * @param isOutOfSync new value of {@link #isOutOfSync}
+     */
+    public void setIsOutOfSync(Boolean isOutOfSync) {
+        this.isOutOfSync = isOutOfSync;
+    }
+
+    /**
+     * Retrieves {@link #isTampered}
+     *
+     * @return value of {@link #isTampered}
+     */
+    public Boolean getIsTampered() {
+        return isTampered;
+    }
+
+    /**
+     * Sets {@link #isTampered} value
+     *
+     * @param isTampered new value of {@link #isTampered}
+     */
+    public void setIsTampered(Boolean isTampered) {
+        this.isTampered = isTampered;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+/**
+ * Display presence information
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class Presence {
+    private Boolean connected;
+    private String timestamp;
+
+    /**
+     * Retrieves {@link #connected}
+     *
+     * @return value of {@link #connected}
+     */
+    public Boolean getConnected() {
+        return connected;
+    }
+
+    /**
+     * Sets {@link #connected} value
+     *
+     * @param connected new value of {@link #connected}
+     */
+    public void setConnected(Boolean connected) {
+        this.connected = connected;
+    }
+
+    /**
+     * Retrieves {@link #timestamp}
+     *
+     * @return value of {@link #timestamp}
+     */
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Sets {@link #timestamp} value
+     *
+     * @param timestamp new value of {@link #timestamp}
+     */
+    public void setTimestamp(String timestamp) {
+        this.timestamp = timestamp;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+/**
+ * Display recommended settings state
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class RecommendedSettings {
+    private Boolean recommended;
+
+    /**
+     * Retrieves {@link #recommended}
+     *
+     * @return value of {@link #recommended}
+     */
+    public Boolean getRecommended() {
+        return recommended;
+    }
+
+    /**
+     * Sets {@link #recommended} value
+     *
+     * @param recommended new value of {@link #recommended}
+     */
+    public void setRecommended(Boolean recommended) {
+        this.recommended = recommended;
+    }
+}
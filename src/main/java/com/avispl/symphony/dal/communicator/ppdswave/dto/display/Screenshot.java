@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+/**
+ * Latest display screenshot information
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class Screenshot {
+    private String createdAt;
+    private String url;
+
+    /**
+     * Retrieves {@link #createdAt}
+     *
+     * @return value of {@link #createdAt}
+     */
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Sets {@link #createdAt} value
+     *
+     * @param createdAt new value of {@link #createdAt}
+     */
+    public void setCreatedAt(String createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Retrieves {@link #url}
+     *
+     * @return value of {@link #url}
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Sets {@link #url} value
+     *
+     * @param url new value of {@link #url}
+     */
+    public void setUrl(String url) {
+        this.url = url;
+    }
+}
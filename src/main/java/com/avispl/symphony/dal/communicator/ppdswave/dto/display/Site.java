@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+/**
+ * Site the display is assigned to
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class Site {
+    private String id;
+    private String name;
+    private String address;
+
+    /**
+     * Retrieves {@link #id}
+     *
+     * @return value of {@link #id}
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets {@link #id} value
+     *
+     * @param id new value of {@link #id}
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieves {@link #name}
+     *
+     * @return value of {@link #name}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets {@link #name} value
+     *
+     * @param name new value of {@link #name}
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves {@link #address}
+     *
+     * @return value of {@link #address}
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Sets {@link #address} value
+     *
+     * @param address new value of {@link #address}
+     */
+    public void setAddress(String address) {
+        this.address = address;
+    }
+}
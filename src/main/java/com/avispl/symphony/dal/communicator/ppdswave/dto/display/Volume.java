@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+import com.avispl.symphony.dal.communicator.ppdswave.dto.ReportedValue;
+
+/**
+ * Display audio volume state and limits
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class Volume {
+    private ReportedValue<Boolean> isMuted;
+    private ReportedValue<Integer> level;
+    private VolumeLimits limits;
+
+    /**
+     * Retrieves {@link #isMuted}
+     *
+     * @return value of {@link #isMuted}
+     */
+    public ReportedValue<Boolean> getIsMuted() {
+        return isMuted;
+    }
+
+    /**
+     * Sets {@link #isMuted} value
+     *
+     * @param isMuted new value of {@link #isMuted}
+     */
+    public void setIsMuted(ReportedValue<Boolean> isMuted) {
+        this.isMuted = isMuted;
+    }
+
+    /**
+     * Retrieves {@link #level}
+     *
+     * @return value of {@link #level}
+     */
+    public ReportedValue<Integer> getLevel() {
+        return level;
+    }
+
+    /**
+     * Sets {@link #level} value
+     *
+     * @param level new value of {@link #level}
+     */
+    public void setLevel(ReportedValue<Integer> level) {
+        this.level = level;
+    }
+
+    /**
+     * Retrieves {@link #limits}
+     *
+     * @return value of {@link #limits}
+     */
+    public VolumeLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Sets {@link #limits} value
+     *
+     * @param limits new value of {@link #limits}
+     */
+    public void setLimits(VolumeLimits limits) {
+        this.limits = limits;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.dto.display;
+
+import com.avispl.symphony.dal.communicator.ppdswave.dto.ReportedValue;
+
+/**
+ * Display audio volume limits
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class VolumeLimits {
+    private ReportedValue<Integer> min;
+    private ReportedValue<Integer> max;
+
+    /**
+     * Retrieves {@link #min}
+     *
+     * @return value of {@link #min}
+     */
+    public ReportedValue<Integer> getMin() {
+        return min;
+    }
+
+    /**
+     * Sets {@link #min} value
+     *
+     * @param min new value of {@link #min}
+     */
+    public void setMin(ReportedValue<Integer> min) {
+        this.min = min;
+    }
+
+    /**
+     * Retrieves {@link #max}
+     *
+     * @return value of {@link #max}
+     */
+    public ReportedValue<Integer> getMax() {
+        return max;
+    }
+
+    /**
+     * Sets {@link #max} value
+     *
+     * @param max new value of {@link #max}
+     */
+    public void setMax(ReportedValue<Integer> max) {
+        this.max = max;
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.error;
+
+/**
+ * Exception to use for whenever a PPDS Wave API request is rejected without being sent, since the circuit breaker
+ * of the operation is open
+ *
+ * @author agent
+ * Created on 18/10/2026
+ * @since 1.0.1
+ * */
+public class CircuitBreakerOpenException extends Exception{
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
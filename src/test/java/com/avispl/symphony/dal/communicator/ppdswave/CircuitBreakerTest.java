@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.dal.communicator.ppdswave.error.CircuitBreakerOpenException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Circuit breaker state transitions tests
+ */
+@Tag("test")
+public class CircuitBreakerTest {
+    private static final long OPEN_TIME = 100;
+
+    @Test
+    public void opensAfterFailureThresholdTest() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("Test", 2, OPEN_TIME);
+        circuitBreaker.call(() -> failed(new IOException("Connection reset")));
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        circuitBreaker.call(() -> failed(new IOException("Connection reset")));
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assertions.assertEquals(1, circuitBreaker.getOpenings());
+
+        AtomicInteger sentRequests = new AtomicInteger();
+        CompletableFuture<String> rejected = circuitBreaker.call(() -> {
+            sentRequests.incrementAndGet();
+            return CompletableFuture.completedFuture("response");
+        });
+        ExecutionException error = Assertions.assertThrows(ExecutionException.class, rejected::get);
+        Assertions.assertTrue(error.getCause() instanceof CircuitBreakerOpenException);
+        Assertions.assertEquals(0, sentRequests.get());
+        Assertions.assertEquals(1, circuitBreaker.getRejectedRequests());
+        Assertions.assertTrue(circuitBreaker.getRetryIn() > 0 && circuitBreaker.getRetryIn() <= OPEN_TIME);
+    }
+
+    @Test
+    public void successfulProbeClosesCircuitTest() throws Exception {
+        CircuitBreaker circuitBreaker = openCircuit();
+        Thread.sleep(OPEN_TIME + 20);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+        CompletableFuture<String> probe = new CompletableFuture<>();
+        Assertions.assertSame(probe, circuitBreaker.call(() -> probe));
+        CompletableFuture<String> rejected = circuitBreaker.call(() -> CompletableFuture.completedFuture("response"));
+        Assertions.assertTrue(rejected.isCompletedExceptionally(), "Only a single probe request is expected while the circuit is half-open");
+
+        probe.complete("response");
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assertions.assertEquals("response", circuitBreaker.call(() -> CompletableFuture.completedFuture("response")).get());
+    }
+
+    @Test
+    public void failedProbeReopensCircuitTest() throws Exception {
+        CircuitBreaker circuitBreaker = openCircuit();
+        Thread.sleep(OPEN_TIME + 20);
+
+        circuitBreaker.call(() -> failed(new IOException("Connection reset")));
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assertions.assertEquals(2, circuitBreaker.getOpenings());
+        // open time is doubled with the consecutive opening
+        Assertions.assertTrue(circuitBreaker.getRetryIn() <= OPEN_TIME * 2);
+    }
+
+    @Test
+    public void requestErrorsAreIgnoredTest() throws Exception {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("Test", 1, OPEN_TIME);
+        circuitBreaker.call(() -> failed(new HttpClientErrorException(HttpStatus.BAD_REQUEST)));
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        CompletableFuture<String> cancelled = new CompletableFuture<>();
+        circuitBreaker.call(() -> cancelled);
+        cancelled.cancel(true);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        circuitBreaker.call(() -> failed(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS)));
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    public void ignoredProbeReleasesHalfOpenCircuitTest() throws Exception {
+        CircuitBreaker circuitBreaker = openCircuit();
+        Thread.sleep(OPEN_TIME + 20);
+
+        CompletableFuture<String> probe = new CompletableFuture<>();
+        circuitBreaker.call(() -> probe);
+        probe.cancel(true);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        Assertions.assertEquals("response", circuitBreaker.call(() -> CompletableFuture.completedFuture("response")).get());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    /**
+     * Create circuit breaker, opened with a failed request
+     */
+    private CircuitBreaker openCircuit() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("Test", 1, OPEN_TIME);
+        circuitBreaker.call(() -> failed(new IOException("Connection reset")));
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        return circuitBreaker;
+    }
+
+    /**
+     * Create request result failed with the error provided
+     */
+    private static CompletableFuture<String> failed(Exception error) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        result.completeExceptionally(error);
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response body decoding tests
+ */
+@Tag("test")
+public class ContentEncodingInterceptorTest {
+    private static final String BODY = "{\"data\":{\"customerByHandle\":{\"displays\":[{\"id\":\"display-1\"},{\"id\":\"display-2\"}]}}}";
+
+    @Test
+    public void decodeZlibDeflateTest() throws Exception {
+        Assertions.assertEquals(BODY, decode(deflate(false), "deflate"));
+    }
+
+    @Test
+    public void decodeRawDeflateTest() throws Exception {
+        Assertions.assertEquals(BODY, decode(deflate(true), "deflate"));
+    }
+
+    @Test
+    public void decodeGzipTest() throws Exception {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (OutputStream outputStream = new GZIPOutputStream(encoded)) {
+            outputStream.write(BODY.getBytes(StandardCharsets.UTF_8));
+        }
+        Assertions.assertEquals(BODY, decode(encoded.toByteArray(), "gzip"));
+    }
+
+    @Test
+    public void decodeEmptyBodyTest() throws Exception {
+        Assertions.assertEquals("", decode(new byte[0], "deflate"));
+    }
+
+    /**
+     * Deflate the body, zlib-wrapped or raw
+     */
+    private byte[] deflate(boolean raw) throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+        try (OutputStream outputStream = new DeflaterOutputStream(encoded, deflater)) {
+            outputStream.write(BODY.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            deflater.end();
+        }
+        return encoded.toByteArray();
+    }
+
+    /**
+     * Decode the body with the content encoding provided
+     */
+    private String decode(byte[] body, String contentEncoding) throws IOException {
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        try (InputStream inputStream = ContentEncodingInterceptor.decode(new ByteArrayInputStream(body), contentEncoding)) {
+            byte[] buffer = new byte[64];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                decoded.write(buffer, 0, read);
+            }
+        }
+        return new String(decoded.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
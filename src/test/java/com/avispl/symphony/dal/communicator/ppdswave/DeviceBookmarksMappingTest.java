@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.Display;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Device bookmarks mapping tests
+ */
+@Tag("test")
+public class DeviceBookmarksMappingTest {
+    private static final String DISPLAY = "{\"id\":\"display-1\",\"bookmarks\":{\"all\":{\"reported\":[\"https://example.com/lobby\",\"https://example.com/hall\"]}},"
+            + "\"contentSource\":{\"current\":{\"reported\":{\"source\":\"HDMI1\"}}}}";
+
+    @Test
+    public void mapCachedDisplayTwiceTest() throws Exception {
+        Display display = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false).readValue(DISPLAY, Display.class);
+        PhilipsWaveAggregatorCommunicator communicator = new PhilipsWaveAggregatorCommunicator();
+
+        AdvancedControllableProperty.DropDown firstMapping = mapBookmarks(communicator, display);
+        AdvancedControllableProperty.DropDown secondMapping = mapBookmarks(communicator, display);
+
+        List<String> expectedLabels = Arrays.asList("https://example.com/lobby", "https://example.com/hall", Constants.Utility.NONE_LABEL);
+        Assertions.assertEquals(expectedLabels, Arrays.asList(firstMapping.getLabels()));
+        Assertions.assertEquals(expectedLabels, Arrays.asList(secondMapping.getLabels()));
+        Assertions.assertEquals(Arrays.asList("0", "1", Constants.Utility.NONE_LABEL), Arrays.asList(secondMapping.getOptions()));
+        Assertions.assertEquals(2, display.getBookmarks().getAll().getReported().size(), "Cached display bookmarks are not expected to be changed");
+    }
+
+    /**
+     * Map bookmarks of the display and return the bookmark source dropdown
+     */
+    private static AdvancedControllableProperty.DropDown mapBookmarks(PhilipsWaveAggregatorCommunicator communicator, Display display) {
+        List<AdvancedControllableProperty> controls = new ArrayList<>();
+        communicator.processDeviceBookmarks(display.getId(), new HashMap<>(), controls, display);
+        Assertions.assertEquals(1, controls.size());
+        Assertions.assertEquals(Constants.ControlProperties.CONTROL_BOOKMARK_SOURCE, controls.get(0).getName());
+        return (AdvancedControllableProperty.DropDown) controls.get(0).getType();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Device controls registry tests
+ */
+@Tag("test")
+public class DeviceControlsTest {
+    private static final String POWER = "Power";
+    private static final String INPUT = "Input";
+
+    private final DeviceControls deviceControls = new DeviceControls();
+
+    @Test
+    public void controlReusedTest() {
+        AdvancedControllableProperty power = createSwitch(POWER, 0, new Date(1000));
+        AdvancedControllableProperty input = createDropDown(INPUT, "HDMI1", "HDMI1", "HDMI2");
+        deviceControls.update(Arrays.asList(power, input));
+
+        Date updateTimestamp = new Date(2000);
+        List<AdvancedControllableProperty> controls = deviceControls.update(Arrays.asList(createSwitch(POWER, 1, updateTimestamp),
+                createDropDown(INPUT, "HDMI1", "HDMI1", "HDMI2")));
+
+        Assertions.assertEquals(2, controls.size());
+        Assertions.assertSame(power, controls.get(0));
+        Assertions.assertSame(input, controls.get(1));
+        Assertions.assertEquals(1, power.getValue());
+        Assertions.assertEquals(updateTimestamp, power.getTimestamp());
+        Assertions.assertSame(power, deviceControls.get(POWER));
+    }
+
+    @Test
+    public void changedOptionsReplacedTest() {
+        AdvancedControllableProperty input = createDropDown(INPUT, "HDMI1", "HDMI1", "HDMI2");
+        deviceControls.update(Collections.singletonList(input));
+
+        AdvancedControllableProperty updatedInput = createDropDown(INPUT, "HDMI1", "HDMI1", "HDMI2", "USB-C");
+        List<AdvancedControllableProperty> controls = deviceControls.update(Collections.singletonList(updatedInput));
+
+        Assertions.assertSame(updatedInput, controls.get(0));
+        Assertions.assertSame(updatedInput, deviceControls.get(INPUT));
+        Assertions.assertEquals(2, ((AdvancedControllableProperty.DropDown) input.getType()).getOptions().length,
+                "Replaced control is not expected to be changed");
+    }
+
+    @Test
+    public void unmappedControlRemovedTest() {
+        deviceControls.update(Arrays.asList(createSwitch(POWER, 0, new Date()), createDropDown(INPUT, "HDMI1", "HDMI1", "HDMI2")));
+
+        List<AdvancedControllableProperty> controls = deviceControls.update(Collections.singletonList(createSwitch(POWER, 1, new Date())));
+
+        Assertions.assertEquals(1, controls.size());
+        Assertions.assertNull(deviceControls.get(INPUT));
+        Assertions.assertEquals(1, deviceControls.getAll().size());
+
+        deviceControls.update(Collections.emptyList());
+        Assertions.assertTrue(deviceControls.getAll().isEmpty());
+    }
+
+    @Test
+    public void duplicateControlNameTest() {
+        List<AdvancedControllableProperty> controls = deviceControls.update(Arrays.asList(createSwitch(POWER, 0, new Date()),
+                createSwitch(POWER, 1, new Date())));
+
+        Assertions.assertEquals(1, controls.size());
+        Assertions.assertEquals(1, deviceControls.get(POWER).getValue());
+    }
+
+    /**
+     * Create switch control
+     */
+    private AdvancedControllableProperty createSwitch(String name, int value, Date timestamp) {
+        AdvancedControllableProperty.Switch toggle = new AdvancedControllableProperty.Switch();
+        toggle.setLabelOn("On");
+        toggle.setLabelOff("Off");
+        return new AdvancedControllableProperty(name, timestamp, toggle, value);
+    }
+
+    /**
+     * Create dropdown control with the same options and labels
+     */
+    private AdvancedControllableProperty createDropDown(String name, String value, String... options) {
+        AdvancedControllableProperty.DropDown dropDown = new AdvancedControllableProperty.DropDown();
+        dropDown.setOptions(options);
+        dropDown.setLabels(options);
+        return new AdvancedControllableProperty(name, new Date(), dropDown, value);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Device list incremental reconciliation tests
+ */
+@Tag("test")
+public class DeviceMembershipTrackerTest {
+
+    @Test
+    public void reconcileAddedAndRemovedTest() {
+        DeviceMembershipTracker tracker = new DeviceMembershipTracker();
+        DeviceMembershipTracker.Changes changes = tracker.reconcile("customer-1", Arrays.asList("display-1", "display-2"));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("display-1", "display-2")), changes.getAdded());
+        Assertions.assertTrue(changes.getRemoved().isEmpty());
+
+        changes = tracker.reconcile("customer-1", Arrays.asList("display-2", "display-3"));
+        Assertions.assertEquals(Collections.singleton("display-3"), changes.getAdded());
+        Assertions.assertEquals(Collections.singleton("display-1"), changes.getRemoved());
+
+        changes = tracker.reconcile("customer-1", Arrays.asList("display-2", "display-3"));
+        Assertions.assertTrue(changes.getAdded().isEmpty());
+        Assertions.assertTrue(changes.getRemoved().isEmpty());
+
+        Assertions.assertEquals(3, tracker.getAddedCount());
+        Assertions.assertEquals(1, tracker.getRemovedCount());
+        Assertions.assertEquals(2, tracker.getDevicesCount());
+    }
+
+    @Test
+    public void reconcileMovedDeviceTest() {
+        DeviceMembershipTracker tracker = new DeviceMembershipTracker();
+        tracker.reconcile("customer-1", Arrays.asList("display-1", "display-2"));
+
+        // a device moved to another customer is neither added nor removed
+        DeviceMembershipTracker.Changes changes = tracker.reconcile("customer-2", Collections.singletonList("display-2"));
+        Assertions.assertTrue(changes.getAdded().isEmpty());
+        Assertions.assertEquals("customer-2", tracker.getHandle("display-2"));
+
+        changes = tracker.reconcile("customer-1", Collections.singletonList("display-1"));
+        Assertions.assertTrue(changes.getRemoved().isEmpty());
+        Assertions.assertEquals(Collections.singleton("display-1"), tracker.getDeviceIds("customer-1"));
+        Assertions.assertEquals(Collections.singleton("display-2"), tracker.getDeviceIds("customer-2"));
+    }
+
+    @Test
+    public void retainHandlesTest() {
+        DeviceMembershipTracker tracker = new DeviceMembershipTracker();
+        tracker.reconcile("customer-1", Arrays.asList("display-1", "display-2"));
+        tracker.reconcile("customer-2", Collections.singletonList("display-3"));
+
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("display-1", "display-2")), tracker.retainHandles(Collections.singletonList("customer-2")));
+        Assertions.assertNull(tracker.getHandle("display-1"));
+        Assertions.assertEquals(1, tracker.getDevicesCount());
+
+        // a removed device is reported as added once it's retrieved again
+        Assertions.assertEquals(Collections.singleton("display-1"), tracker.reconcile("customer-1", Collections.singletonList("display-1")).getAdded());
+    }
+}
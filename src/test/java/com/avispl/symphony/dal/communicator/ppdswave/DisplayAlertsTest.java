@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.Alert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Incremental display alerts tests
+ */
+@Tag("test")
+public class DisplayAlertsTest {
+    private static final String DISPLAY_ID = "display-1";
+
+    @Test
+    public void newAlertsTest() {
+        DisplayAlerts displayAlerts = new DisplayAlerts();
+        Alert offline = alert("alert-1", "Display is offline", 1000);
+        Alert overheating = alert("alert-2", "Display is overheating", 2000);
+        Assertions.assertEquals(2, displayAlerts.update(DISPLAY_ID, Arrays.asList(offline, overheating)));
+        Assertions.assertEquals(0, displayAlerts.update(DISPLAY_ID, Arrays.asList(offline, overheating)));
+
+        Alert offlineAgain = alert("alert-3", "Display is offline", 3000);
+        Assertions.assertEquals(1, displayAlerts.update(DISPLAY_ID, Arrays.asList(offline, overheating, offlineAgain)));
+
+        Map<String, String> properties = new HashMap<>();
+        Map<String, String> dynamicProperties = new HashMap<>();
+        displayAlerts.putProperties(DISPLAY_ID, properties, dynamicProperties);
+        Assertions.assertEquals("3", dynamicProperties.get(Constants.MonitoredProperties.ALERTS_TOTAL_COUNT));
+        Assertions.assertEquals("Display is offline", properties.get("Alerts#Alert01_Message"));
+        Assertions.assertEquals("2", properties.get("Alerts#Alert01_OccurrenceCount"));
+        Assertions.assertEquals(String.valueOf(new Date(3000)), properties.get("Alerts#Alert01_LastOccurred"));
+        Assertions.assertEquals("Display is overheating", properties.get("Alerts#Alert02_Message"));
+        Assertions.assertEquals("1", properties.get("Alerts#Alert02_OccurrenceCount"));
+    }
+
+    @Test
+    public void resolvedAlertsTest() {
+        DisplayAlerts displayAlerts = new DisplayAlerts();
+        Alert offline = alert("alert-1", "Display is offline", 1000);
+        Alert overheating = alert("alert-2", "Display is overheating", 2000);
+        displayAlerts.update(DISPLAY_ID, Arrays.asList(offline, overheating));
+        Assertions.assertEquals(0, displayAlerts.update(DISPLAY_ID, Collections.singletonList(overheating)));
+
+        Map<String, String> properties = new HashMap<>();
+        Map<String, String> dynamicProperties = new HashMap<>();
+        displayAlerts.putProperties(DISPLAY_ID, properties, dynamicProperties);
+        Assertions.assertEquals("1", dynamicProperties.get(Constants.MonitoredProperties.ALERTS_TOTAL_COUNT));
+        Assertions.assertEquals("Display is overheating", properties.get("Alerts#Alert01_Message"));
+        Assertions.assertNull(properties.get("Alerts#Alert02_Message"));
+
+        // an older alert, that is not known yet, is still new
+        Assertions.assertEquals(1, displayAlerts.update(DISPLAY_ID, Arrays.asList(overheating, offline)));
+        Assertions.assertEquals(0, displayAlerts.update(DISPLAY_ID, null));
+        dynamicProperties.clear();
+        displayAlerts.putProperties(DISPLAY_ID, new HashMap<>(), dynamicProperties);
+        Assertions.assertEquals("0", dynamicProperties.get(Constants.MonitoredProperties.ALERTS_TOTAL_COUNT));
+    }
+
+    /**
+     * Create display alert
+     */
+    private static Alert alert(String id, String message, long createdAt) {
+        Alert alert = new Alert();
+        alert.setId(id);
+        alert.setMessage(message);
+        alert.setCreatedAt(new Date(createdAt));
+        return alert;
+    }
+}
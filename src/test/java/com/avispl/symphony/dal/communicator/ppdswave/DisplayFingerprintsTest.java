@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+/**
+ * Display details fingerprints tests
+ */
+@Tag("test")
+public class DisplayFingerprintsTest {
+    private static final int HOT_TIER = 0;
+    private static final int COLD_TIER = 2;
+    private static final String DISPLAY_ID = "display-1";
+    private static final String HANDLE = "customer-1";
+    private static final int CONFIG_FINGERPRINT = 1;
+
+    private final DisplayFingerprints fingerprints = new DisplayFingerprints(3);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void unchangedDisplaySkippedTest() {
+        AggregatedDevice device = new AggregatedDevice();
+        fingerprints.updateTier(DISPLAY_ID, HOT_TIER, 1);
+        fingerprints.updateTier(DISPLAY_ID, COLD_TIER, 2);
+        int fingerprint = fingerprints.fingerprint(DISPLAY_ID, HANDLE, CONFIG_FINGERPRINT);
+        Assertions.assertFalse(fingerprints.isUnchanged(DISPLAY_ID, device, fingerprint), "Display that was never mapped is expected to be mapped");
+
+        fingerprints.markMapped(DISPLAY_ID, device, fingerprint);
+        fingerprints.updateTier(DISPLAY_ID, HOT_TIER, 1);
+        Assertions.assertEquals(fingerprint, fingerprints.fingerprint(DISPLAY_ID, HANDLE, CONFIG_FINGERPRINT));
+        Assertions.assertTrue(fingerprints.isUnchanged(DISPLAY_ID, device, fingerprint));
+        Assertions.assertTrue(fingerprints.isUnchanged(DISPLAY_ID, device, fingerprint));
+        Assertions.assertFalse(fingerprints.isUnchanged(DISPLAY_ID, new AggregatedDevice(), fingerprint),
+                "Display is expected to be mapped again into a different device instance");
+
+        Assertions.assertEquals(2, fingerprints.getHitCount());
+        Assertions.assertEquals(2, fingerprints.getMissCount());
+    }
+
+    @Test
+    public void changedDisplayMappedTest() throws Exception {
+        fingerprints.updateTier(DISPLAY_ID, HOT_TIER, 1);
+        fingerprints.updatePlaylists(HANDLE, objectMapper.readTree("[{\"id\":\"playlist-1\"}]"));
+        int fingerprint = fingerprints.fingerprint(DISPLAY_ID, HANDLE, CONFIG_FINGERPRINT);
+
+        fingerprints.updateTier(DISPLAY_ID, COLD_TIER, 2);
+        int tierChangedFingerprint = fingerprints.fingerprint(DISPLAY_ID, HANDLE, CONFIG_FINGERPRINT);
+        Assertions.assertNotEquals(fingerprint, tierChangedFingerprint);
+
+        fingerprints.updatePlaylists(HANDLE, objectMapper.readTree("[{\"id\":\"playlist-2\"}]"));
+        int playlistsChangedFingerprint = fingerprints.fingerprint(DISPLAY_ID, HANDLE, CONFIG_FINGERPRINT);
+        Assertions.assertNotEquals(tierChangedFingerprint, playlistsChangedFingerprint);
+
+        Assertions.assertNotEquals(playlistsChangedFingerprint, fingerprints.fingerprint(DISPLAY_ID, HANDLE, CONFIG_FINGERPRINT + 1));
+    }
+
+    @Test
+    public void invalidatedDisplayMappedTest() {
+        AggregatedDevice device = new AggregatedDevice();
+        fingerprints.updateTier(DISPLAY_ID, HOT_TIER, 1);
+        int fingerprint = fingerprints.fingerprint(DISPLAY_ID, HANDLE, CONFIG_FINGERPRINT);
+        fingerprints.markMapped(DISPLAY_ID, device, fingerprint);
+        Assertions.assertTrue(fingerprints.isUnchanged(DISPLAY_ID, device, fingerprint));
+
+        fingerprints.invalidate(DISPLAY_ID);
+        Assertions.assertFalse(fingerprints.isUnchanged(DISPLAY_ID, device, fingerprint));
+
+        fingerprints.markMapped(DISPLAY_ID, device, fingerprint);
+        fingerprints.retain(Collections.singletonList("display-2"));
+        Assertions.assertFalse(fingerprints.isUnchanged(DISPLAY_ID, device, fingerprint));
+        Assertions.assertEquals(1, fingerprints.getHitCount());
+        Assertions.assertEquals(2, fingerprints.getMissCount());
+    }
+
+    @Test
+    public void tierAgeThresholdTest() throws Exception {
+        Assertions.assertFalse(fingerprints.isTierOlderThan("display-1", HOT_TIER, 0), "Tier that was never updated is not expected to be stale");
+
+        fingerprints.updateTier("display-1", HOT_TIER, 1);
+        fingerprints.updateTier("display-1", COLD_TIER, 2);
+        Assertions.assertFalse(fingerprints.isTierOlderThan("display-1", HOT_TIER, 1000));
+        Thread.sleep(60);
+        Assertions.assertTrue(fingerprints.isTierOlderThan("display-1", HOT_TIER, 50));
+        Assertions.assertFalse(fingerprints.isTierOlderThan("display-1", HOT_TIER, 1000));
+
+        // updating another tier does not refresh the tier age
+        fingerprints.updateTier("display-1", COLD_TIER, 3);
+        Assertions.assertTrue(fingerprints.isTierOlderThan("display-1", HOT_TIER, 50));
+        Assertions.assertFalse(fingerprints.isTierOlderThan("display-1", COLD_TIER, 50));
+
+        fingerprints.updateTier("display-1", HOT_TIER, 1);
+        Assertions.assertFalse(fingerprints.isTierOlderThan("display-1", HOT_TIER, 50));
+
+        Thread.sleep(60);
+        fingerprints.retain(Collections.emptyList());
+        Assertions.assertFalse(fingerprints.isTierOlderThan("display-1", HOT_TIER, 50));
+    }
+}
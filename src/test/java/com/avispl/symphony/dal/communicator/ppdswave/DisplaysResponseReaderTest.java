@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.dal.communicator.ppdswave.dto.display.Display;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming displays response reader tests
+ */
+@Tag("test")
+public class DisplaysResponseReaderTest {
+    private static final String RESPONSE = "{\"data\":{\"customerByHandle\":{\"playlists\":[{\"id\":\"playlist-1\",\"title\":\"Lobby\"}],"
+            + "\"displays\":[{\"id\":\"display-1\",\"alias\":\"Lobby\",\"brightness\":{\"reported\":40},\"networkInterfaces\":[{\"ip\":\"10.0.0.1\"}]},"
+            + "{\"id\":\"display-2\",\"alias\":\"Hall\",\"brightness\":{\"reported\":%d}}]}},"
+            + "\"errors\":[{\"message\":\"Partial response\"}]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    public void readDisplayTreesTest() throws Exception {
+        List<String> displayIds = new ArrayList<>();
+        List<String> playlistIds = new ArrayList<>();
+        JsonNode errors = new DisplaysResponseReader(objectMapper, displayNode -> displayIds.add(displayNode.get("id").asText()))
+                .withPlaylistsConsumer(playlists -> playlists.forEach(playlist -> playlistIds.add(playlist.get("id").asText())))
+                .read(response(40));
+
+        Assertions.assertEquals(2, displayIds.size());
+        Assertions.assertEquals("display-2", displayIds.get(1));
+        Assertions.assertEquals("playlist-1", playlistIds.get(0));
+        Assertions.assertEquals("Partial response", errors.get(0).get("message").asText());
+    }
+
+    @Test
+    public void bindDisplaysTest() throws Exception {
+        List<Display> displays = new ArrayList<>();
+        List<Integer> hashes = new ArrayList<>();
+        DisplaysResponseReader reader = new DisplaysResponseReader(objectMapper, Display.class, (Display display, int hash) -> {
+            displays.add(display);
+            hashes.add(hash);
+        });
+        reader.read(response(40));
+        reader.read(response(40));
+        reader.read(response(41));
+
+        Assertions.assertEquals("Lobby", displays.get(0).getAlias());
+        Assertions.assertEquals(Integer.valueOf(40), displays.get(1).getBrightness().getReported());
+        Assertions.assertEquals(hashes.get(1), hashes.get(3), "Same display details are expected to have the same hash");
+        Assertions.assertNotEquals(hashes.get(3), hashes.get(5), "Changed display details are expected to change the hash");
+    }
+
+    @Test
+    public void interruptedReadTest() {
+        List<Display> displays = new ArrayList<>();
+        DisplaysResponseReader reader = new DisplaysResponseReader(objectMapper, Display.class, (Display display, int hash) -> displays.add(display));
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThrows(InterruptedIOException.class, () -> reader.read(response(40)));
+            Assertions.assertTrue(displays.isEmpty());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * Create displays response body, with the brightness of the second display provided
+     */
+    private static ByteArrayInputStream response(int brightness) throws IOException {
+        return new ByteArrayInputStream(String.format(RESPONSE, brightness).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Generational device properties map tests
+ */
+@Tag("test")
+public class GenerationalMapTest {
+
+    @Test
+    public void sweepStaleKeysTest() {
+        GenerationalMap properties = GenerationalMap.startGeneration(null);
+        properties.put("Alerts#Alert01_Message", "Display is offline");
+        properties.put("Alerts#Alert02_Message", "Display is overheating");
+        properties.put("Power#State", "ON");
+        Assertions.assertEquals(0, properties.sweep());
+
+        GenerationalMap nextGeneration = GenerationalMap.startGeneration(properties);
+        Assertions.assertSame(properties, nextGeneration);
+        nextGeneration.put("Alerts#Alert01_Message", "Display is overheating");
+        nextGeneration.put("Power#State", "STANDBY");
+        Assertions.assertEquals(1, nextGeneration.sweep());
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("Alerts#Alert01_Message", "Display is overheating");
+        expected.put("Power#State", "STANDBY");
+        Assertions.assertEquals(expected, nextGeneration);
+    }
+
+    @Test
+    public void startGenerationOfPlainMapTest() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("Power#State", "ON");
+
+        GenerationalMap generationalMap = GenerationalMap.startGeneration(properties);
+        Assertions.assertTrue(generationalMap.isEmpty(), "Plain map is expected to be replaced with an empty generational map");
+    }
+
+    @Test
+    public void removedKeyIsNotSweptTest() {
+        GenerationalMap properties = GenerationalMap.startGeneration(null);
+        properties.put("Power#State", "ON");
+        properties.remove("Power#State");
+
+        GenerationalMap.startGeneration(properties);
+        Assertions.assertEquals(0, properties.sweep());
+        Assertions.assertTrue(properties.isEmpty());
+    }
+}
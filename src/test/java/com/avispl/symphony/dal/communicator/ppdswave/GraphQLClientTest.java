@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * GraphQL client hedged requests and timeouts tests
+ */
+@Tag("test")
+public class GraphQLClientTest {
+    private static final String OPERATION = "displays";
+    private static final String REQUEST = "{\"query\":\"query { displays { id } }\"}";
+    private static final long WARM_UP_LATENCY = 100;
+    private static final int WARM_UP_REQUESTS = 20;
+    private static final long TIMEOUT = 5 * 1000;
+
+    private final StubTransport transport = new StubTransport();
+    private final GraphQLClient client = new GraphQLClient(transport, new ObjectMapper(), new RequestRateLimiter(1000),
+            WARM_UP_REQUESTS, true);
+
+    /**
+     * Transport stub, responding to each request with the next response provided, and to the rest with the last one
+     */
+    private static class StubTransport implements GraphQLClient.Transport {
+        private volatile List<GraphQLClient.Transport> responses = new ArrayList<>();
+        private final AtomicInteger requests = new AtomicInteger();
+
+        @Override
+        public JsonNode post(String request) throws Exception {
+            List<GraphQLClient.Transport> currentResponses = responses;
+            return currentResponses.get(Math.min(requests.getAndIncrement(), currentResponses.size() - 1)).post(request);
+        }
+
+        /**
+         * Set responses of the next requests
+         */
+        void respondWith(GraphQLClient.Transport... responses) {
+            requests.set(0);
+            this.responses = Arrays.asList(responses);
+        }
+    }
+
+    @AfterEach
+    public void destroy() {
+        client.shutdown();
+    }
+
+    /**
+     * The hedged request wins over the slow original one, which is cancelled
+     */
+    @Test
+    public void hedgedRequestWinsTest() throws Exception {
+        warmUp();
+        CountDownLatch originalInterrupted = new CountDownLatch(1);
+        transport.respondWith(request -> {
+            try {
+                Thread.sleep(TIMEOUT * 2);
+            } catch (InterruptedException e) {
+                originalInterrupted.countDown();
+                throw e;
+            }
+            return new TextNode("original");
+        }, request -> new TextNode("hedge"));
+
+        JsonNode response = client.queryHedged(OPERATION, REQUEST, GraphQLClient.NO_TIMEOUT).get(TIMEOUT, TimeUnit.MILLISECONDS);
+
+        Assertions.assertEquals("hedge", response.asText());
+        Assertions.assertEquals(1, client.getHedgedRequests());
+        assertEventually(1, client::getHedgedRequestsWon);
+        Assertions.assertTrue(originalInterrupted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * The original request completed before the hedge delay is not hedged
+     */
+    @Test
+    public void fastRequestNotHedgedTest() throws Exception {
+        warmUp();
+        transport.respondWith(request -> new TextNode("original"));
+
+        JsonNode response = client.queryHedged(OPERATION, REQUEST, GraphQLClient.NO_TIMEOUT).get(TIMEOUT, TimeUnit.MILLISECONDS);
+        Thread.sleep(WARM_UP_LATENCY * 2);
+
+        Assertions.assertEquals("original", response.asText());
+        Assertions.assertEquals(0, client.getHedgedRequests());
+        Assertions.assertEquals(1, transport.requests.get());
+    }
+
+    /**
+     * The original request failed before the hedge delay is not hedged, and its error is reported right away
+     */
+    @Test
+    public void failedRequestNotHedgedTest() throws Exception {
+        warmUp();
+        transport.respondWith(request -> {
+            throw new IOException("original failed");
+        });
+
+        CompletableFuture<JsonNode> response = client.queryHedged(OPERATION, REQUEST, GraphQLClient.NO_TIMEOUT);
+        IOException error = Assertions.assertThrows(IOException.class, () -> GraphQLClient.await(response));
+        Thread.sleep(WARM_UP_LATENCY * 2);
+
+        Assertions.assertEquals("original failed", error.getMessage());
+        Assertions.assertEquals(0, client.getHedgedRequests());
+        Assertions.assertEquals(1, transport.requests.get());
+    }
+
+    /**
+     * The first successful response wins, even if the original request has failed before
+     */
+    @Test
+    public void firstSuccessWinsTest() throws Exception {
+        warmUp();
+        CountDownLatch originalFailed = new CountDownLatch(1);
+        CountDownLatch releaseHedge = new CountDownLatch(1);
+        transport.respondWith(slowFailure("original failed", originalFailed), request -> {
+            releaseHedge.await();
+            return new TextNode("hedge");
+        });
+
+        CompletableFuture<JsonNode> response = client.queryHedged(OPERATION, REQUEST, GraphQLClient.NO_TIMEOUT);
+        Assertions.assertTrue(originalFailed.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        Thread.sleep(WARM_UP_LATENCY);
+        Assertions.assertFalse(response.isDone());
+        releaseHedge.countDown();
+
+        Assertions.assertEquals("hedge", response.get(TIMEOUT, TimeUnit.MILLISECONDS).asText());
+        assertEventually(1, client::getHedgedRequestsWon);
+    }
+
+    /**
+     * The first error is reported once both the original and the hedged requests have failed
+     */
+    @Test
+    public void errorReportedAfterAllRequestsFailedTest() throws Exception {
+        warmUp();
+        CountDownLatch originalFailed = new CountDownLatch(1);
+        CountDownLatch releaseHedge = new CountDownLatch(1);
+        transport.respondWith(slowFailure("original failed", originalFailed), request -> {
+            releaseHedge.await();
+            throw new IOException("hedge failed");
+        });
+
+        CompletableFuture<JsonNode> response = client.queryHedged(OPERATION, REQUEST, GraphQLClient.NO_TIMEOUT);
+        Assertions.assertTrue(originalFailed.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        Thread.sleep(WARM_UP_LATENCY);
+        Assertions.assertFalse(response.isDone());
+        releaseHedge.countDown();
+
+        IOException error = Assertions.assertThrows(IOException.class, () -> GraphQLClient.await(response));
+        Assertions.assertEquals("original failed", error.getMessage());
+        Assertions.assertEquals(0, client.getHedgedRequestsWon());
+    }
+
+    /**
+     * Request not completed within the timeout fails with {@link TimeoutException}, and its thread is interrupted
+     */
+    @Test
+    public void requestTimeoutTest() throws Exception {
+        CountDownLatch requestInterrupted = new CountDownLatch(1);
+
+        CompletableFuture<String> response = client.execute(() -> {
+            try {
+                Thread.sleep(TIMEOUT * 2);
+            } catch (InterruptedException e) {
+                requestInterrupted.countDown();
+                throw e;
+            }
+            return "late";
+        }, RequestRateLimiter.Priority.MONITORING, 50);
+
+        Assertions.assertThrows(TimeoutException.class, () -> GraphQLClient.await(response));
+        Assertions.assertTrue(requestInterrupted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertEventually(1, client::getTimedOutRequests);
+    }
+
+    /**
+     * Request with no time left fails right away, without being executed
+     */
+    @Test
+    public void noTimeLeftTest() {
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<Integer> response = client.execute(executions::incrementAndGet, RequestRateLimiter.Priority.MONITORING, 0);
+
+        Assertions.assertTrue(response.isCompletedExceptionally());
+        Assertions.assertThrows(TimeoutException.class, () -> GraphQLClient.await(response));
+        Assertions.assertEquals(0, executions.get());
+        Assertions.assertEquals(1, client.getTimedOutRequests());
+    }
+
+    /**
+     * Hedged request shares the timeout between the original and the hedged requests
+     */
+    @Test
+    public void hedgedRequestTimeoutTest() throws Exception {
+        warmUp();
+        transport.respondWith(request -> {
+            Thread.sleep(TIMEOUT * 2);
+            return new TextNode("late");
+        });
+
+        CompletableFuture<JsonNode> response = client.queryHedged(OPERATION, REQUEST, WARM_UP_LATENCY * 3);
+
+        Assertions.assertThrows(TimeoutException.class, () -> GraphQLClient.await(response));
+        Assertions.assertEquals(1, client.getHedgedRequests());
+        assertEventually(2, client::getTimedOutRequests);
+    }
+
+    /**
+     * Request completed within the timeout is not reported as timed out once the timeout has passed
+     */
+    @Test
+    public void completedRequestNotTimedOutTest() throws Exception {
+        CompletableFuture<String> response = client.execute(() -> "response", RequestRateLimiter.Priority.MONITORING, 50);
+
+        Assertions.assertEquals("response", response.get(TIMEOUT, TimeUnit.MILLISECONDS));
+        Thread.sleep(100);
+        Assertions.assertEquals(0, client.getTimedOutRequests());
+    }
+
+    /**
+     * Requests completing at about the timeout are either completed or timed out, and only the latter are counted
+     */
+    @Test
+    public void timeoutRaceTest() throws Exception {
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            responses.add(client.execute(() -> {
+                Thread.sleep(10);
+                return "response";
+            }, RequestRateLimiter.Priority.MONITORING, 10));
+        }
+
+        int timedOut = 0;
+        for (CompletableFuture<String> response : responses) {
+            try {
+                Assertions.assertEquals("response", response.get(TIMEOUT, TimeUnit.MILLISECONDS));
+            } catch (ExecutionException e) {
+                Assertions.assertTrue(e.getCause() instanceof TimeoutException);
+                timedOut++;
+            }
+        }
+        assertEventually(timedOut, client::getTimedOutRequests);
+    }
+
+    /**
+     * Cancelling the hedged request interrupts the requests still running
+     */
+    @Test
+    public void cancelHedgedRequestTest() throws Exception {
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch requestInterrupted = new CountDownLatch(1);
+        transport.respondWith(request -> {
+            requestStarted.countDown();
+            try {
+                Thread.sleep(TIMEOUT * 2);
+            } catch (InterruptedException e) {
+                requestInterrupted.countDown();
+                throw e;
+            }
+            return new TextNode("late");
+        });
+
+        CompletableFuture<JsonNode> response = client.queryHedged(OPERATION, REQUEST, GraphQLClient.NO_TIMEOUT);
+        Assertions.assertTrue(requestStarted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        response.cancel(true);
+
+        Assertions.assertTrue(requestInterrupted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(0, client.getTimedOutRequests());
+    }
+
+    /**
+     * Record enough latency samples of the operation, for its requests to be hedged after {@link #WARM_UP_LATENCY}
+     */
+    private void warmUp() throws Exception {
+        transport.respondWith(request -> {
+            Thread.sleep(WARM_UP_LATENCY);
+            return new TextNode("warm-up");
+        });
+        List<CompletableFuture<JsonNode>> responses = new ArrayList<>();
+        for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+            responses.add(client.queryHedged(OPERATION, REQUEST, GraphQLClient.NO_TIMEOUT));
+        }
+        for (CompletableFuture<JsonNode> response : responses) {
+            GraphQLClient.await(response);
+        }
+        // latency is recorded once the response is completed
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (client.getLatencyPercentile(OPERATION, GraphQLClient.HEDGE_PERCENTILE) < 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertTrue(client.getLatencyPercentile(OPERATION, GraphQLClient.HEDGE_PERCENTILE) > 0);
+        Assertions.assertEquals(0, client.getHedgedRequests());
+    }
+
+    /**
+     * Wait for the counter, updated once the response is completed, to reach the expected value
+     */
+    private void assertEventually(long expected, LongSupplier counter) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (counter.getAsLong() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(expected, counter.getAsLong());
+    }
+
+    /**
+     * Response failing after the hedged request is sent
+     */
+    private GraphQLClient.Transport slowFailure(String message, CountDownLatch failed) {
+        return request -> {
+            Thread.sleep(WARM_UP_LATENCY * 2);
+            failed.countDown();
+            throw new IOException(message);
+        };
+    }
+}
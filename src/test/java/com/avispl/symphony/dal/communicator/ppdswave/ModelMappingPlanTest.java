@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled model mapping tests, comparing its output with the {@link AggregatedDeviceProcessor} output
+ */
+@Tag("test")
+public class ModelMappingPlanTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ModelMappingPlan mappingPlan;
+    private AggregatedDeviceProcessor deviceProcessor;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Map<String, PropertiesMapping> models = new PropertiesMappingParser().loadYML("mapping/model-mapping.yml", getClass());
+        mappingPlan = new ModelMappingPlan(models.get("Generic"));
+        deviceProcessor = new AggregatedDeviceProcessor(models);
+    }
+
+    @Test
+    public void presentValuesTest() throws Exception {
+        assertSameDevices("{\"displays\":[{\"id\":\"display-1\",\"alias\":\"Lobby\",\"serialNumber\":\"AU01\",\"commercialTypeNumber\":\"65BDL3650Q\","
+                + "\"presence\":{\"connected\":true},\"platform\":{\"type\":\"ANDROID\"}}]}", 1);
+    }
+
+    @Test
+    public void nullValuesTest() throws Exception {
+        assertSameDevices("{\"displays\":[{\"id\":\"display-1\",\"alias\":null,\"serialNumber\":null,\"commercialTypeNumber\":null,"
+                + "\"presence\":{\"connected\":null},\"platform\":null}]}", 1);
+    }
+
+    @Test
+    public void missingValuesTest() throws Exception {
+        assertSameDevices("{\"displays\":[{\"id\":\"display-1\"},{\"alias\":\"Filtered out\"}]}", 1);
+    }
+
+    @Test
+    public void nonTextValuesTest() throws Exception {
+        assertSameDevices("{\"displays\":[{\"id\":\"display-1\",\"alias\":42,\"serialNumber\":true,\"commercialTypeNumber\":650,"
+                + "\"presence\":{\"connected\":\"true\"},\"platform\":{\"type\":{\"name\":\"ANDROID\"}}}]}", 1);
+    }
+
+    @Test
+    public void missingNodeTest() throws Exception {
+        // device processor fails with ClassCastException on a response without the model node
+        Assertions.assertTrue(mappingPlan.extractDevices(objectMapper.readTree("{\"customers\":[]}")).isEmpty());
+        Assertions.assertTrue(mappingPlan.extractDevices(objectMapper.readTree("{\"displays\":null}")).isEmpty());
+    }
+
+    /**
+     * Check that the compiled mapping and the device processor extract the same devices from the json provided
+     */
+    private void assertSameDevices(String json, int devicesCount) throws Exception {
+        JsonNode response = objectMapper.readTree(json);
+        List<AggregatedDevice> expectedDevices = deviceProcessor.extractDevices(response);
+        List<AggregatedDevice> devices = mappingPlan.extractDevices(response);
+
+        Assertions.assertEquals(devicesCount, expectedDevices.size());
+        Assertions.assertEquals(expectedDevices.size(), devices.size());
+        for (int i = 0; i < devices.size(); i++) {
+            AggregatedDevice expected = expectedDevices.get(i);
+            AggregatedDevice device = devices.get(i);
+            Assertions.assertEquals(expected.getDeviceId(), device.getDeviceId());
+            Assertions.assertEquals(expected.getDeviceName(), device.getDeviceName());
+            Assertions.assertEquals(expected.getDeviceMake(), device.getDeviceMake());
+            Assertions.assertEquals(expected.getDeviceModel(), device.getDeviceModel());
+            Assertions.assertEquals(expected.getSerialNumber(), device.getSerialNumber());
+            Assertions.assertEquals(expected.getType(), device.getType());
+            Assertions.assertEquals(expected.getCategory(), device.getCategory());
+            Assertions.assertEquals(expected.getDeviceOnline(), device.getDeviceOnline());
+            Assertions.assertEquals(expected.getProperties(), device.getProperties());
+        }
+    }
+}
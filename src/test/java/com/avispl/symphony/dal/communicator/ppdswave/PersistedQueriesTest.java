@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Persisted queries tests, against a local stand-in GraphQL server
+ */
+@Tag("test")
+public class PersistedQueriesTest {
+    private static final String REQUEST = String.format(Constants.GraphQLRequests.MonitoringRequests.DISPLAYS_METADATA_REQUEST, "example-customer");
+    private static final String DISPLAYS_RESPONSE = "{\"data\":{\"customerByHandle\":{\"displays\":[{\"id\":\"display-1\"},{\"id\":\"display-2\"}]}}}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> receivedRequests = new ArrayList<>();
+    private final Set<String> registeredHashes = new HashSet<>();
+    private HttpServer server;
+    private boolean persistedQueriesSupported;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/graphql", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    public void destroy() {
+        server.stop(0);
+    }
+
+    @Test
+    public void persistedQuerySupportedTest() throws Exception {
+        persistedQueriesSupported = true;
+        PersistedQueries persistedQueries = new PersistedQueries(objectMapper);
+        List<String> displayIds = new ArrayList<>();
+
+        Assertions.assertNull(persistedQueries.execute("DisplaysMetadata", REQUEST, transport(displayIds)));
+        Assertions.assertEquals(2, receivedRequests.size());
+        Assertions.assertFalse(receivedRequests.get(0).has("query"));
+        Assertions.assertTrue(receivedRequests.get(1).has("query"));
+        Assertions.assertEquals(1, persistedQueries.getMissCount());
+
+        Assertions.assertNull(persistedQueries.execute("DisplaysMetadata", REQUEST, transport(displayIds)));
+        Assertions.assertEquals(3, receivedRequests.size());
+        Assertions.assertFalse(receivedRequests.get(2).has("query"));
+        Assertions.assertEquals(1, persistedQueries.getHitCount());
+        Assertions.assertEquals(4, displayIds.size());
+    }
+
+    @Test
+    public void persistedQueryNotSupportedTest() throws Exception {
+        persistedQueriesSupported = false;
+        PersistedQueries persistedQueries = new PersistedQueries(objectMapper);
+        List<String> displayIds = new ArrayList<>();
+
+        Assertions.assertNull(persistedQueries.execute("DisplaysMetadata", REQUEST, transport(displayIds)));
+        Assertions.assertEquals(2, receivedRequests.size());
+        Assertions.assertFalse(receivedRequests.get(0).has("query"));
+        Assertions.assertTrue(receivedRequests.get(1).has("query"));
+
+        Assertions.assertNull(persistedQueries.execute("DisplaysMetadata", REQUEST, transport(displayIds)));
+        Assertions.assertEquals(3, receivedRequests.size());
+        Assertions.assertTrue(receivedRequests.get(2).has("query"));
+        Assertions.assertFalse(receivedRequests.get(2).has("extensions"));
+        Assertions.assertEquals(0, persistedQueries.getHitCount());
+        Assertions.assertEquals(2, persistedQueries.getFullQueryCount());
+        Assertions.assertEquals(4, displayIds.size());
+    }
+
+    /**
+     * Create transport, that posts the request to the stand-in server and streams the displays ids from the response
+     */
+    private PersistedQueries.Transport transport(List<String> displayIds) {
+        DisplaysResponseReader displaysReader = new DisplaysResponseReader(objectMapper, displayNode -> displayIds.add(displayNode.get("id").asText()));
+        return requestBody -> {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + server.getAddress().getPort() + "/graphql").openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                outputStream.write(requestBody);
+            }
+            try (InputStream inputStream = connection.getInputStream()) {
+                return displaysReader.read(inputStream);
+            } finally {
+                connection.disconnect();
+            }
+        };
+    }
+
+    /**
+     * Stand-in GraphQL server: registers and resolves persisted queries when they're supported,
+     * requires the query text otherwise
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        JsonNode request;
+        try (InputStream inputStream = exchange.getRequestBody()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+            request = objectMapper.readTree(body.toByteArray());
+        }
+        receivedRequests.add(request);
+
+        String hash = request.path("extensions").path("persistedQuery").path("sha256Hash").asText(null);
+        String response;
+        if (request.has("query")) {
+            if (hash != null && persistedQueriesSupported) {
+                Assertions.assertEquals(PersistedQueries.sha256(request.get("query").asText()), hash);
+                registeredHashes.add(hash);
+            }
+            response = DISPLAYS_RESPONSE;
+        } else if (!persistedQueriesSupported) {
+            response = "{\"errors\":[{\"message\":\"Must provide query string.\"}]}";
+        } else if (registeredHashes.contains(hash)) {
+            response = DISPLAYS_RESPONSE;
+        } else {
+            response = "{\"errors\":[{\"message\":\"PersistedQueryNotFound\",\"extensions\":{\"code\":\"PERSISTED_QUERY_NOT_FOUND\"}}]}";
+        }
+        byte[] responseBody = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, responseBody.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(responseBody);
+        }
+    }
+}
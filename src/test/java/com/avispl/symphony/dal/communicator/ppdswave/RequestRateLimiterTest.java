@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request rate limiter tests
+ */
+@Tag("test")
+public class RequestRateLimiterTest {
+
+    @Test
+    public void parseRetryAfterTest() {
+        Assertions.assertEquals(3000, RequestRateLimiter.parseRetryAfter("3"));
+        Assertions.assertEquals(1000, RequestRateLimiter.parseRetryAfter(null));
+        Assertions.assertEquals(1000, RequestRateLimiter.parseRetryAfter("soon"));
+        Assertions.assertEquals(5 * 60 * 1000, RequestRateLimiter.parseRetryAfter("3600"));
+
+        String retryAfterDate = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(10));
+        long retryAfter = RequestRateLimiter.parseRetryAfter(retryAfterDate);
+        Assertions.assertTrue(retryAfter > 8000 && retryAfter <= 10000, "Unexpected Retry-After date wait time " + retryAfter);
+    }
+
+    @Test
+    public void throttledResponseTest() throws Exception {
+        RequestRateLimiter rateLimiter = new RequestRateLimiter(10);
+        rateLimiter.onThrottled(300);
+        Assertions.assertEquals(5, rateLimiter.getRate());
+        Assertions.assertEquals(1, rateLimiter.getThrottledResponses());
+
+        long startTimestamp = System.currentTimeMillis();
+        rateLimiter.acquire(RequestRateLimiter.Priority.MONITORING);
+        Assertions.assertTrue(System.currentTimeMillis() - startTimestamp >= 250, "Request is expected to wait for the Retry-After pause");
+
+        rateLimiter.onSuccess();
+        Assertions.assertEquals(5.2, rateLimiter.getRate(), 0.001);
+    }
+
+    @Test
+    public void controlRequestPriorityTest() throws Exception {
+        RequestRateLimiter rateLimiter = new RequestRateLimiter(2);
+        rateLimiter.acquire(RequestRateLimiter.Priority.MONITORING);
+        rateLimiter.acquire(RequestRateLimiter.Priority.MONITORING);
+
+        List<RequestRateLimiter.Priority> acquired = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(2);
+        Thread monitoringRequest = new Thread(() -> acquire(rateLimiter, RequestRateLimiter.Priority.MONITORING, acquired, completed));
+        monitoringRequest.start();
+        while (rateLimiter.getWaitingRequests() == 0) {
+            Thread.sleep(5);
+        }
+        Thread controlRequest = new Thread(() -> acquire(rateLimiter, RequestRateLimiter.Priority.CONTROL, acquired, completed));
+        controlRequest.start();
+
+        Assertions.assertTrue(completed.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(RequestRateLimiter.Priority.CONTROL, acquired.get(0));
+        Assertions.assertEquals(RequestRateLimiter.Priority.MONITORING, acquired.get(1));
+    }
+
+    /**
+     * Take a request token, recording the priority of the request once it's taken
+     */
+    private void acquire(RequestRateLimiter rateLimiter, RequestRateLimiter.Priority priority, List<RequestRateLimiter.Priority> acquired, CountDownLatch completed) {
+        try {
+            rateLimiter.acquire(priority);
+            acquired.add(priority);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.concurrent;
+
+import com.avispl.symphony.dal.communicator.ppdswave.error.PPDSWaveCommandExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Control command batching tests
+ */
+@Tag("test")
+public class ControlCommandBatcherTest {
+    private static final long BATCH_WINDOW = 100;
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    @AfterEach
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void singleCommandNotDelayedTest() throws Exception {
+        ControlCommandBatcher batcher = new ControlCommandBatcher((command, value, deviceIds) -> new HashSet<>(deviceIds), 10 * 1000, executorService);
+        try {
+            long startTimestamp = System.currentTimeMillis();
+            batcher.execute("Video#Brightness", "40", "display-1");
+            batcher.execute("Video#Brightness", "40", "display-2");
+            Assertions.assertTrue(System.currentTimeMillis() - startTimestamp < 5 * 1000, "Command is not expected to wait for the batch window");
+        } finally {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentCommandsBatchedTest() throws Exception {
+        List<List<String>> executedBatches = new CopyOnWriteArrayList<>();
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch firstBatchReleased = new CountDownLatch(1);
+        ControlCommandBatcher batcher = new ControlCommandBatcher((command, value, deviceIds) -> {
+            executedBatches.add(deviceIds);
+            firstBatchStarted.countDown();
+            firstBatchReleased.await();
+            return new HashSet<>(deviceIds);
+        }, BATCH_WINDOW, executorService);
+        try {
+            CompletableFuture<Void> first = batcher.submit("Video#Brightness", "40", Collections.singletonList("display-1")).get("display-1");
+            Assertions.assertTrue(firstBatchStarted.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Void> second = batcher.submit("Video#Brightness", "40", Collections.singletonList("display-2")).get("display-2");
+            CompletableFuture<Void> third = batcher.submit("Video#Brightness", "40", Collections.singletonList("display-3")).get("display-3");
+            CompletableFuture<Void> otherValue = batcher.submit("Video#Brightness", "50", Collections.singletonList("display-4")).get("display-4");
+            firstBatchReleased.countDown();
+            CompletableFuture.allOf(first, second, third, otherValue).get(5, TimeUnit.SECONDS);
+
+            Assertions.assertEquals(3, executedBatches.size());
+            Assertions.assertTrue(executedBatches.containsAll(Arrays.asList(Collections.singletonList("display-1"),
+                    Arrays.asList("display-2", "display-3"), Collections.singletonList("display-4"))));
+        } finally {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    public void partiallyAppliedBatchTest() throws Exception {
+        List<List<String>> executedBatches = new CopyOnWriteArrayList<>();
+        ControlCommandBatcher batcher = new ControlCommandBatcher((command, value, deviceIds) -> {
+            executedBatches.add(deviceIds);
+            return new HashSet<>(Arrays.asList("display-1", "display-3"));
+        }, BATCH_WINDOW, executorService);
+        try {
+            Map<String, CompletableFuture<Void>> results = batcher.submit("System#PortsControl", "LOCKED", Arrays.asList("display-1", "display-2", "display-3"));
+            Assertions.assertEquals(Arrays.asList("display-1", "display-2", "display-3"), new ArrayList<>(results.keySet()));
+
+            ControlCommandBatcher.await(results.get("display-1"));
+            ControlCommandBatcher.await(results.get("display-3"));
+            PPDSWaveCommandExecutionException error = Assertions.assertThrows(PPDSWaveCommandExecutionException.class,
+                    () -> ControlCommandBatcher.await(results.get("display-2")));
+            Assertions.assertTrue(error.getMessage().contains("display-2") && !error.getMessage().contains("display-1"));
+            Assertions.assertEquals(1, executedBatches.size());
+        } finally {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    public void failedBatchTest() {
+        ControlCommandBatcher batcher = new ControlCommandBatcher((command, value, deviceIds) -> {
+            throw new IllegalStateException("Bulk mutation has failed");
+        }, BATCH_WINDOW, executorService);
+        try {
+            IllegalStateException error = Assertions.assertThrows(IllegalStateException.class,
+                    () -> batcher.execute("Power#Reboot", "1", "display-1"));
+            Assertions.assertEquals("Bulk mutation has failed", error.getMessage());
+        } finally {
+            batcher.shutdown();
+        }
+    }
+}
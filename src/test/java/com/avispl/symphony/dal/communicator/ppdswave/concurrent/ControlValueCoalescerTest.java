@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slider control values coalescing tests
+ */
+@Tag("test")
+public class ControlValueCoalescerTest {
+    private static final long DEBOUNCE_WINDOW = 100;
+    private static final String VOLUME = "Audio#Volume";
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private final List<String> failures = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void lastWriteWinsTest() throws Exception {
+        List<String> sentValues = new CopyOnWriteArrayList<>();
+        CountDownLatch sent = new CountDownLatch(2);
+        ControlValueCoalescer coalescer = new ControlValueCoalescer((deviceId, property, value) -> {
+            sentValues.add(deviceId + ":" + value);
+            sent.countDown();
+        }, this::onFailure, DEBOUNCE_WINDOW, executorService);
+        try {
+            coalescer.submit("display-1", VOLUME, "10");
+            coalescer.submit("display-1", VOLUME, "20");
+            coalescer.submit("display-2", VOLUME, "15");
+            coalescer.submit("display-1", VOLUME, "30");
+
+            Assertions.assertTrue(sent.await(5, TimeUnit.SECONDS));
+            Thread.sleep(DEBOUNCE_WINDOW * 2);
+            Assertions.assertEquals(2, sentValues.size());
+            Assertions.assertTrue(sentValues.containsAll(Arrays.asList("display-1:30", "display-2:15")));
+        } finally {
+            coalescer.shutdown();
+        }
+    }
+
+    @Test
+    public void valuesSentInOrderTest() throws Exception {
+        List<String> sentValues = new CopyOnWriteArrayList<>();
+        CountDownLatch firstSendStarted = new CountDownLatch(1);
+        CountDownLatch firstSendReleased = new CountDownLatch(1);
+        CountDownLatch sent = new CountDownLatch(2);
+        ControlValueCoalescer coalescer = new ControlValueCoalescer((deviceId, property, value) -> {
+            sentValues.add(value);
+            firstSendStarted.countDown();
+            firstSendReleased.await();
+            sent.countDown();
+        }, this::onFailure, DEBOUNCE_WINDOW, executorService);
+        try {
+            coalescer.submit("display-1", VOLUME, "10");
+            Assertions.assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+            // values submitted while the previous value is being sent wait for it, and only the latest one is sent
+            coalescer.submit("display-1", VOLUME, "20");
+            coalescer.submit("display-1", VOLUME, "30");
+            Thread.sleep(DEBOUNCE_WINDOW * 2);
+            Assertions.assertEquals(Collections.singletonList("10"), sentValues);
+
+            firstSendReleased.countDown();
+            Assertions.assertTrue(sent.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(Arrays.asList("10", "30"), sentValues);
+        } finally {
+            coalescer.shutdown();
+        }
+    }
+
+    @Test
+    public void valueSentDuringLongDragTest() throws Exception {
+        List<Long> sendTimestamps = new CopyOnWriteArrayList<>();
+        ControlValueCoalescer coalescer = new ControlValueCoalescer((deviceId, property, value) -> sendTimestamps.add(System.currentTimeMillis()),
+                this::onFailure, DEBOUNCE_WINDOW, executorService);
+        try {
+            long dragStart = System.currentTimeMillis();
+            for (int value = 0; value < 25; value++) {
+                coalescer.submit("display-1", VOLUME, String.valueOf(value));
+                Thread.sleep(DEBOUNCE_WINDOW / 3);
+            }
+            long dragEnd = System.currentTimeMillis();
+
+            Assertions.assertFalse(sendTimestamps.isEmpty(), "Value is expected to be sent while the slider is dragged");
+            long firstSendDelay = sendTimestamps.get(0) - dragStart;
+            Assertions.assertTrue(firstSendDelay >= DEBOUNCE_WINDOW * 4 - 20 && sendTimestamps.get(0) < dragEnd,
+                    "Value is expected to be sent once 4 debounce windows are over, but it's sent in " + firstSendDelay + " ms");
+        } finally {
+            coalescer.shutdown();
+        }
+    }
+
+    @Test
+    public void latestValueFailureTest() throws Exception {
+        CountDownLatch firstSendStarted = new CountDownLatch(1);
+        CountDownLatch firstSendReleased = new CountDownLatch(1);
+        CountDownLatch failed = new CountDownLatch(2);
+        ControlValueCoalescer coalescer = new ControlValueCoalescer((deviceId, property, value) -> {
+            firstSendStarted.countDown();
+            firstSendReleased.await();
+            throw new IllegalStateException("Unable to send " + value);
+        }, (deviceId, property, latest, error) -> {
+            onFailure(deviceId, property, latest, error);
+            failed.countDown();
+        }, DEBOUNCE_WINDOW, executorService);
+        try {
+            coalescer.submit("display-1", VOLUME, "10");
+            Assertions.assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+            coalescer.submit("display-1", VOLUME, "20");
+            firstSendReleased.countDown();
+
+            Assertions.assertTrue(failed.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(Arrays.asList("display-1:Unable to send 10:false", "display-1:Unable to send 20:true"), failures);
+        } finally {
+            coalescer.shutdown();
+        }
+    }
+
+    /**
+     * Record the value failure
+     */
+    private void onFailure(String deviceId, String property, boolean latest, Exception error) {
+        failures.add(deviceId + ":" + error.getMessage() + ":" + latest);
+    }
+}
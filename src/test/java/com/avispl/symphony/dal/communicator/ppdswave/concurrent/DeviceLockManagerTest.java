@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-device lock manager tests
+ */
+@Tag("test")
+public class DeviceLockManagerTest {
+    private static final String DEVICE_ID = "display-1";
+    private static final long TIMEOUT = 5 * 1000;
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private final DeviceLockManager lockManager = new DeviceLockManager();
+
+    @AfterEach
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void refreshSkippedWhileControlInProgressTest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> control = holdLock(true, release);
+        waitForAcquiredLocks(1);
+
+        Assertions.assertFalse(lockManager.lockForRefresh(DEVICE_ID, TIMEOUT));
+        Assertions.assertEquals(1, lockManager.getRefreshSkippedCount());
+        Assertions.assertEquals(0, lockManager.getContendedCount(), "Refresh is not expected to wait for the control operation");
+
+        release.countDown();
+        Assertions.assertTrue(control.get(TIMEOUT, TimeUnit.MILLISECONDS));
+        Assertions.assertTrue(lockManager.lockForRefresh(DEVICE_ID, TIMEOUT));
+        lockManager.unlockRefresh(DEVICE_ID);
+    }
+
+    @Test
+    public void controlTakesPriorityOverRefreshTest() throws Exception {
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        Future<Boolean> refresh = holdLock(false, releaseRefresh);
+        waitForAcquiredLocks(1);
+
+        // pending control operation waits for the refresh in progress, and the following refresh is skipped
+        CountDownLatch releaseControl = new CountDownLatch(1);
+        Future<Boolean> control = holdLock(true, releaseControl);
+        while (lockManager.getContendedCount() == 0) {
+            Thread.sleep(5);
+        }
+        Assertions.assertFalse(lockManager.lockForRefresh(DEVICE_ID, TIMEOUT));
+        Assertions.assertEquals(1, lockManager.getRefreshSkippedCount());
+
+        releaseRefresh.countDown();
+        Assertions.assertTrue(refresh.get(TIMEOUT, TimeUnit.MILLISECONDS));
+        releaseControl.countDown();
+        Assertions.assertTrue(control.get(TIMEOUT, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(2, lockManager.getAcquiredCount());
+    }
+
+    @Test
+    public void lockTimeoutTest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> refresh = holdLock(false, release);
+        waitForAcquiredLocks(1);
+
+        Assertions.assertFalse(lockManager.lockForRefresh(DEVICE_ID, 50));
+        Assertions.assertFalse(lockManager.lockForControl(DEVICE_ID, 50));
+        Assertions.assertEquals(2, lockManager.getTimedOutCount());
+        Assertions.assertEquals(2, lockManager.getContendedCount());
+        Assertions.assertTrue(lockManager.getMaxWaitTime() >= 40);
+
+        // timed out control operation is not pending anymore, so the refresh waits for the lock
+        release.countDown();
+        Assertions.assertTrue(refresh.get(TIMEOUT, TimeUnit.MILLISECONDS));
+        Assertions.assertTrue(lockManager.lockForRefresh(DEVICE_ID, TIMEOUT));
+        lockManager.unlockRefresh(DEVICE_ID);
+    }
+
+    @Test
+    public void lockEntriesRemovedTest() throws Exception {
+        Assertions.assertTrue(lockManager.lockForControl(DEVICE_ID, TIMEOUT));
+        Assertions.assertTrue(lockManager.lockForControl("display-2", TIMEOUT));
+        Assertions.assertEquals(2, lockManager.getLockedDevicesCount());
+        lockManager.unlockControl(DEVICE_ID);
+        lockManager.unlockControl("display-2");
+        Assertions.assertEquals(0, lockManager.getLockedDevicesCount());
+
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> control = holdLock(true, release);
+        waitForAcquiredLocks(3);
+        Assertions.assertFalse(lockManager.lockForControl(DEVICE_ID, 20));
+        Assertions.assertFalse(lockManager.lockForRefresh(DEVICE_ID, 20));
+        release.countDown();
+        Assertions.assertTrue(control.get(TIMEOUT, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(0, lockManager.getLockedDevicesCount(), "Lock is expected to be removed once it's not held or awaited");
+
+        // unlocking a device that is not locked by the thread is ignored
+        lockManager.unlockRefresh(DEVICE_ID);
+        Assertions.assertEquals(0, lockManager.getLockedDevicesCount());
+    }
+
+    /**
+     * Lock the device with another thread and hold the lock until released
+     */
+    private Future<Boolean> holdLock(boolean control, CountDownLatch release) {
+        return executorService.submit(() -> {
+            boolean locked = control ? lockManager.lockForControl(DEVICE_ID, TIMEOUT) : lockManager.lockForRefresh(DEVICE_ID, TIMEOUT);
+            if (locked) {
+                release.await();
+                if (control) {
+                    lockManager.unlockControl(DEVICE_ID);
+                } else {
+                    lockManager.unlockRefresh(DEVICE_ID);
+                }
+            }
+            return locked;
+        });
+    }
+
+    /**
+     * Wait for the number of locks provided to be acquired, including the locks acquired by other threads
+     */
+    private void waitForAcquiredLocks(long count) throws InterruptedException {
+        while (lockManager.getAcquiredCount() < count) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.ppdswave.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel task executor tests
+ */
+@Tag("test")
+public class ParallelTaskExecutorTest {
+    private static final int PARALLELISM = 2;
+    private static final long TASK_DURATION = 80;
+    private static final long TIMEOUT = 5 * 1000;
+
+    private final ScheduledExecutorService taskScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ParallelTaskExecutor taskExecutor = new ParallelTaskExecutor(PARALLELISM);
+    private final Map<String, Exception> failures = new ConcurrentHashMap<>();
+
+    @AfterEach
+    public void destroy() {
+        taskExecutor.shutdown();
+        taskScheduler.shutdownNow();
+    }
+
+    /**
+     * No more than {@link #PARALLELISM} tasks are in progress at the same time, and all the results are reported in the order of the keys
+     */
+    @Test
+    public void boundedFanOutTest() throws Exception {
+        List<String> keys = Arrays.asList("customer-1", "customer-2", "customer-3", "customer-4", "customer-5", "customer-6");
+        AtomicInteger runningTasks = new AtomicInteger();
+        AtomicInteger maxRunningTasks = new AtomicInteger();
+
+        Map<String, String> results = taskExecutor.executeAll(keys, TIMEOUT, key -> {
+            maxRunningTasks.accumulateAndGet(runningTasks.incrementAndGet(), Math::max);
+            CompletableFuture<String> result = new CompletableFuture<>();
+            taskScheduler.schedule(() -> {
+                runningTasks.decrementAndGet();
+                result.complete(key.toUpperCase());
+            }, TASK_DURATION, TimeUnit.MILLISECONDS);
+            return result;
+        }, failures::put).get(TIMEOUT, TimeUnit.MILLISECONDS);
+
+        Assertions.assertEquals(PARALLELISM, maxRunningTasks.get());
+        Assertions.assertEquals(keys, new ArrayList<>(results.keySet()));
+        Assertions.assertEquals("CUSTOMER-6", results.get("customer-6"));
+        Assertions.assertTrue(failures.isEmpty());
+    }
+
+    /**
+     * Task deadline is counted from the moment the task is started, and the task not finished by then is cancelled
+     */
+    @Test
+    public void taskDeadlineTest() throws Exception {
+        CompletableFuture<String> slowTask = new CompletableFuture<>();
+        List<String> keys = Arrays.asList("customer-1", "customer-2", "customer-3", "slow-customer");
+
+        Map<String, String> results = taskExecutor.executeAll(keys, TASK_DURATION * 3 / 2, key -> {
+            if (key.equals("slow-customer")) {
+                return slowTask;
+            }
+            CompletableFuture<String> result = new CompletableFuture<>();
+            taskScheduler.schedule(() -> result.complete(key), TASK_DURATION, TimeUnit.MILLISECONDS);
+            return result;
+        }, failures::put).get(TIMEOUT, TimeUnit.MILLISECONDS);
+
+        // customer-3 finishes 2 * TASK_DURATION after the call, but TASK_DURATION after it is started
+        Assertions.assertEquals(Arrays.asList("customer-1", "customer-2", "customer-3"), new ArrayList<>(results.keySet()));
+        Assertions.assertEquals(1, failures.size());
+        Assertions.assertTrue(failures.get("slow-customer") instanceof TimeoutException);
+        Assertions.assertTrue(slowTask.isCancelled());
+    }
+
+    /**
+     * Failed task, or task that could not be started, does not affect the other tasks
+     */
+    @Test
+    public void failureIsolationTest() throws Exception {
+        List<String> keys = Arrays.asList("not-started", "failed", "customer-1", "customer-2");
+
+        Map<String, String> results = taskExecutor.executeAll(keys, TIMEOUT, key -> {
+            if (key.equals("not-started")) {
+                throw new IllegalStateException("Unable to start the task");
+            }
+            CompletableFuture<String> result = new CompletableFuture<>();
+            if (key.equals("failed")) {
+                result.completeExceptionally(new IOException("Unable to retrieve displays"));
+            } else {
+                result.complete(key);
+            }
+            return result;
+        }, failures::put).get(TIMEOUT, TimeUnit.MILLISECONDS);
+
+        Assertions.assertEquals(Arrays.asList("customer-1", "customer-2"), new ArrayList<>(results.keySet()));
+        Assertions.assertTrue(failures.get("not-started") instanceof IllegalStateException);
+        Assertions.assertTrue(failures.get("failed") instanceof IOException);
+    }
+
+    /**
+     * Cancelling the results cancels the running tasks, and the pending ones are not started
+     */
+    @Test
+    public void cancelTest() throws Exception {
+        List<String> keys = Arrays.asList("customer-1", "customer-2", "customer-3");
+        List<CompletableFuture<String>> startedTasks = new CopyOnWriteArrayList<>();
+        CountDownLatch tasksStarted = new CountDownLatch(PARALLELISM);
+
+        CompletableFuture<Map<String, String>> results = taskExecutor.executeAll(keys, TIMEOUT, key -> {
+            CompletableFuture<String> result = new CompletableFuture<>();
+            startedTasks.add(result);
+            tasksStarted.countDown();
+            return result;
+        }, failures::put);
+        Assertions.assertTrue(tasksStarted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        results.cancel(true);
+        Thread.sleep(TASK_DURATION);
+
+        Assertions.assertEquals(PARALLELISM, startedTasks.size());
+        startedTasks.forEach(task -> Assertions.assertTrue(task.isCancelled()));
+    }
+}